@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+// Writes a maximum-compression .gz sibling next to every compressible file of the
+// built studio bundle, so the resource chain can serve it without compressing at runtime.
+// Siblings that would not be smaller than the original are skipped.
+//
+// Usage: node gzip-ui-bundle.cjs <dist-directory>
+
+'use strict';
+
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const COMPRESSIBLE = new Set([
+    '.js', '.mjs', '.css', '.html', '.json', '.map', '.svg', '.txt', '.ico', '.webmanifest'
+]);
+
+function walk(directory, visit) {
+    for (const entry of fs.readdirSync(directory, { withFileTypes: true })) {
+        const file = path.join(directory, entry.name);
+        if (entry.isDirectory()) {
+            walk(file, visit);
+        } else if (entry.isFile()) {
+            visit(file);
+        }
+    }
+}
+
+const root = process.argv[2];
+if (!root || !fs.existsSync(root)) {
+    console.error(`Retreever UI bundle not found: ${root}`);
+    process.exit(1);
+}
+
+let written = 0;
+walk(root, (file) => {
+    if (!COMPRESSIBLE.has(path.extname(file).toLowerCase())) {
+        return;
+    }
+    const body = fs.readFileSync(file);
+    const gzipped = zlib.gzipSync(body, { level: zlib.constants.Z_BEST_COMPRESSION });
+    if (gzipped.length < body.length) {
+        fs.writeFileSync(file + '.gz', gzipped);
+        written++;
+    }
+});
+
+console.log(`Pre-compressed ${written} Retreever UI file(s) in ${root}`);
@@ -8,17 +8,41 @@
 
 package dev.retreever.api;
 
+import dev.retreever.config.RetreeverBuildProperties;
 import dev.retreever.config.TestEnvironmentDocumentResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.engine.ApiDocumentCatalog;
+import dev.retreever.engine.ApiDocumentHashes;
+import dev.retreever.engine.BuildProgress;
+import dev.retreever.json.RetreeverBinaryFormat;
+import dev.retreever.search.ApiSearchIndex;
+import dev.retreever.view.ApiDocumentPayload;
 import dev.retreever.view.dto.ApiDocument;
+import dev.retreever.view.dto.ApiDocumentChanges;
+import dev.retreever.view.dto.ApiDocumentIndex;
+import dev.retreever.view.dto.ApiDocumentVersion;
+import dev.retreever.view.dto.ApiSchemaUsage;
+import dev.retreever.view.dto.ApiSearchResult;
 import dev.retreever.view.dto.TestEnvironmentDocument;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Exposes Retreever's API documentation via HTTP endpoints.
@@ -29,25 +53,41 @@ public class RetreeverController {
 
     private final RetreeverBootstrap bootstrap;
     private final TestEnvironmentDocumentResolver environmentDocumentResolver;
+    private final boolean rebuildEndpoint;
 
     public RetreeverController(
             RetreeverBootstrap bootstrap,
-            TestEnvironmentDocumentResolver environmentDocumentResolver) {
+            TestEnvironmentDocumentResolver environmentDocumentResolver,
+            RetreeverBuildProperties buildProperties) {
         this.bootstrap = bootstrap;
         this.environmentDocumentResolver = environmentDocumentResolver;
+        this.rebuildEndpoint = buildProperties.isRebuildEndpoint();
     }
 
     /**
      * Simple health/ping endpoint for checking tool availability.
+     * While the first build is still running, reports {@code BUILDING} with its stage
+     * and percentage.
      *
      * @return basic status and uptime info
      */
     @GetMapping("/ping")
     public ResponseEntity<Map<String, Object>> ping() {
+        BuildProgress progress = bootstrap.getBuildProgress();
+        if (!bootstrap.isAvailable() && progress != null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of(
+                            "status", "BUILDING",
+                            "stage", progress.getStage().id(),
+                            "progress", progress.getPercent()
+                    ));
+        }
+
         if (!bootstrap.isAvailable()) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
                     "status", "UNAVAILABLE",
-                    "message", "Retreever failed during startup. Check the application logs for the full stack trace."
+                    "message", RetreeverBootstrap.STARTUP_FAILURE_MESSAGE
             ));
         }
 
@@ -59,17 +99,220 @@ public class RetreeverController {
     }
 
     /**
-     * Returns the full API documentation snapshot.
+     * Returns the full API documentation snapshot, pre-serialized at startup.
+     * Clients revalidate with {@code If-None-Match} and receive 304 while the document is unchanged.
+     * When pre-compressed variants exist, the variant is chosen from {@code Accept-Encoding}.
+     * When binary formats are enabled, clients that list one in {@code Accept} at least as
+     * high as JSON receive that encoding instead.
      *
-     * @return the assembled API document
+     * @param ifNoneMatch    entity tags the client already holds
+     * @param acceptEncoding content codings the client accepts
+     * @param accept         media types the client accepts
+     * @return the serialized API document, or 304 if the client copy is current
      */
     @GetMapping("/doc")
-    public ResponseEntity<ApiDocument> getDoc() {
-        if (!bootstrap.isAvailable()) {
+    public ResponseEntity<byte[]> getDoc(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        List<RetreeverBinaryFormat> binaryFormats = bootstrap.getBinaryFormats();
+        RetreeverBinaryFormat binaryFormat = selectBinaryFormat(accept, binaryFormats);
+        ApiDocumentPayload payload = binaryFormat != null ? bootstrap.getPayload(binaryFormat) : bootstrap.getPayload();
+        if (!bootstrap.isAvailable() || payload == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        ApiDocumentPayload.Variant variant = payload.select(acceptEncoding);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(variant.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        List<String> vary = new ArrayList<>(2);
+        if (!binaryFormats.isEmpty()) {
+            vary.add(HttpHeaders.ACCEPT);
+        }
+        if (payload.isCompressed()) {
+            vary.add(HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (!vary.isEmpty()) {
+            headers.setVary(vary);
+        }
+
+        if (variant.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(binaryFormat != null
+                ? MediaType.parseMediaType(binaryFormat.mediaType())
+                : MediaType.APPLICATION_JSON);
+        headers.setContentLength(variant.body().length);
+        if (!variant.isIdentity()) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        }
+        return ResponseEntity.ok().headers(headers).body(variant.body());
+    }
+
+    /**
+     * Returns the outline of the documentation: groups and endpoints with their ids,
+     * without any schemas.
+     */
+    @GetMapping("/doc/index")
+    public ResponseEntity<ApiDocumentIndex> getDocIndex() {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok(catalog.index());
+    }
+
+    /**
+     * Returns one fully rendered group, rendering it on first request.
+     */
+    @GetMapping("/doc/groups/{id}")
+    public ResponseEntity<ApiDocument.ApiGroup> getDocGroup(@PathVariable("id") String id) {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        ApiDocument.ApiGroup group = catalog.group(id);
+        return group != null ? ResponseEntity.ok(group) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Returns one fully rendered endpoint, rendering it on first request.
+     */
+    @GetMapping("/doc/endpoints/{id}")
+    public ResponseEntity<ApiDocument.Endpoint> getDocEndpoint(@PathVariable("id") String id) {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        ApiDocument.Endpoint endpoint = catalog.endpoint(id);
+        return endpoint != null ? ResponseEntity.ok(endpoint) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Returns a schema subtree that was replaced by an {@code $expand} stub because it
+     * exceeded the render budget. Subtrees nested deeper may be stubbed again.
+     */
+    @GetMapping("/doc/expand/{token}")
+    public ResponseEntity<Map<String, Object>> getDocExpansion(@PathVariable("token") String token) {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        Map<String, Object> expansion = catalog.expand(token);
+        return expansion != null ? ResponseEntity.ok(expansion) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Returns the content version of the documentation and the hash of every group.
+     */
+    @GetMapping("/doc/version")
+    public ResponseEntity<ApiDocumentVersion> getDocVersion() {
+        ApiDocumentHashes hashes = bootstrap.getHashes();
+        if (hashes == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok(hashes.toVersion());
+    }
+
+    /**
+     * Returns the groups added, changed or removed since the version the client holds.
+     * An empty body returns every group as added.
+     */
+    @PostMapping(path = "/doc/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiDocumentChanges> getDocChanges(
+            @RequestBody(required = false) ApiDocumentChanges.Since since) {
+        ApiDocumentHashes hashes = bootstrap.getHashes();
+        if (hashes == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(hashes.changesSince(since));
+    }
+
+    /**
+     * Returns the endpoints and errors whose schemas contain a DTO class, looked up by
+     * binary, canonical or simple class name.
+     */
+    @GetMapping("/doc/usages")
+    public ResponseEntity<ApiSchemaUsage> getDocUsages(@RequestParam("type") String type) {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
         }
 
-        return ResponseEntity.ok(bootstrap.getDocument());
+        ApiSchemaUsage usage = catalog.usageIndex().lookup(type);
+        return usage != null ? ResponseEntity.ok(usage) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Searches endpoint names, paths, methods, groups, parameters, schema properties,
+     * descriptions and error codes. Every word of the query must match the start of a
+     * term; results are ranked by where they matched.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiSearchResult> search(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "limit", defaultValue = "" + ApiSearchIndex.DEFAULT_LIMIT) int limit) {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        if (catalog == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(catalog.searchIndex().search(query == null ? "" : query, limit));
+    }
+
+    /**
+     * Rebuilds the documentation, if {@code retreever.build.rebuild-endpoint} is set.
+     * The current document is served until the new one is complete. Answers {@code 202}
+     * while an async build is still running, {@code 500} if the rebuild failed and the
+     * previous document is still served, otherwise the state after the build.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        if (!rebuildEndpoint) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CompletableFuture<Void> build;
+        try {
+            build = bootstrap.rebuild();
+        } catch (IllegalStateException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("status", "STARTING"));
+        }
+
+        if (!build.isDone()) {
+            return ResponseEntity.accepted().body(Map.of("status", "BUILDING"));
+        }
+        if (!bootstrap.isAvailable()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of(
+                    "status", "UNAVAILABLE",
+                    "message", RetreeverBootstrap.STARTUP_FAILURE_MESSAGE
+            ));
+        }
+        if (bootstrap.getRebuildFailure() != null) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                    "status", "FAILED",
+                    "message", RetreeverBootstrap.REBUILD_FAILURE_MESSAGE,
+                    "uptime", bootstrap.getUptime()
+            ));
+        }
+        return ResponseEntity.ok(Map.of(
+                "status", "OK",
+                "uptime", bootstrap.getUptime()
+        ));
     }
 
     @GetMapping("/environment")
@@ -77,4 +320,41 @@ public class RetreeverController {
         return ResponseEntity.ok(environmentDocumentResolver.resolve());
     }
 
+    /**
+     * Picks the enabled binary format the client prefers, or {@code null} for JSON.
+     * Binary formats must be named explicitly; wildcards only ever select JSON.
+     */
+    private static RetreeverBinaryFormat selectBinaryFormat(String accept, List<RetreeverBinaryFormat> formats) {
+        if (formats.isEmpty() || accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException ex) {
+            return null;
+        }
+
+        double jsonQuality = 0;
+        for (MediaType mediaType : accepted) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                jsonQuality = Math.max(jsonQuality, mediaType.getQualityValue());
+            }
+        }
+
+        RetreeverBinaryFormat best = null;
+        double bestQuality = 0;
+        for (RetreeverBinaryFormat format : formats) {
+            MediaType formatType = MediaType.parseMediaType(format.mediaType());
+            for (MediaType mediaType : accepted) {
+                double quality = mediaType.getQualityValue();
+                if (mediaType.equalsTypeAndSubtype(formatType) && quality > bestQuality && quality >= jsonQuality) {
+                    best = format;
+                    bestQuality = quality;
+                }
+            }
+        }
+        return best;
+    }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.api;
+
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.boot.RetreeverDocumentEvent;
+import dev.retreever.config.RetreeverEventsProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open {@code /retreever/events} streams and the documentation events pushed to them.
+ * <p>
+ * Streams are asynchronous, so no servlet thread is held while they are open. Each
+ * stream has its own queue of outgoing messages, written by at most one pooled daemon
+ * thread at a time, so a slow client only ever holds up its own stream. A single
+ * scheduler thread queues heartbeats and evicts streams; it never writes itself. The
+ * number of streams is capped, and streams are dropped when a write fails, when a write
+ * is still blocked after one heartbeat period, when too many messages are waiting, or
+ * when no documentation event was sent for the idle timeout, so the client reconnects.
+ */
+@Component
+public class RetreeverEventRegistry implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverEventRegistry.class);
+
+    private static final int MAX_PENDING = 32;
+
+    private final RetreeverBootstrap bootstrap;
+    private final long heartbeatMillis;
+    private final long idleTimeoutMillis;
+    private final int maxConnections;
+
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger slots = new AtomicInteger();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService writers;
+
+    public RetreeverEventRegistry(RetreeverBootstrap bootstrap, RetreeverEventsProperties properties) {
+        this.bootstrap = bootstrap;
+        this.heartbeatMillis = properties.getHeartbeat().toMillis();
+        this.idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        this.maxConnections = properties.getMaxConnections();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(daemon("retreever-events"));
+        this.writers = Executors.newCachedThreadPool(daemon("retreever-events-writer"));
+        this.scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream and queues the current documentation state on it.
+     *
+     * @return the stream, or {@code null} if the connection limit is reached
+     */
+    public SseEmitter open() {
+        if (slots.incrementAndGet() > maxConnections) {
+            slots.decrementAndGet();
+            return null;
+        }
+
+        // The emitter timeout only backs up idle eviction when the scheduler falls behind.
+        SseEmitter emitter = new SseEmitter(idleTimeoutMillis + heartbeatMillis);
+        Connection connection = new Connection(emitter);
+        connections.add(connection);
+        emitter.onCompletion(() -> release(connection));
+        emitter.onTimeout(() -> release(connection));
+        emitter.onError(ex -> release(connection));
+
+        RetreeverDocumentEvent current = currentState();
+        if (current != null) {
+            enqueue(connection, message(current), true);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onDocumentEvent(RetreeverDocumentEvent event) {
+        SseEmitter.SseEventBuilder message = message(event);
+        connections.forEach(connection -> enqueue(connection, message, true));
+    }
+
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        writers.shutdownNow();
+        connections.forEach(connection -> connection.emitter.complete());
+        connections.clear();
+    }
+
+    private RetreeverDocumentEvent currentState() {
+        if (bootstrap.isAvailable()) {
+            return RetreeverDocumentEvent.built(false, bootstrap.getUptime());
+        } else if (bootstrap.getStartupFailure() != null) {
+            return RetreeverDocumentEvent.failed(RetreeverBootstrap.STARTUP_FAILURE_MESSAGE);
+        }
+        return null;
+    }
+
+    private static SseEmitter.SseEventBuilder message(RetreeverDocumentEvent event) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        if (event.type() == RetreeverDocumentEvent.Type.FAILED) {
+            data.put("status", event.upTime() == null ? "UNAVAILABLE" : "FAILED");
+            data.put("message", event.message());
+            if (event.upTime() != null) {
+                data.put("up_time", event.upTime());
+            }
+        } else {
+            data.put("status", "OK");
+            data.put("up_time", event.upTime());
+        }
+
+        return SseEmitter.event()
+                .name(event.type().name().toLowerCase(Locale.ROOT))
+                .data(data, MediaType.APPLICATION_JSON);
+    }
+
+    private void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Connection connection : connections) {
+            long writeStarted = connection.writeStarted;
+            if (writeStarted != 0 && now - writeStarted >= heartbeatMillis) {
+                log.debug("Dropping Retreever event stream blocked on a write.");
+                evict(connection);
+            } else if (now - connection.lastEvent >= idleTimeoutMillis) {
+                evict(connection);
+            } else {
+                enqueue(connection, SseEmitter.event().comment("heartbeat"), false);
+            }
+        }
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder message, boolean documentEvent) {
+        if (connection.closed || !connections.contains(connection)) {
+            return;
+        }
+        if (connection.pendingCount.incrementAndGet() > MAX_PENDING) {
+            log.debug("Dropping Retreever event stream that is not keeping up.");
+            evict(connection);
+            return;
+        }
+        connection.pending.add(new Outgoing(message, documentEvent));
+        schedule(connection);
+    }
+
+    /**
+     * Starts a writer for the connection unless one is already running. The writer
+     * drains the queue and, once the connection is closed, completes the emitter.
+     */
+    private void schedule(Connection connection) {
+        if (!connection.writing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            writers.execute(() -> drain(connection));
+        } catch (RejectedExecutionException ex) {
+            connection.writing.set(false);
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            Outgoing next;
+            while (!connection.closed && (next = connection.pending.poll()) != null) {
+                connection.pendingCount.decrementAndGet();
+                connection.writeStarted = System.currentTimeMillis();
+                boolean written = write(connection, next.message());
+                connection.writeStarted = 0;
+                if (written && next.documentEvent()) {
+                    connection.lastEvent = System.currentTimeMillis();
+                }
+            }
+            if (connection.closed && connection.completed.compareAndSet(false, true)) {
+                connection.emitter.complete();
+            }
+        } finally {
+            connection.writing.set(false);
+        }
+        if (!connection.closed && !connection.pending.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    private boolean write(Connection connection, SseEmitter.SseEventBuilder message) {
+        try {
+            connection.emitter.send(message);
+            return true;
+        } catch (IOException | IllegalStateException ex) {
+            log.debug("Dropping Retreever event stream after failed write.", ex);
+            connection.closed = true;
+            release(connection);
+            if (connection.completed.compareAndSet(false, true)) {
+                connection.emitter.completeWithError(ex);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Frees the slot right away and leaves completing the emitter to the connection's
+     * writer, so the scheduler never waits on a blocked socket.
+     */
+    private void evict(Connection connection) {
+        connection.closed = true;
+        release(connection);
+        schedule(connection);
+    }
+
+    private void release(Connection connection) {
+        if (connections.remove(connection)) {
+            slots.decrementAndGet();
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return task -> {
+            Thread thread = new Thread(task, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Outgoing(SseEmitter.SseEventBuilder message, boolean documentEvent) {
+    }
+
+    private static final class Connection {
+
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile long lastEvent = System.currentTimeMillis();
+        private volatile long writeStarted;
+        private volatile boolean closed;
+
+        private Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
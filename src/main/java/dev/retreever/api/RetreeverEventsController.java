@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.api;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes documentation build outcomes to the studio over Server-Sent Events,
+ * so it does not have to poll {@code /retreever/ping}.
+ */
+@RestController
+@RequestMapping("/retreever")
+public class RetreeverEventsController {
+
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final RetreeverEventRegistry registry;
+
+    public RetreeverEventsController(RetreeverEventRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Opens an event stream. The current state is sent right away as {@code ready} or
+     * {@code failed}; later builds arrive as {@code rebuilt} or {@code failed}.
+     *
+     * @return the event stream, or 503 when the connection limit is reached
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events() {
+        SseEmitter emitter = registry.open();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+}
@@ -2,7 +2,9 @@ package dev.retreever.api;
 
 import dev.retreever.auth.RetreeverAuthSupport;
 import dev.retreever.boot.RetreeverBasePathResolver;
+import dev.retreever.support.Sha256;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
@@ -13,7 +15,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.util.StreamUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Controller
 public class RetreeverUIController {
@@ -25,13 +32,36 @@ public class RetreeverUIController {
               window.__RETREEVER_CONTEXT_PATH__ = "%s";
             </script>
             """;
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    // The context path comes partly from X-Forwarded-Prefix, so the number of cached shells is capped.
+    static final int MAX_CACHED_SHELLS = 32;
 
     private final RetreeverBasePathResolver basePathResolver;
+    private final Resource index;
+    private final Map<String, Shell> shells = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Shell> eldest) {
+            return size() > MAX_CACHED_SHELLS;
+        }
+    };
+    private volatile ShellTemplate template;
 
+    @Autowired
     public RetreeverUIController(RetreeverBasePathResolver basePathResolver) {
+        this(basePathResolver, new ClassPathResource(RETREEVER_INDEX_LOCATION));
+    }
+
+    RetreeverUIController(RetreeverBasePathResolver basePathResolver, Resource index) {
         this.basePathResolver = basePathResolver;
+        this.index = index;
     }
 
+    /**
+     * Serves the studio app shell. The packaged {@code index.html} is parsed once, and the
+     * shell rendered for each resolved context path is cached with a strong {@code ETag},
+     * so revalidating clients receive 304.
+     */
     @GetMapping({
             RetreeverAuthSupport.RETREEVER_BASE_PATH,
             RetreeverAuthSupport.RETREEVER_BASE_PATH + "/",
@@ -40,28 +70,133 @@ public class RetreeverUIController {
             RetreeverAuthSupport.RETREEVER_BASE_PATH + "/workspace",
             RetreeverAuthSupport.RETREEVER_BASE_PATH + "/device-requirements"
     })
-    public ResponseEntity<String> appShell(HttpServletRequest request) throws IOException {
-        Resource resource = new ClassPathResource(RETREEVER_INDEX_LOCATION);
-        if (!resource.exists()) {
+    public ResponseEntity<byte[]> appShell(HttpServletRequest request) throws IOException {
+        ShellTemplate current = loadTemplate();
+        if (current == null) {
             return ResponseEntity.notFound().build();
         }
 
-        String uiPath = basePathResolver.resolveRetreeverUiPath(request);
-        String contextPath = escapeForJavaScript(basePathResolver.resolveContextPath(request));
-        String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8)
-                .replace(RetreeverAuthSupport.RETREEVER_BASE_PATH, uiPath)
-                .replace(ROOT_DIV_MARKER, ROOT_DIV_MARKER + "\n" + CONTEXT_PATH_BOOTSTRAP_TEMPLATE.formatted(contextPath));
+        Shell shell = shell(
+                current,
+                basePathResolver.resolveContextPath(request),
+                basePathResolver.resolveRetreeverUiPath(request)
+        );
 
         return ResponseEntity.ok()
                 .cacheControl(CacheControl.noCache())
+                .eTag(shell.etag())
                 .header("Vary", RetreeverBasePathResolver.FORWARDED_PREFIX_HEADER)
-                .contentType(MediaType.TEXT_HTML)
-                .body(content);
+                .contentType(TEXT_HTML_UTF8)
+                .body(shell.body());
     }
 
-    private String escapeForJavaScript(String value) {
+    int cachedShellCount() {
+        synchronized (shells) {
+            return shells.size();
+        }
+    }
+
+    private ShellTemplate loadTemplate() throws IOException {
+        ShellTemplate current = template;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (template == null && index.exists()) {
+                try (InputStream in = index.getInputStream()) {
+                    template = ShellTemplate.parse(StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+                }
+            }
+            return template;
+        }
+    }
+
+    /**
+     * The UI path is derived from the context path, so the context path alone keys the cache.
+     */
+    private Shell shell(ShellTemplate current, String contextPath, String uiPath) {
+        synchronized (shells) {
+            Shell shell = shells.get(contextPath);
+            if (shell == null) {
+                shell = Shell.of(current.render(uiPath, contextPath));
+                shells.put(contextPath, shell);
+            }
+            return shell;
+        }
+    }
+
+    private static String escapeForJavaScript(String value) {
         return value
                 .replace("\\", "\\\\")
                 .replace("\"", "\\\"");
     }
+
+    /**
+     * {@code index.html} split into literal text and the places where the UI path and the
+     * context path bootstrap script are inserted.
+     */
+    private static final class ShellTemplate {
+
+        private final List<String> literals;
+        private final List<Slot> slots;
+        private final int length;
+
+        private ShellTemplate(List<String> literals, List<Slot> slots, int length) {
+            this.literals = literals;
+            this.slots = slots;
+            this.length = length;
+        }
+
+        private static ShellTemplate parse(String html) {
+            List<String> literals = new ArrayList<>();
+            List<Slot> slots = new ArrayList<>();
+
+            int start = 0;
+            while (true) {
+                int basePath = html.indexOf(RetreeverAuthSupport.RETREEVER_BASE_PATH, start);
+                int rootDiv = html.indexOf(ROOT_DIV_MARKER, start);
+                if (basePath < 0 && rootDiv < 0) {
+                    break;
+                }
+
+                if (rootDiv < 0 || (basePath >= 0 && basePath < rootDiv)) {
+                    literals.add(html.substring(start, basePath));
+                    slots.add(Slot.UI_PATH);
+                    start = basePath + RetreeverAuthSupport.RETREEVER_BASE_PATH.length();
+                } else {
+                    literals.add(html.substring(start, rootDiv + ROOT_DIV_MARKER.length()));
+                    slots.add(Slot.CONTEXT_PATH_SCRIPT);
+                    start = rootDiv + ROOT_DIV_MARKER.length();
+                }
+            }
+            literals.add(html.substring(start));
+
+            return new ShellTemplate(List.copyOf(literals), List.copyOf(slots), html.length());
+        }
+
+        private String render(String uiPath, String contextPath) {
+            String script = "\n" + CONTEXT_PATH_BOOTSTRAP_TEMPLATE.formatted(escapeForJavaScript(contextPath));
+
+            StringBuilder out = new StringBuilder(length + slots.size() * uiPath.length() + script.length());
+            for (int i = 0; i < slots.size(); i++) {
+                out.append(literals.get(i));
+                out.append(slots.get(i) == Slot.UI_PATH ? uiPath : script);
+            }
+            return out.append(literals.get(slots.size())).toString();
+        }
+    }
+
+    private enum Slot {
+        UI_PATH,
+        CONTEXT_PATH_SCRIPT
+    }
+
+    private record Shell(byte[] body, String etag) {
+
+        private static Shell of(String html) {
+            byte[] body = html.getBytes(StandardCharsets.UTF_8);
+            return new Shell(body, "\"" + Sha256.hex(body) + "\"");
+        }
+    }
 }
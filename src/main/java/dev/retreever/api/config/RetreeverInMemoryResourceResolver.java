@@ -0,0 +1,190 @@
+package dev.retreever.api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps the content of resolved studio resources on the heap, so repeated requests are
+ * served without touching the jar.
+ * <p>
+ * Unlike Spring's {@code CachingResourceResolver}, which caches resource handles, this
+ * resolver copies the bytes, file name, last-modified time and any encoding headers of the
+ * resolved resource. Entries are keyed by request path and by whether the client accepts
+ * gzip, matching the {@code EncodedResourceResolver} placed behind it. The cache is bounded
+ * by total size and evicts the least recently used entries first; resources larger than
+ * the per-entry limit pass through uncached, as do unresolved paths.
+ */
+final class RetreeverInMemoryResourceResolver extends AbstractResourceResolver {
+
+    static final long DEFAULT_MAX_TOTAL_BYTES = 32L * 1024 * 1024;
+    static final long DEFAULT_MAX_ENTRY_BYTES = 4L * 1024 * 1024;
+
+    private static final String GZIP_KEY_SUFFIX = "+gzip";
+
+    private final long maxTotalBytes;
+    private final long maxEntryBytes;
+
+    private final LinkedHashMap<String, CachedResource> cache = new LinkedHashMap<>(32, 0.75f, true);
+    private long totalBytes;
+
+    RetreeverInMemoryResourceResolver() {
+        this(DEFAULT_MAX_TOTAL_BYTES, DEFAULT_MAX_ENTRY_BYTES);
+    }
+
+    RetreeverInMemoryResourceResolver(long maxTotalBytes, long maxEntryBytes) {
+        this.maxTotalBytes = maxTotalBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxTotalBytes);
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(
+            HttpServletRequest request,
+            String requestPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        String key = cacheKey(request, requestPath);
+        synchronized (cache) {
+            CachedResource cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Resource resolved = chain.resolveResource(request, requestPath, locations);
+        if (resolved == null) {
+            return null;
+        }
+
+        CachedResource copy = load(resolved);
+        if (copy == null) {
+            return resolved;
+        }
+        store(key, copy);
+        return copy;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(
+            String resourceUrlPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    long totalBytes() {
+        synchronized (cache) {
+            return totalBytes;
+        }
+    }
+
+    private CachedResource load(Resource resolved) {
+        try {
+            long length = resolved.contentLength();
+            if (length > maxEntryBytes) {
+                return null;
+            }
+
+            byte[] body;
+            try (InputStream in = resolved.getInputStream()) {
+                body = in.readNBytes((int) maxEntryBytes + 1);
+            }
+            if (body.length > maxEntryBytes) {
+                return null;
+            }
+
+            HttpHeaders headers = resolved instanceof HttpResource httpResource
+                    ? HttpHeaders.readOnlyHttpHeaders(httpResource.getResponseHeaders())
+                    : HttpHeaders.EMPTY;
+            return new CachedResource(body, resolved.getFilename(), lastModified(resolved), headers,
+                    resolved.getDescription());
+        } catch (IOException ex) {
+            logger.debug("Serving Retreever UI resource uncached: " + resolved, ex);
+            return null;
+        }
+    }
+
+    private void store(String key, CachedResource resource) {
+        synchronized (cache) {
+            CachedResource previous = cache.put(key, resource);
+            if (previous != null) {
+                totalBytes -= previous.contentLength();
+            }
+            totalBytes += resource.contentLength();
+
+            Iterator<Map.Entry<String, CachedResource>> eldest = cache.entrySet().iterator();
+            while (totalBytes > maxTotalBytes && eldest.hasNext()) {
+                totalBytes -= eldest.next().getValue().contentLength();
+                eldest.remove();
+            }
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException ex) {
+            return -1;
+        }
+    }
+
+    private static String cacheKey(HttpServletRequest request, String requestPath) {
+        if (request == null) {
+            return requestPath;
+        }
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        return gzip ? requestPath + GZIP_KEY_SUFFIX : requestPath;
+    }
+
+    /**
+     * Heap copy of a resolved resource, including the response headers it contributes.
+     */
+    static final class CachedResource extends ByteArrayResource implements HttpResource {
+
+        private final String filename;
+        private final long lastModified;
+        private final HttpHeaders headers;
+
+        private CachedResource(byte[] body, String filename, long lastModified, HttpHeaders headers,
+                               String description) {
+            super(body, description);
+            this.filename = filename;
+            this.lastModified = lastModified;
+            this.headers = headers;
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            return headers;
+        }
+    }
+}
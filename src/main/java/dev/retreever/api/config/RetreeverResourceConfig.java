@@ -3,9 +3,12 @@ package dev.retreever.api.config;
 import dev.retreever.auth.RetreeverAuthSupport;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -16,7 +19,7 @@ public class RetreeverResourceConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry
+        inMemoryChain(registry
                 .addResourceHandler(
                         UI_BASE_PATH + "/favicon.ico",
                         UI_BASE_PATH + "/manifest.json",
@@ -25,16 +28,30 @@ public class RetreeverResourceConfig implements WebMvcConfigurer {
                 .addResourceLocations(
                         UI_RESOURCE_LOCATION
                 )
-                .setCacheControl(CacheControl.noCache());
+                .setCacheControl(CacheControl.noCache()));
 
-        registry
+        inMemoryChain(registry
                 .addResourceHandler(UI_BASE_PATH + "/assets/**")
                 .addResourceLocations(UI_RESOURCE_LOCATION + "assets/")
-                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()));
 
-        registry
+        inMemoryChain(registry
                 .addResourceHandler(UI_BASE_PATH + "/images/**")
                 .addResourceLocations(UI_RESOURCE_LOCATION + "images/")
-                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable()));
+    }
+
+    /**
+     * Serves the packaged bundle from heap, preferring the {@code .gz} siblings written at
+     * build time. Each handler gets its own cache, since keys are paths relative to its locations.
+     */
+    private static void inMemoryChain(ResourceHandlerRegistration registration) {
+        EncodedResourceResolver encoded = new EncodedResourceResolver();
+        encoded.setContentCodings(List.of("gzip"));
+
+        registration
+                .resourceChain(false)
+                .addResolver(new RetreeverInMemoryResourceResolver())
+                .addResolver(encoded);
     }
 }
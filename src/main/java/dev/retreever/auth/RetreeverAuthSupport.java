@@ -18,6 +18,9 @@ public final class RetreeverAuthSupport {
     public static final String DOC_PATH = RETREEVER_BASE_PATH + "/doc";
     public static final String PING_PATH = RETREEVER_BASE_PATH + "/ping";
     public static final String ENVIRONMENT_PATH = RETREEVER_BASE_PATH + "/environment";
+    public static final String EVENTS_PATH = RETREEVER_BASE_PATH + "/events";
+    public static final String SEARCH_PATH = RETREEVER_BASE_PATH + "/search";
+    public static final String REBUILD_PATH = RETREEVER_BASE_PATH + "/rebuild";
     public static final String ACCESS_TOKEN_COOKIE_NAME = "retreever_at";
     public static final String REFRESH_TOKEN_COOKIE_NAME = "retreever_rt";
     public static final String DEVICE_ID_COOKIE_NAME = "retreever_did";
@@ -15,14 +15,17 @@ import dev.retreever.auth.RetreeverAuthenticationService;
 import dev.retreever.auth.RetreeverAuthProperties;
 import dev.retreever.auth.RetreeverAuthSupport;
 import dev.retreever.auth.RetreeverTokenService;
+import dev.retreever.config.RetreeverBuildProperties;
 import dev.retreever.config.RetreeverCorsProperties;
 import dev.retreever.config.RetreeverDocumentationExclusionProperties;
 import dev.retreever.config.RetreeverStudioProperties;
 import dev.retreever.endpoint.model.ApiHeader;
 import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.engine.SchemaResolutionCache;
 import dev.retreever.json.RetreeverJsonMapper;
 import dev.retreever.json.RetreeverJsonMappers;
 import dev.retreever.schema.resolver.jackson.JsonNameResolver;
+import dev.retreever.support.Sha256;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -46,6 +49,9 @@ import java.util.LinkedHashSet;
 @ComponentScan(basePackages = "dev.retreever")
 public class RetreeverAutoConfiguration {
 
+    private static final String RESTART_CLASS_LOADER =
+            "org.springframework.boot.devtools.restart.classloader.RestartClassLoader";
+
     @Bean
     public RetreeverOrchestrator orchestrator(
             ApplicationContext context,
@@ -53,7 +59,8 @@ public class RetreeverAutoConfiguration {
             RetreeverDocumentationExclusionProperties exclusionProperties,
             RetreeverAuthProperties authProperties,
             RetreeverAuthenticationService authenticationService,
-            RetreeverStudioProperties studioProperties
+            RetreeverStudioProperties studioProperties,
+            RetreeverBuildProperties buildProperties
     ) {
 
         JsonNameResolver.configure(jsonMapper);
@@ -73,7 +80,8 @@ public class RetreeverAutoConfiguration {
                     authProperties,
                     authenticationService,
                     studioProperties,
-                    valueResolver
+                    valueResolver,
+                    buildProperties
             );
         }
 
@@ -86,7 +94,8 @@ public class RetreeverAutoConfiguration {
                     authProperties,
                     authenticationService,
                     studioProperties,
-                    valueResolver
+                    valueResolver,
+                    buildProperties
             );
         }
 
@@ -99,7 +108,9 @@ public class RetreeverAutoConfiguration {
                 authProperties,
                 authenticationService,
                 studioProperties,
-                valueResolver
+                valueResolver,
+                buildProperties,
+                schemaCache(context, jsonMapper, buildProperties)
         );
     }
 
@@ -108,6 +119,27 @@ public class RetreeverAutoConfiguration {
         return RetreeverJsonMappers.fromApplicationContext(context);
     }
 
+    /**
+     * Returns the shared schema cache when incremental builds are enabled, explicitly or
+     * by running under the DevTools restart class loader, or {@code null} otherwise.
+     * The cache is keyed by the configuration and by the effective configuration of the
+     * mapper that names the properties, which customizers can change in code.
+     */
+    private SchemaResolutionCache schemaCache(ApplicationContext context,
+                                              RetreeverJsonMapper jsonMapper,
+                                              RetreeverBuildProperties buildProperties) {
+        Boolean incremental = buildProperties.getIncremental();
+        boolean enabled = incremental != null
+                ? incremental
+                : context.getClassLoader() != null
+                        && RESTART_CLASS_LOADER.equals(context.getClassLoader().getClass().getName());
+        return enabled
+                ? SchemaResolutionCache.shared(Sha256.hex(
+                        RetreeverDocumentSnapshots.configurationKey(context.getEnvironment())
+                                + "|" + jsonMapper.describeConfiguration(), 32))
+                : null;
+    }
+
     private StringValueResolver mappingValueResolver(ApplicationContext context) {
         return value -> {
             if (value == null) {
@@ -200,11 +232,19 @@ public class RetreeverAutoConfiguration {
     private String[] retreeverProtectedApiPatterns(String basePath) {
         LinkedHashSet<String> patterns = new LinkedHashSet<>();
         patterns.add(RetreeverAuthSupport.DOC_PATH);
+        patterns.add(RetreeverAuthSupport.DOC_PATH + "/*");
         patterns.add(RetreeverAuthSupport.PING_PATH);
         patterns.add(RetreeverAuthSupport.ENVIRONMENT_PATH);
+        patterns.add(RetreeverAuthSupport.EVENTS_PATH);
+        patterns.add(RetreeverAuthSupport.SEARCH_PATH);
+        patterns.add(RetreeverAuthSupport.REBUILD_PATH);
         patterns.add(basePath + "/doc");
+        patterns.add(basePath + "/doc/*");
         patterns.add(basePath + "/ping");
         patterns.add(basePath + "/environment");
+        patterns.add(basePath + "/events");
+        patterns.add(basePath + "/search");
+        patterns.add(basePath + "/rebuild");
         return patterns.toArray(String[]::new);
     }
 }
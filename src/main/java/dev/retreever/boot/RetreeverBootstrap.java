@@ -9,90 +9,315 @@
 package dev.retreever.boot;
 
 import dev.retreever.auth.RetreeverAuthenticationService;
+import dev.retreever.config.RetreeverBuildProperties;
+import dev.retreever.config.RetreeverDocumentProperties;
 import dev.retreever.config.RetreeverSecurityHintProperties;
+import dev.retreever.json.RetreeverBinaryFormat;
+import dev.retreever.json.RetreeverJsonMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import dev.retreever.engine.ApiDocumentCatalog;
+import dev.retreever.engine.ApiDocumentHashes;
+import dev.retreever.engine.BuildProgress;
 import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.RequestMappingIndex;
 import dev.retreever.engine.RetreeverOrchestrator;
+import dev.retreever.view.ApiDocumentComponents;
+import dev.retreever.view.ApiDocumentPayload;
+import dev.retreever.view.ApiDocumentWriter;
 import dev.retreever.view.dto.ApiDocument;
 import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * Bootstrap component responsible for building and caching the API document
- * once the Spring application is fully initialized.
+ * once the Spring application is fully initialized. Every build outcome is
+ * published as a {@link RetreeverDocumentEvent}.
+ * <p>
+ * With {@code retreever.build.async} the build runs on a low-priority background
+ * thread so the ready event is not held up. Only one build runs at a time; further
+ * triggers while it runs join the build in flight.
+ * <p>
+ * The documentation can be {@linkplain #rebuild() rebuilt} at any time. A build
+ * resolves into its own registries and prepares its payloads off to the side, then
+ * replaces the served document in a single reference swap. Readers never wait for a
+ * build and always see one complete build; a failed rebuild keeps the previous
+ * document and is reported with a {@link RetreeverDocumentEvent.Type#FAILED} event.
+ * Rebuilds always resolve the documentation, since a snapshot only stands in for the
+ * build at startup.
  */
 @Component
 public class RetreeverBootstrap {
 
+    public static final String STARTUP_FAILURE_MESSAGE =
+            "Retreever failed during startup. Check the application logs for the full stack trace.";
+
+    public static final String REBUILD_FAILURE_MESSAGE =
+            "Retreever failed to rebuild the API documentation. The previous documentation is still served.";
+
     private final Logger log = LoggerFactory.getLogger(RetreeverBootstrap.class);
 
     private final RetreeverOrchestrator orchestrator;
     private final RetreeverUiLocationResolver uiLocationResolver;
     private final RetreeverAuthenticationService authenticationService;
     private final RetreeverSecurityHintProperties securityHintProperties;
-    private ApiDocument cached;
-    private Exception startupFailure;
+    private final RetreeverJsonMapper jsonMapper;
+    private final RetreeverDocumentProperties documentProperties;
+    private final boolean async;
+    private final boolean handlerMappings;
+    private final boolean rebuildOnRefresh;
+    private final RetreeverDocumentSnapshots snapshots;
+    private final boolean streaming;
+    private final Map<RetreeverBinaryFormat, BinaryEncoding> binaryEncodings;
+    private final AtomicReference<Published> published = new AtomicReference<>();
+    private volatile BuildSource source;
+    private volatile BuildProgress progress;
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+    private volatile Exception startupFailure;
+    private volatile Exception rebuildFailure;
     private boolean securityHintLogged;
+    private boolean built;
 
     public RetreeverBootstrap(
             RetreeverOrchestrator orchestrator,
             RetreeverAuthenticationService authenticationService,
             RetreeverSecurityHintProperties securityHintProperties,
-            RetreeverBasePathResolver basePathResolver) {
+            RetreeverBasePathResolver basePathResolver,
+            RetreeverJsonMapper jsonMapper,
+            RetreeverDocumentProperties documentProperties,
+            RetreeverBuildProperties buildProperties) {
         this.orchestrator = orchestrator;
         this.uiLocationResolver = new RetreeverUiLocationResolver(basePathResolver);
         this.authenticationService = authenticationService;
         this.securityHintProperties = securityHintProperties;
+        this.jsonMapper = jsonMapper;
+        this.documentProperties = documentProperties;
+        this.async = buildProperties.isAsync();
+        this.handlerMappings = buildProperties.isHandlerMappings();
+        this.rebuildOnRefresh = buildProperties.isRebuildOnRefresh();
+        this.snapshots = resolveSnapshots(buildProperties, documentProperties);
+        this.streaming = ApiDocumentWriter.supports(jsonMapper);
+        this.binaryEncodings = resolveBinaryEncodings(jsonMapper, documentProperties.getBinaryFormats());
     }
 
     /**
      * Triggered on {@link ApplicationReadyEvent}. Discovers controllers,
      * builds the API document using the Retreever pipeline, and caches it.
+     * In async mode the build is only started here.
      */
     @EventListener(ApplicationReadyEvent.class)
     public void init(ApplicationReadyEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        BuildSource buildSource = new BuildSource(context, resolveApplicationClass(context, event));
+        this.source = buildSource;
+        CompletableFuture<Void> build = startBuild(buildSource, true);
+        if (!async) {
+            build.join();
+        }
+    }
+
+    /**
+     * Rebuilds the documentation when a context is refreshed after startup, if
+     * {@code retreever.build.rebuild-on-refresh} is set. The refresh that starts the
+     * application is left to {@link #init(ApplicationReadyEvent)}.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (rebuildOnRefresh && source != null) {
+            log.debug("Application context {} refreshed. Rebuilding Retreever documentation.",
+                    event.getApplicationContext().getId());
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds the documentation again and publishes it once it is complete. The current
+     * document keeps being served until then. In async mode the build runs in the
+     * background; otherwise it has finished when this method returns. A build already
+     * in flight is joined instead.
+     *
+     * @return a future that completes when the build has finished
+     * @throws IllegalStateException if the application is not ready yet
+     */
+    public CompletableFuture<Void> rebuild() {
+        BuildSource buildSource = source;
+        if (buildSource == null) {
+            throw new IllegalStateException("Retreever documentation cannot be rebuilt before the application is ready.");
+        }
+        return startBuild(buildSource, false);
+    }
+
+    /**
+     * Starts a build, or returns the one already running.
+     *
+     * @param fromSnapshot whether a matching snapshot may stand in for the build
+     */
+    private CompletableFuture<Void> startBuild(BuildSource buildSource, boolean fromSnapshot) {
+        while (true) {
+            CompletableFuture<Void> running = inFlight.get();
+            if (running != null && !running.isDone()) {
+                return running;
+            }
+
+            CompletableFuture<Void> next = new CompletableFuture<>();
+            if (!inFlight.compareAndSet(running, next)) {
+                continue;
+            }
+
+            BuildProgress buildProgress = new BuildProgress();
+            this.progress = buildProgress;
+            Runnable task = () -> {
+                try {
+                    build(buildSource, buildProgress, fromSnapshot);
+                } finally {
+                    this.progress = null;
+                    next.complete(null);
+                }
+            };
+            if (async) {
+                Thread thread = new Thread(task, "retreever-build");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                thread.start();
+            } else {
+                task.run();
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Returns a future that completes when the build in flight, if any, has finished.
+     */
+    public CompletableFuture<Void> awaitBuild() {
+        CompletableFuture<Void> running = inFlight.get();
+        return running != null ? running : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Returns the progress of the build in flight, or {@code null} when none is running.
+     */
+    public BuildProgress getBuildProgress() {
+        return progress;
+    }
+
+    private void build(BuildSource buildSource, BuildProgress buildProgress, boolean fromSnapshot) {
+        RetreeverDocumentEvent outcome;
         try {
-            initialize(event);
+            initialize(buildSource, buildProgress, fromSnapshot);
+            outcome = RetreeverDocumentEvent.built(built, getUptime());
+            built = true;
         } catch (Exception ex) {
-            this.cached = null;
+            if (published.get() != null) {
+                this.rebuildFailure = ex;
+                log.error(REBUILD_FAILURE_MESSAGE, ex);
+                publish(buildSource, RetreeverDocumentEvent.failed(REBUILD_FAILURE_MESSAGE, getUptime()));
+                return;
+            }
             this.startupFailure = ex;
             log.error(
                     "Retreever failed during startup. The host application will continue running, but Retreever endpoints may be unavailable.",
                     ex
             );
+            outcome = RetreeverDocumentEvent.failed(STARTUP_FAILURE_MESSAGE);
         }
+        publish(buildSource, outcome);
     }
 
-    private void initialize(ApplicationReadyEvent event) {
-        log.debug("Initializing Retreever. Resolving API documentation.");
+    /**
+     * Publishes a build outcome. Listeners belong to the host or to Retreever's event
+     * streams; a failing one is logged so it can never break startup or the build thread.
+     */
+    private void publish(BuildSource buildSource, RetreeverDocumentEvent event) {
+        try {
+            buildSource.context().publishEvent(event);
+        } catch (RuntimeException ex) {
+            log.error("A listener failed to handle Retreever documentation event {}.", event.type(), ex);
+        }
+    }
 
-        ApplicationContext context = event.getApplicationContext();
-        Class<?> appClass = resolveApplicationClass(context, event);
+    private void initialize(BuildSource buildSource, BuildProgress buildProgress, boolean fromSnapshot) {
+        log.debug("Initializing Retreever. Resolving API documentation.");
+        buildProgress.stage(BuildProgress.Stage.SCANNING);
 
-        // Scan for controllers and advices that produce response-body documentation
-        Set<Class<?>> allControllers = ControllerScanner.scanControllers(context);
-        Set<Class<?>> allAdvices = ControllerScanner.scanControllerAdvices(context);
+        ApplicationContext context = buildSource.context();
 
         // Get base packages
         List<String> basePackages = orchestrator.getBasePackages();
 
+        // Scan for controllers and advices that produce response-body documentation.
+        // Snapshots fingerprint the registered routes, so they are scanned for those too.
+        RequestMappingIndex routes = handlerMappings || snapshots != null
+                ? ControllerScanner.scanRequestMappings(context)
+                : null;
+        RequestMappingIndex mappings = handlerMappings ? routes : null;
+        Set<Class<?>> allControllers = mappings != null
+                ? mappings.controllers()
+                : ControllerScanner.scanControllers(context);
+        Set<Class<?>> allAdvices = ControllerScanner.scanControllerAdvices(context);
+
         // Filter to base packages only
         Set<Class<?>> controllers = filterByBasePackages(allControllers, basePackages);
         Set<Class<?>> controllerAdvices = filterByBasePackages(allAdvices, basePackages);
 
-        // Build final documentation snapshot
-        this.cached = orchestrator.build(appClass, controllers, controllerAdvices);
+        // Reuse the snapshot of an earlier build of the same classes, routes and configuration
+        String fingerprint = snapshots != null
+                ? snapshots.fingerprint(context, basePackages, authenticationService.isEnabled(),
+                        controllers, controllerAdvices, routes)
+                : null;
+        RetreeverDocumentSnapshots.Snapshot snapshot = fingerprint != null && fromSnapshot
+                ? snapshots.read(fingerprint, jsonMapper, context.getClassLoader())
+                : null;
+        if (snapshot != null) {
+            buildProgress.stage(BuildProgress.Stage.RENDERING);
+            publish(snapshot.catalog(), snapshot.body());
+            log.debug("Retreever documentation loaded from snapshot {}", fingerprint);
+            logSpringSecurityHintIfNeeded(context);
+            log.info("Retreever initialized. Explore APIs at {}", uiLocationResolver.resolve(context));
+            return;
+        }
+
+        Class<?> appClass = buildSource.applicationClass();
+
+        // Build final documentation snapshot; in lazy mode pieces are rendered on first request
+        ApiDocumentCatalog built = orchestrator.buildCatalog(
+                appClass,
+                controllers,
+                controllerAdvices,
+                documentProperties.isLazy(),
+                buildProgress,
+                mappings
+        );
+        buildProgress.stage(BuildProgress.Stage.RENDERING);
+        if (documentProperties.isLazy()) {
+            swap(new Published(built));
+        } else {
+            Published state = publish(built, null);
+            if (fingerprint != null) {
+                snapshots.write(fingerprint, built, documentProperties.isComponentsFormat()
+                        ? serializeJson(built.document())
+                        : state.payload.body(), built.schemaRegistry().getReachedClasses());
+            }
+        }
 
         logSpringSecurityHintIfNeeded(context);
 
@@ -100,25 +325,200 @@ public class RetreeverBootstrap {
     }
 
     /**
-     * Returns the cached API document.
+     * Prepares the payloads and indexes of a fully resolved catalog, then makes it
+     * available.
+     *
+     * @param json the document already serialized as plain JSON, or {@code null}
+     */
+    private Published publish(ApiDocumentCatalog built, byte[] json) {
+        Published state = new Published(built);
+        state.payload = json != null && !documentProperties.isComponentsFormat()
+                ? ApiDocumentPayload.of(json, documentProperties.isCompression())
+                : serialize(built);
+        binaryEncodings.forEach((format, encoding) ->
+                state.binaryPayloads.put(format, serialize(built, encoding.mapper(), encoding.streaming())));
+        built.searchIndex();
+        built.usageIndex();
+        swap(state);
+        return state;
+    }
+
+    private void swap(Published state) {
+        published.set(state);
+        this.startupFailure = null;
+        this.rebuildFailure = null;
+    }
+
+    /**
+     * Returns the cached API document, rendering it first if it was built lazily.
      */
     public ApiDocument getDocument() {
-        return cached;
+        Published current = published.get();
+        return current == null ? null : current.catalog.document();
+    }
+
+    /**
+     * Returns the catalog serving the document piece by piece, or {@code null} if
+     * Retreever is not available.
+     */
+    public ApiDocumentCatalog getCatalog() {
+        Published current = published.get();
+        return current == null ? null : current.catalog;
+    }
+
+    /**
+     * Returns the serialized API document, or {@code null} if it is not available.
+     */
+    public ApiDocumentPayload getPayload() {
+        Published current = published.get();
+        if (current == null) {
+            return null;
+        }
+
+        ApiDocumentPayload payload = current.payload;
+        if (payload != null) {
+            return payload;
+        }
+
+        synchronized (current) {
+            if (current.payload == null) {
+                current.payload = serialize(current.catalog);
+            }
+            return current.payload;
+        }
+    }
+
+    /**
+     * Returns the binary formats the document can be served in, in configuration order.
+     */
+    public List<RetreeverBinaryFormat> getBinaryFormats() {
+        return List.copyOf(binaryEncodings.keySet());
+    }
+
+    /**
+     * Returns the document encoded in a binary format, or {@code null} if the format is
+     * not enabled or Retreever is not available.
+     */
+    public ApiDocumentPayload getPayload(RetreeverBinaryFormat format) {
+        BinaryEncoding encoding = binaryEncodings.get(format);
+        Published current = published.get();
+        if (encoding == null || current == null) {
+            return null;
+        }
+
+        return current.binaryPayloads.computeIfAbsent(format,
+                key -> serialize(current.catalog, encoding.mapper(), encoding.streaming()));
+    }
+
+    /**
+     * Returns the content hashes of the current build, computing them on first use,
+     * or {@code null} if Retreever is not available.
+     */
+    public ApiDocumentHashes getHashes() {
+        Published current = published.get();
+        if (current == null) {
+            return null;
+        }
+
+        ApiDocumentHashes hashes = current.hashes;
+        if (hashes != null) {
+            return hashes;
+        }
+
+        synchronized (current) {
+            if (current.hashes == null) {
+                current.hashes = ApiDocumentHashes.compute(current.catalog, jsonMapper);
+            }
+            return current.hashes;
+        }
     }
 
     public boolean isAvailable() {
-        return cached != null;
+        return published.get() != null;
     }
 
     public Exception getStartupFailure() {
         return startupFailure;
     }
 
+    /**
+     * Returns why the latest rebuild failed while the previous documentation is still
+     * served, or {@code null} if it succeeded.
+     */
+    public Exception getRebuildFailure() {
+        return rebuildFailure;
+    }
+
     /**
      * Returns the timestamp when the API document was built.
      */
     public Instant getUptime() {
-        return cached == null ? null : cached.upTime();
+        Published current = published.get();
+        return current == null ? null : current.catalog.upTime();
+    }
+
+    private ApiDocumentPayload serialize(ApiDocumentCatalog source) {
+        return serialize(source, jsonMapper, streaming);
+    }
+
+    private ApiDocumentPayload serialize(ApiDocumentCatalog source, RetreeverJsonMapper mapper, boolean streamable) {
+        boolean compress = documentProperties.isCompression();
+        if (documentProperties.isComponentsFormat()) {
+            return ApiDocumentPayload.serialize(ApiDocumentComponents.extract(source.document()), mapper, compress);
+        }
+        if (streamable) {
+            return ApiDocumentPayload.write(source::writeDocument, mapper, compress);
+        }
+        return ApiDocumentPayload.serialize(source.document(), mapper, compress);
+    }
+
+    private byte[] serializeJson(ApiDocument document) {
+        try {
+            return jsonMapper.writeValueAsBytes(document);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to serialize Retreever API document.", ex);
+        }
+    }
+
+    /**
+     * Snapshots hold fully rendered documents, so they are only used when everything is
+     * resolved up front and nothing is left to expand on demand.
+     */
+    private RetreeverDocumentSnapshots resolveSnapshots(RetreeverBuildProperties buildProperties,
+                                                        RetreeverDocumentProperties documentProperties) {
+        if (buildProperties.getSnapshotDir() == null) {
+            return null;
+        }
+        if (documentProperties.isLazy()
+                || buildProperties.getMaxRenderDepth() != RetreeverBuildProperties.UNLIMITED
+                || buildProperties.getMaxRenderNodes() != RetreeverBuildProperties.UNLIMITED) {
+            log.warn("Retreever snapshots are not used with lazy documentation or a render budget.");
+            return null;
+        }
+        return new RetreeverDocumentSnapshots(Path.of(buildProperties.getSnapshotDir()));
+    }
+
+    private Map<RetreeverBinaryFormat, BinaryEncoding> resolveBinaryEncodings(RetreeverJsonMapper mapper,
+                                                                              List<String> formatIds) {
+        Map<RetreeverBinaryFormat, BinaryEncoding> encodings = new LinkedHashMap<>();
+        for (String formatId : formatIds) {
+            RetreeverBinaryFormat format = RetreeverBinaryFormat.fromId(formatId);
+            if (format == null) {
+                continue;
+            }
+
+            RetreeverJsonMapper binaryMapper = mapper.copyForFormat(format);
+            if (binaryMapper == null) {
+                log.warn(
+                        "Retreever binary document format '{}' requires jackson-dataformat-{} on the classpath. Serving JSON only.",
+                        format.id(),
+                        format.id()
+                );
+                continue;
+            }
+            encodings.put(format, new BinaryEncoding(binaryMapper, ApiDocumentWriter.supports(binaryMapper)));
+        }
+        return Collections.unmodifiableMap(encodings);
     }
 
     private Set<Class<?>> filterByBasePackages(Set<Class<?>> classes, List<String> basePackages) {
@@ -204,7 +604,7 @@ public class RetreeverBootstrap {
     }
 
     private boolean isRetreeverAuthOrStudioEnabled() {
-        return authenticationService.isEnabled() || cached != null;
+        return authenticationService.isEnabled() || isAvailable();
     }
 
     private boolean hasSpringSecurity(ApplicationContext context) {
@@ -237,4 +637,30 @@ public class RetreeverBootstrap {
         }
         return false;
     }
+
+    private record BinaryEncoding(RetreeverJsonMapper mapper, boolean streaming) {
+    }
+
+    /**
+     * What the documentation is built from, captured once the application is ready.
+     */
+    private record BuildSource(ApplicationContext context, Class<?> applicationClass) {
+    }
+
+    /**
+     * One published build and everything served from it. Readers take all of it from a
+     * single read of {@link #published}, so they never mix pieces of two builds.
+     * Payloads and hashes not prepared before publishing are computed on first use.
+     */
+    private static final class Published {
+
+        private final ApiDocumentCatalog catalog;
+        private final Map<RetreeverBinaryFormat, ApiDocumentPayload> binaryPayloads = new ConcurrentHashMap<>();
+        private volatile ApiDocumentPayload payload;
+        private volatile ApiDocumentHashes hashes;
+
+        private Published(ApiDocumentCatalog catalog) {
+            this.catalog = catalog;
+        }
+    }
 }
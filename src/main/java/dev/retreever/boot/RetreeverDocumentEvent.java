@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+
+package dev.retreever.boot;
+
+import java.time.Instant;
+
+/**
+ * Published on the application context whenever a documentation build finishes or fails.
+ *
+ * @param type    what happened to the documentation
+ * @param upTime  build timestamp of the available document, or {@code null} if none is
+ *                available
+ * @param message failure description, or {@code null} on success
+ */
+public record RetreeverDocumentEvent(Type type, Instant upTime, String message) {
+
+    public enum Type {
+        /** The first documentation build finished. */
+        READY,
+        /** A later build replaced the documentation. */
+        REBUILT,
+        /** A build failed. After a failed rebuild the previous documentation is still served. */
+        FAILED
+    }
+
+    public static RetreeverDocumentEvent built(boolean rebuilt, Instant upTime) {
+        return new RetreeverDocumentEvent(rebuilt ? Type.REBUILT : Type.READY, upTime, null);
+    }
+
+    public static RetreeverDocumentEvent failed(String message) {
+        return failed(message, null);
+    }
+
+    /**
+     * A failed build while the document built at {@code upTime} is still served.
+     */
+    public static RetreeverDocumentEvent failed(String message, Instant upTime) {
+        return new RetreeverDocumentEvent(Type.FAILED, upTime, message);
+    }
+}
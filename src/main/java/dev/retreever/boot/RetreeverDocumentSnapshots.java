@@ -0,0 +1,401 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.boot;
+
+import dev.retreever.engine.ApiDocumentCatalog;
+import dev.retreever.engine.RequestMappingIndex;
+import dev.retreever.engine.SchemaResolutionCache;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.search.ApiSearchIndex;
+import dev.retreever.search.SchemaUsageIndex;
+import dev.retreever.support.Sha256;
+import dev.retreever.view.dto.ApiDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps built documentation on disk so unchanged applications can skip the build on
+ * the next start.
+ * <p>
+ * A snapshot holds the serialized document and its search and usage indexes, and is
+ * named after a fingerprint of what the documentation is derived from before anything
+ * is resolved: the bytes of every class in the documented packages, the controllers
+ * and advices actually registered together with their resolved routes, the
+ * {@code retreever.*} and {@code spring.jackson.*} configuration, the servlet paths,
+ * and the Retreever and Java versions. Classes the schemas reach outside the documented
+ * packages are only known after a build, so the snapshot lists them with a hash of
+ * their bytecode, checked again when it is read. Any change produces a different
+ * fingerprint or fails that check, so a stale snapshot is never served.
+ * <p>
+ * The document is parsed in full on reading, so snapshots are read into memory in one
+ * go rather than mapped. They are written atomically; failures in either direction are
+ * logged and fall back to a regular build.
+ */
+final class RetreeverDocumentSnapshots {
+
+    static final String SNAPSHOT_DIR_PROPERTY = "retreever.build.snapshot-dir";
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverDocumentSnapshots.class);
+
+    private static final int MAGIC = 0x52545653;
+    private static final int FORMAT_VERSION = 2;
+    private static final String PREFIX = "retreever-";
+    private static final String SUFFIX = ".snapshot";
+    private static final String PROPERTY_PREFIX = "retreever.";
+    private static final String JACKSON_PROPERTY_PREFIX = "spring.jackson.";
+    private static final String CONTEXT_PATH_PROPERTY = "server.servlet.context-path";
+    private static final String SERVLET_PATH_PROPERTY = "spring.mvc.servlet.path";
+
+    private final Path directory;
+
+    RetreeverDocumentSnapshots(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Fingerprints the inputs of the documentation, or returns {@code null} when the
+     * documented packages cannot be fingerprinted.
+     *
+     * @param controllers the documented controllers
+     * @param controllerAdvices the documented controller advices
+     * @param routes the routes Spring MVC registered for the controllers
+     */
+    String fingerprint(ApplicationContext context,
+                       List<String> basePackages,
+                       boolean authEnabled,
+                       Set<Class<?>> controllers,
+                       Set<Class<?>> controllerAdvices,
+                       RequestMappingIndex routes) {
+        MessageDigest digest = Sha256.newDigest();
+        update(digest, "format=" + FORMAT_VERSION);
+        update(digest, "retreever=" + RetreeverDocumentSnapshots.class.getPackage().getImplementationVersion());
+        update(digest, "java=" + Runtime.version().feature());
+        update(digest, "auth=" + authEnabled);
+        update(digest, configurationKey(context.getEnvironment()));
+        updateRoutes(digest, controllers, routes);
+        for (String advice : names(controllerAdvices)) {
+            update(digest, "advice=" + advice);
+        }
+
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(context);
+        for (String basePackage : basePackages) {
+            if (!StringUtils.hasText(basePackage)) {
+                log.debug("Retreever snapshots are not used for applications in the default package.");
+                return null;
+            }
+            if (basePackage.startsWith("java.")) {
+                continue;
+            }
+            if (!updateClasses(digest, resolver, basePackage)) {
+                return null;
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Loads the snapshot with this fingerprint, or returns {@code null} if there is none,
+     * it cannot be read, or a class its schemas reached has changed.
+     *
+     * @param classLoader loads the classes the schemas reached
+     */
+    Snapshot read(String fingerprint, RetreeverJsonMapper jsonMapper, ClassLoader classLoader) {
+        Path file = file(fingerprint);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION
+                    || !fingerprint.equals(readString(buffer))) {
+                log.warn("Ignoring Retreever snapshot {} written in an unknown format.", file);
+                return null;
+            }
+
+            List<String> reachedClasses = new ArrayList<>();
+            for (int count = buffer.getInt(); count > 0; count--) {
+                reachedClasses.add(readString(buffer));
+            }
+            String reachedHash = readString(buffer);
+            if (!reachedHash.equals(bytecodeHash(load(reachedClasses, classLoader)))) {
+                log.debug("Ignoring Retreever snapshot {}: classes reached by its schemas have changed.", file);
+                return null;
+            }
+
+            byte[] body = new byte[buffer.getInt()];
+            buffer.get(body);
+            ApiSearchIndex searchIndex = ApiSearchIndex.read(section(buffer));
+            SchemaUsageIndex usageIndex = SchemaUsageIndex.read(section(buffer));
+
+            ApiDocument document = jsonMapper.readValue(body, ApiDocument.class);
+            return new Snapshot(ApiDocumentCatalog.restore(document, searchIndex, usageIndex), body);
+        } catch (NoSuchFileException ex) {
+            return null;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Unable to read Retreever snapshot {}. Building the documentation instead.", file, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Stores a build under its fingerprint and removes snapshots of other fingerprints.
+     *
+     * @param body the document serialized as plain JSON
+     * @param reachedClasses the object and enum classes the schemas of the build reached
+     */
+    void write(String fingerprint, ApiDocumentCatalog catalog, byte[] body, Set<Class<?>> reachedClasses) {
+        Path target = file(fingerprint);
+        Path temporary = null;
+        try {
+            String reachedHash = bytecodeHash(reachedClasses);
+            if (reachedHash == null) {
+                log.debug("Not writing a Retreever snapshot: classes reached by the schemas cannot be read.");
+                return;
+            }
+            Files.createDirectories(directory);
+            temporary = Files.createTempFile(directory, PREFIX, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, fingerprint);
+                List<String> reachedNames = names(reachedClasses);
+                out.writeInt(reachedNames.size());
+                for (String name : reachedNames) {
+                    writeString(out, name);
+                }
+                writeString(out, reachedHash);
+                out.writeInt(body.length);
+                out.write(body);
+                writeSection(out, encode(catalog.searchIndex()::writeTo));
+                writeSection(out, encode(catalog.usageIndex()::writeTo));
+            }
+            move(temporary, target);
+            temporary = null;
+            removeOthers(target);
+            log.debug("Wrote Retreever snapshot {}", target);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Unable to write Retreever snapshot to {}.", directory, ex);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private Path file(String fingerprint) {
+        return directory.resolve(PREFIX + fingerprint + SUFFIX);
+    }
+
+    private void removeOthers(Path keep) throws IOException {
+        try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path snapshot : snapshots) {
+                if (!snapshot.equals(keep)) {
+                    Files.deleteIfExists(snapshot);
+                }
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Hashes the configuration that shapes the documentation: the {@code retreever.*}
+     * and {@code spring.jackson.*} properties and the servlet context and servlet paths.
+     */
+    static String configurationKey(Environment environment) {
+        MessageDigest digest = Sha256.newDigest();
+        properties(environment).forEach((key, value) -> update(digest, key + "=" + value));
+        update(digest, CONTEXT_PATH_PROPERTY + "=" + environment.getProperty(CONTEXT_PATH_PROPERTY));
+        update(digest, SERVLET_PATH_PROPERTY + "=" + environment.getProperty(SERVLET_PATH_PROPERTY));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Map<String, String> properties(Environment environment) {
+        Map<String, String> properties = new TreeMap<>();
+        if (!(environment instanceof ConfigurableEnvironment configurable)) {
+            return properties;
+        }
+        for (PropertySource<?> source : configurable.getPropertySources()) {
+            if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+                continue;
+            }
+            for (String name : enumerable.getPropertyNames()) {
+                if ((name.startsWith(PROPERTY_PREFIX) || name.startsWith(JACKSON_PROPERTY_PREFIX))
+                        && !name.equals(SNAPSHOT_DIR_PROPERTY)) {
+                    properties.putIfAbsent(name, environment.getProperty(name));
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Hashes every class file of a package in name order. Returns {@code false} if the
+     * package cannot be read.
+     */
+    private static boolean updateClasses(MessageDigest digest,
+                                         PathMatchingResourcePatternResolver resolver,
+                                         String basePackage) {
+        String packagePath = basePackage.replace('.', '/');
+        try {
+            Map<String, Resource> classes = new TreeMap<>();
+            for (Resource resource : resolver.getResources("classpath*:" + packagePath + "/**/*.class")) {
+                String url = resource.getURL().toString();
+                int start = url.lastIndexOf(packagePath + "/");
+                classes.putIfAbsent(start >= 0 ? url.substring(start) : url, resource);
+            }
+            for (Map.Entry<String, Resource> entry : classes.entrySet()) {
+                update(digest, entry.getKey());
+                try (InputStream in = entry.getValue().getInputStream()) {
+                    digest.update(in.readAllBytes());
+                }
+            }
+            return true;
+        } catch (IOException ex) {
+            log.warn("Unable to fingerprint package {} for Retreever snapshots.", basePackage, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Hashes the routes of each controller in name order. Routes are hashed as Spring
+     * registered them, so placeholders and path prefixes are already resolved.
+     */
+    private static void updateRoutes(MessageDigest digest, Set<Class<?>> controllers, RequestMappingIndex routes) {
+        Map<String, Class<?>> ordered = new TreeMap<>();
+        controllers.forEach(controller -> ordered.put(controller.getName(), controller));
+        ordered.forEach((name, controller) -> {
+            update(digest, "controller=" + name);
+            if (routes == null) {
+                return;
+            }
+            List<String> mapped = new ArrayList<>();
+            routes.routes(controller).forEach((method, info) -> mapped.add(method.toGenericString() + " " + info));
+            Collections.sort(mapped);
+            mapped.forEach(route -> update(digest, route));
+        });
+    }
+
+    /**
+     * Hashes the bytecode of the classes with their supertypes, or returns {@code null}
+     * if a class is missing or cannot be read.
+     */
+    private static String bytecodeHash(Set<Class<?>> classes) {
+        if (classes == null) {
+            return null;
+        }
+        byte[] hash = SchemaResolutionCache.fingerprint(classes);
+        return hash != null ? HexFormat.of().formatHex(hash) : null;
+    }
+
+    private static Set<Class<?>> load(List<String> names, ClassLoader classLoader) {
+        Set<Class<?>> classes = new HashSet<>();
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                return null;
+            }
+        }
+        return classes;
+    }
+
+    private static List<String> names(Set<Class<?>> classes) {
+        List<String> names = new ArrayList<>();
+        classes.forEach(type -> names.add(type.getName()));
+        Collections.sort(names);
+        return names;
+    }
+
+    private static byte[] encode(Section section) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            section.writeTo(out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSection(DataOutputStream out, byte[] section) throws IOException {
+        out.writeInt(section.length);
+        out.write(section);
+    }
+
+    private static ByteBuffer section(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer section = buffer.slice().limit(length);
+        buffer.position(buffer.position() + length);
+        return section;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        Sha256.update(digest, value);
+    }
+
+    @FunctionalInterface
+    private interface Section {
+
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * A restored catalog and the document bytes it was restored from.
+     */
+    record Snapshot(ApiDocumentCatalog catalog, byte[] body) {
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The {@code retreever.docs.skip} list compiled once for fast matching.
+ * <p>
+ * Exact paths live in a hash set. Ant-style patterns are stored in a trie keyed by
+ * their leading literal segments, and only the patterns along the path's own prefix
+ * are tried; the remaining segments are matched in place with the same semantics as
+ * Spring's {@code AntPathMatcher}. {@code regex:} entries are compiled up front. Apart
+ * from normalizing a path that is not already normalized, matching exact paths and
+ * Ant-style patterns allocates nothing.
+ * <p>
+ * An invalid {@code regex:} entry does not fail compilation; it is reported by
+ * {@link #matches(String)} instead. An Ant-style pattern with an invalid
+ * {@code {var:regex}} fails compilation, so it is reported once when the properties
+ * are bound rather than on every match.
+ */
+final class PathExclusionMatcher {
+
+    static final PathExclusionMatcher EMPTY = compile(List.of());
+
+    private static final String REGEX_PREFIX = "regex:";
+
+    private final Set<String> exactPaths;
+    private final Node patterns;
+    private final Pattern[] regexes;
+    private final String invalidRegex;
+    private final PatternSyntaxException invalidRegexCause;
+
+    private PathExclusionMatcher(Set<String> exactPaths,
+                                 Node patterns,
+                                 Pattern[] regexes,
+                                 String invalidRegex,
+                                 PatternSyntaxException invalidRegexCause) {
+        this.exactPaths = exactPaths;
+        this.patterns = patterns;
+        this.regexes = regexes;
+        this.invalidRegex = invalidRegex;
+        this.invalidRegexCause = invalidRegexCause;
+    }
+
+    static PathExclusionMatcher compile(List<String> entries) {
+        Set<String> exactPaths = new HashSet<>();
+        NodeBuilder root = new NodeBuilder();
+        List<Pattern> regexes = new ArrayList<>();
+        String invalidRegex = null;
+        PatternSyntaxException invalidRegexCause = null;
+
+        for (String entry : entries) {
+            if (!StringUtils.hasText(entry)) {
+                continue;
+            }
+
+            String value = entry.trim();
+            if (value.startsWith(REGEX_PREFIX)) {
+                String expression = value.substring(REGEX_PREFIX.length()).trim();
+                if (!StringUtils.hasText(expression)) {
+                    continue;
+                }
+                try {
+                    regexes.add(Pattern.compile(expression));
+                } catch (PatternSyntaxException ex) {
+                    if (invalidRegex == null) {
+                        invalidRegex = expression;
+                        invalidRegexCause = ex;
+                    }
+                }
+                continue;
+            }
+
+            String path = normalize(value);
+            if (!isPattern(path)) {
+                exactPaths.add(path);
+            } else {
+                try {
+                    root.add(segments(path), 0);
+                } catch (PatternSyntaxException ex) {
+                    throw new IllegalArgumentException("Invalid Retreever docs skip pattern: " + value, ex);
+                }
+            }
+        }
+
+        return new PathExclusionMatcher(
+                Set.copyOf(exactPaths),
+                root.build(),
+                regexes.toArray(new Pattern[0]),
+                invalidRegex,
+                invalidRegexCause
+        );
+    }
+
+    boolean matches(String path) {
+        if (invalidRegex != null) {
+            throw new IllegalArgumentException("Invalid Retreever docs skip regex: " + invalidRegex, invalidRegexCause);
+        }
+
+        String normalizedPath = normalize(path);
+        if (normalizedPath.isEmpty()) {
+            return false;
+        }
+
+        if (exactPaths.contains(normalizedPath) || patterns.matches(normalizedPath, 0)) {
+            return true;
+        }
+        for (Pattern regex : regexes) {
+            if (regex.matcher(normalizedPath).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Trims, adds a leading slash, collapses repeated slashes and drops a trailing
+     * slash. Returns the input itself when it is already normalized.
+     */
+    static String normalize(String path) {
+        if (!StringUtils.hasText(path)) {
+            return "";
+        }
+        if (isNormalized(path)) {
+            return path;
+        }
+
+        String trimmed = path.trim();
+        StringBuilder normalized = new StringBuilder(trimmed.length() + 1).append('/');
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c != '/' || normalized.charAt(normalized.length() - 1) != '/') {
+                normalized.append(c);
+            }
+        }
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isNormalized(String path) {
+        int length = path.length();
+        if (path.charAt(0) != '/' || Character.isWhitespace(path.charAt(length - 1))
+                || (length > 1 && path.charAt(length - 1) == '/')) {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            if (path.charAt(i) == '/' && path.charAt(i - 1) == '/') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mirrors {@code AntPathMatcher.isPattern}: wildcards or a URI variable.
+     */
+    private static boolean isPattern(String path) {
+        boolean uriVariable = false;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '*' || c == '?') {
+                return true;
+            }
+            if (c == '{') {
+                uriVariable = true;
+            } else if (c == '}' && uriVariable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the end of the path segment that starts after the slash at {@code slash}.
+     */
+    private static int segmentEnd(String path, int slash) {
+        int end = path.indexOf('/', slash + 1);
+        return end < 0 ? path.length() : end;
+    }
+
+    /**
+     * One trie level: patterns whose literal prefix ends here, and children keyed by
+     * the next literal segment in sorted order so they can be found by binary search on
+     * a region of the path.
+     */
+    private static final class Node {
+
+        private final CompiledPattern[] patterns;
+        private final String[] keys;
+        private final Node[] children;
+
+        private Node(CompiledPattern[] patterns, String[] keys, Node[] children) {
+            this.patterns = patterns;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        /**
+         * Matches the part of the path after the slash at {@code slash}.
+         */
+        boolean matches(String path, int slash) {
+            for (CompiledPattern pattern : patterns) {
+                if (pattern.matches(path, slash)) {
+                    return true;
+                }
+            }
+            if (slash >= path.length() || keys.length == 0) {
+                return false;
+            }
+
+            int end = segmentEnd(path, slash);
+            int child = find(path, slash + 1, end);
+            return child >= 0 && children[child].matches(path, end);
+        }
+
+        private int find(String path, int start, int end) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(keys[middle], path, start, end);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -1;
+        }
+
+        private static int compare(String key, String path, int start, int end) {
+            int length = Math.min(key.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                int difference = key.charAt(i) - path.charAt(start + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return key.length() - (end - start);
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final List<CompiledPattern> patterns = new ArrayList<>();
+        private final Map<String, NodeBuilder> children = new TreeMap<>();
+
+        void add(List<String> segments, int index) {
+            if (index < segments.size() && !isPattern(segments.get(index))) {
+                children.computeIfAbsent(segments.get(index), key -> new NodeBuilder()).add(segments, index + 1);
+                return;
+            }
+            patterns.add(CompiledPattern.of(segments.subList(index, segments.size())));
+        }
+
+        Node build() {
+            String[] keys = children.keySet().toArray(new String[0]);
+            Node[] nodes = new Node[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                nodes[i] = children.get(keys[i]).build();
+            }
+            return new Node(patterns.toArray(new CompiledPattern[0]), keys, nodes);
+        }
+    }
+
+    /**
+     * The segments of a pattern from its first wildcard segment on.
+     */
+    private static final class CompiledPattern {
+
+        private final Segment[] segments;
+
+        private CompiledPattern(Segment[] segments) {
+            this.segments = segments;
+        }
+
+        static CompiledPattern of(List<String> segments) {
+            return new CompiledPattern(segments.stream().map(Segment::of).toArray(Segment[]::new));
+        }
+
+        boolean matches(String path, int slash) {
+            return matches(0, path, slash);
+        }
+
+        private boolean matches(int index, String path, int slash) {
+            if (index == segments.length) {
+                return slash >= path.length();
+            }
+
+            Segment segment = segments[index];
+            if (segment.anyDirectories) {
+                int at = slash;
+                while (true) {
+                    if (matches(index + 1, path, at)) {
+                        return true;
+                    }
+                    if (at >= path.length()) {
+                        return false;
+                    }
+                    at = segmentEnd(path, at);
+                }
+            }
+
+            if (slash >= path.length()) {
+                return false;
+            }
+            int end = segmentEnd(path, slash);
+            return segment.matches(path, slash + 1, end) && matches(index + 1, path, end);
+        }
+    }
+
+    /**
+     * One pattern segment: {@code **}, a literal, a glob where URI variables match like
+     * {@code *}, or a regex for URI variables with their own expression.
+     */
+    private static final class Segment {
+
+        private final boolean anyDirectories;
+        private final String glob;
+        private final Pattern regex;
+
+        private Segment(boolean anyDirectories, String glob, Pattern regex) {
+            this.anyDirectories = anyDirectories;
+            this.glob = glob;
+            this.regex = regex;
+        }
+
+        static Segment of(String segment) {
+            if (segment.equals("**")) {
+                return new Segment(true, null, null);
+            }
+
+            StringBuilder glob = new StringBuilder();
+            StringBuilder regex = new StringBuilder();
+            boolean needsRegex = false;
+            int literalStart = 0;
+            for (int i = 0; i < segment.length(); i++) {
+                char c = segment.charAt(i);
+                int close = c == '{' ? segment.indexOf('}', i) : -1;
+                if (c == '*' || c == '?' || close > 0) {
+                    if (i > literalStart) {
+                        glob.append(segment, literalStart, i);
+                        regex.append(Pattern.quote(segment.substring(literalStart, i)));
+                    }
+                    if (close > 0) {
+                        int colon = segment.indexOf(':', i);
+                        if (colon > 0 && colon < close) {
+                            needsRegex = true;
+                            regex.append('(').append(segment, colon + 1, close).append(')');
+                        } else {
+                            regex.append("(.*)");
+                        }
+                        glob.append('*');
+                        i = close;
+                    } else {
+                        glob.append(c);
+                        regex.append(c == '*' ? ".*" : ".");
+                    }
+                    literalStart = i + 1;
+                }
+            }
+            if (literalStart < segment.length()) {
+                glob.append(segment, literalStart, segment.length());
+                regex.append(Pattern.quote(segment.substring(literalStart)));
+            }
+
+            return needsRegex
+                    ? new Segment(false, null, Pattern.compile(regex.toString()))
+                    : new Segment(false, glob.toString(), null);
+        }
+
+        boolean matches(String path, int start, int end) {
+            if (regex != null) {
+                return regex.matcher(path).region(start, end).matches();
+            }
+            return matchesGlob(path, start, end);
+        }
+
+        /**
+         * Matches {@code *} and {@code ?} against the path region without backtracking
+         * stacks or copies.
+         */
+        private boolean matchesGlob(String path, int start, int end) {
+            int g = 0;
+            int p = start;
+            int star = -1;
+            int mark = start;
+            while (p < end) {
+                if (g < glob.length() && (glob.charAt(g) == '?' || glob.charAt(g) == path.charAt(p))) {
+                    g++;
+                    p++;
+                } else if (g < glob.length() && glob.charAt(g) == '*') {
+                    star = g++;
+                    mark = p;
+                } else if (star >= 0) {
+                    g = star + 1;
+                    p = ++mark;
+                } else {
+                    return false;
+                }
+            }
+            while (g < glob.length() && glob.charAt(g) == '*') {
+                g++;
+            }
+            return g == glob.length();
+        }
+    }
+}
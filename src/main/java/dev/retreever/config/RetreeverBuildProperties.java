@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * Tuning options for the documentation build pipeline.
+ */
+@Component
+@ConfigurationProperties(prefix = "retreever.build")
+public class RetreeverBuildProperties {
+
+    public static final int SEQUENTIAL = 1;
+    public static final int UNLIMITED = 0;
+    public static final String MAPPINGS_ANNOTATIONS = "annotations";
+    public static final String MAPPINGS_HANDLER_MAPPINGS = "handler-mappings";
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverBuildProperties.class);
+
+    private int parallelism = SEQUENTIAL;
+    private boolean async;
+    private String snapshotDir;
+    private Boolean incremental;
+    private String mappings = MAPPINGS_ANNOTATIONS;
+    private int maxRenderDepth = UNLIMITED;
+    private int maxRenderNodes = UNLIMITED;
+    private boolean rebuildOnRefresh;
+    private boolean rebuildEndpoint;
+
+    /**
+     * Number of worker threads used to resolve controller schemas.
+     * {@code 1} keeps the build on the calling thread.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < SEQUENTIAL) {
+            log.warn(
+                    "Invalid Retreever build parallelism '{}'. Falling back to sequential resolution.",
+                    parallelism
+            );
+            this.parallelism = SEQUENTIAL;
+            return;
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Whether the documentation is built on a background thread after startup instead
+     * of inside the {@code ApplicationReadyEvent} listener. Until the build finishes,
+     * {@code /retreever/ping} reports {@code BUILDING} with its progress.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Directory where built documents are kept between restarts, keyed by a fingerprint
+     * of the documented classes and the Retreever configuration. When a snapshot with a
+     * matching fingerprint exists, startup loads it instead of resolving the
+     * documentation. {@code null} disables snapshots.
+     */
+    public String getSnapshotDir() {
+        return snapshotDir;
+    }
+
+    public void setSnapshotDir(String snapshotDir) {
+        this.snapshotDir = StringUtils.hasText(snapshotDir) ? snapshotDir.trim() : null;
+    }
+
+    /**
+     * Whether controller schemas are cached between builds in the same JVM, so a
+     * restart only resolves controllers whose classes changed. {@code null} enables it
+     * only when the application runs under the Spring Boot DevTools restart class
+     * loader.
+     */
+    public Boolean getIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(Boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Where endpoint paths, HTTP methods and media types come from: {@code annotations}
+     * reads the mapping annotations of each handler method, {@code handler-mappings}
+     * uses the routes Spring MVC registered, including every path and HTTP method of a
+     * handler and inherited handler methods.
+     */
+    public String getMappings() {
+        return mappings;
+    }
+
+    public void setMappings(String mappings) {
+        this.mappings = normalizeMappings(mappings);
+    }
+
+    public boolean isHandlerMappings() {
+        return MAPPINGS_HANDLER_MAPPINGS.equals(mappings);
+    }
+
+    /**
+     * Whether the documentation is rebuilt whenever a {@code ContextRefreshedEvent}
+     * reaches the application context after startup, including refreshes of child
+     * contexts.
+     */
+    public boolean isRebuildOnRefresh() {
+        return rebuildOnRefresh;
+    }
+
+    public void setRebuildOnRefresh(boolean rebuildOnRefresh) {
+        this.rebuildOnRefresh = rebuildOnRefresh;
+    }
+
+    /**
+     * Whether {@code POST /retreever/rebuild} is exposed to rebuild the documentation
+     * on demand. It is protected by Retreever auth like the other documentation
+     * endpoints.
+     */
+    public boolean isRebuildEndpoint() {
+        return rebuildEndpoint;
+    }
+
+    public void setRebuildEndpoint(boolean rebuildEndpoint) {
+        this.rebuildEndpoint = rebuildEndpoint;
+    }
+
+    /**
+     * Deepest nesting of objects, arrays and maps rendered into one schema view; deeper
+     * subtrees are replaced by expandable stubs. {@code 0} renders every level.
+     */
+    public int getMaxRenderDepth() {
+        return maxRenderDepth;
+    }
+
+    public void setMaxRenderDepth(int maxRenderDepth) {
+        this.maxRenderDepth = limit("max-render-depth", maxRenderDepth);
+    }
+
+    /**
+     * Most properties and elements rendered into one schema view; containers that no
+     * longer fit are replaced by expandable stubs. {@code 0} renders everything.
+     */
+    public int getMaxRenderNodes() {
+        return maxRenderNodes;
+    }
+
+    public void setMaxRenderNodes(int maxRenderNodes) {
+        this.maxRenderNodes = limit("max-render-nodes", maxRenderNodes);
+    }
+
+    private String normalizeMappings(String value) {
+        if (!StringUtils.hasText(value)) {
+            return MAPPINGS_ANNOTATIONS;
+        }
+
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (MAPPINGS_ANNOTATIONS.equals(normalized) || MAPPINGS_HANDLER_MAPPINGS.equals(normalized)) {
+            return normalized;
+        }
+
+        log.warn(
+                "Invalid Retreever build mappings '{}'. Falling back to '{}'.",
+                value,
+                MAPPINGS_ANNOTATIONS
+        );
+        return MAPPINGS_ANNOTATIONS;
+    }
+
+    private int limit(String name, int value) {
+        if (value < UNLIMITED) {
+            log.warn("Invalid Retreever build {} '{}'. Falling back to no limit.", name, value);
+            return UNLIMITED;
+        }
+        return value;
+    }
+}
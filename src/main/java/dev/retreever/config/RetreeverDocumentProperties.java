@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Options for how the built API document is served.
+ */
+@Component
+@ConfigurationProperties(prefix = "retreever.document")
+public class RetreeverDocumentProperties {
+
+    public static final String FORMAT_V1 = "v1";
+    public static final String FORMAT_V2 = "v2";
+    public static final String BINARY_CBOR = "cbor";
+    public static final String BINARY_SMILE = "smile";
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverDocumentProperties.class);
+
+    private boolean compression;
+    private boolean lazy;
+    private String format = FORMAT_V1;
+    private List<String> binaryFormats = List.of();
+
+    /**
+     * Whether gzip and deflate variants of the document are prepared once at build time
+     * and served according to {@code Accept-Encoding}.
+     */
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Whether controller schemas are resolved on first request of a group or endpoint
+     * instead of at startup.
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    /**
+     * Wire format of {@code /retreever/doc}: {@code v1} inlines every schema,
+     * {@code v2} renders each distinct schema once into a shared components table.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = normalizeFormat(format);
+    }
+
+    public boolean isComponentsFormat() {
+        return FORMAT_V2.equals(format);
+    }
+
+    /**
+     * Binary encodings ({@code cbor}, {@code smile}) encoded once per build next to the
+     * JSON document and served to clients that ask for them in {@code Accept}.
+     * Each one needs the matching {@code jackson-dataformat-*} module on the classpath.
+     */
+    public List<String> getBinaryFormats() {
+        return binaryFormats;
+    }
+
+    public void setBinaryFormats(List<String> binaryFormats) {
+        this.binaryFormats = normalizeBinaryFormats(binaryFormats);
+    }
+
+    private List<String> normalizeBinaryFormats(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+
+        List<String> normalized = new ArrayList<>();
+        for (String value : values) {
+            if (!StringUtils.hasText(value)) {
+                continue;
+            }
+
+            String format = value.trim().toLowerCase(Locale.ROOT);
+            if (!BINARY_CBOR.equals(format) && !BINARY_SMILE.equals(format)) {
+                log.warn("Invalid Retreever binary document format '{}'. Ignoring it.", value);
+            } else if (!normalized.contains(format)) {
+                normalized.add(format);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    private String normalizeFormat(String value) {
+        if (!StringUtils.hasText(value)) {
+            return FORMAT_V1;
+        }
+
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        if (FORMAT_V1.equals(normalized) || FORMAT_V2.equals(normalized)) {
+            return normalized;
+        }
+
+        log.warn(
+                "Invalid Retreever document format '{}'. Falling back to '{}'.",
+                value,
+                FORMAT_V1
+        );
+        return FORMAT_V1;
+    }
+}
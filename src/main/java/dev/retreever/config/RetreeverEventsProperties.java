@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+
+package dev.retreever.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Limits of the {@code /retreever/events} push channel.
+ */
+@Component
+@ConfigurationProperties(prefix = "retreever.events")
+public class RetreeverEventsProperties {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+    public static final Duration DEFAULT_HEARTBEAT = Duration.ofSeconds(25);
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final Logger log = LoggerFactory.getLogger(RetreeverEventsProperties.class);
+
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private Duration heartbeat = DEFAULT_HEARTBEAT;
+    private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+    /**
+     * Maximum number of open event streams. Further clients are answered with 503
+     * and keep polling {@code /retreever/ping}.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            log.warn(
+                    "Invalid Retreever events max-connections '{}'. Falling back to '{}'.",
+                    maxConnections,
+                    DEFAULT_MAX_CONNECTIONS
+            );
+            this.maxConnections = DEFAULT_MAX_CONNECTIONS;
+            return;
+        }
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Interval of the comment lines that keep proxies from closing quiet streams
+     * and reveal disconnected clients.
+     */
+    public Duration getHeartbeat() {
+        return heartbeat;
+    }
+
+    public void setHeartbeat(Duration heartbeat) {
+        this.heartbeat = positiveOrDefault("heartbeat", heartbeat, DEFAULT_HEARTBEAT);
+    }
+
+    /**
+     * How long a stream stays open without a documentation event. Browsers reconnect
+     * on their own after the stream is closed.
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = positiveOrDefault("idle-timeout", idleTimeout, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    private Duration positiveOrDefault(String name, Duration value, Duration fallback) {
+        if (value == null || value.isNegative() || value.isZero()) {
+            log.warn(
+                    "Invalid Retreever events {} '{}'. Falling back to '{}'.",
+                    name,
+                    value,
+                    fallback
+            );
+            return fallback;
+        }
+        return value;
+    }
+}
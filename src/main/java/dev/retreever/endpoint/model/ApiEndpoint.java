@@ -2,6 +2,7 @@ package dev.retreever.endpoint.model;
 
 import org.springframework.http.HttpStatus;
 
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +23,8 @@ import java.util.List;
  */
 public class ApiEndpoint {
 
+    private String id;
+    private Method handlerMethod;
     private String name;
     private String path;
     private String httpMethod;
@@ -57,6 +60,20 @@ public class ApiEndpoint {
     // Getters
     // ----------------------------------------------------------------
 
+    /**
+     * Stable identifier derived from the handler method signature.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Controller method this endpoint was resolved from.
+     */
+    public Method getHandlerMethod() {
+        return handlerMethod;
+    }
+
     public String getName() {
         return name;
     }
@@ -121,6 +138,14 @@ public class ApiEndpoint {
     // Mutators / Fluent setters
     // ----------------------------------------------------------------
 
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public void setHandlerMethod(Method handlerMethod) {
+        this.handlerMethod = handlerMethod;
+    }
+
     public ApiEndpoint setName(String name) {
         this.name = name;
         return this;
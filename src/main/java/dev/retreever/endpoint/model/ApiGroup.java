@@ -16,12 +16,24 @@ import java.util.List;
  */
 public class ApiGroup {
 
+    private String id;
     private String name;
     private String description;
     private List<ApiEndpoint> endpoints;
 
     private boolean deprecated = false;
 
+    /**
+     * Stable identifier derived from the controller class name.
+     */
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public String getName() {
         return name;
     }
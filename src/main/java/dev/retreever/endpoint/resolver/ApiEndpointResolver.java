@@ -1,11 +1,14 @@
 package dev.retreever.endpoint.resolver;
 
 import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.engine.DocumentIds;
+import dev.retreever.engine.HandlerMethodDescriptor;
 import dev.retreever.repo.ApiHeaderRegistry;
 import org.springframework.util.StringValueResolver;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
@@ -32,9 +35,15 @@ public class ApiEndpointResolver {
         this.valueResolver = valueResolver;
     }
 
+    public StringValueResolver getValueResolver() {
+        return valueResolver;
+    }
+
     public ApiEndpoint resolve(Method method) {
 
         ApiEndpoint ep = new ApiEndpoint();
+        ep.setId(DocumentIds.endpointId(method));
+        ep.setHandlerMethod(method);
 
         // 1. Metadata
         EndpointMetadataResolver.resolve(ep, method);
@@ -42,6 +51,51 @@ public class ApiEndpointResolver {
         // 2. Path + HTTP method
         EndpointPathAndMethodResolver.resolve(ep, method, valueResolver);
 
+        // 3-5. Content types, IO and errors
+        resolveIoAndErrors(ep, method, method.getAnnotation(dev.retreever.annotation.ApiEndpoint.class));
+
+        return ep;
+    }
+
+    /**
+     * Builds the endpoint from a descriptor, reusing the id, path, HTTP method and
+     * annotation it already read instead of inspecting the method again.
+     */
+    public ApiEndpoint resolve(HandlerMethodDescriptor descriptor) {
+        Method method = descriptor.getMethod();
+
+        ApiEndpoint ep = new ApiEndpoint();
+        ep.setId(descriptor.getId());
+        ep.setHandlerMethod(method);
+
+        // 1. Metadata
+        EndpointMetadataResolver.resolve(ep, method);
+
+        // 2. Path + HTTP method
+        EndpointPathAndMethodResolver.resolve(ep, descriptor.getPath(), descriptor.getHttpMethod());
+
+        // 3-5. Content types, IO and errors
+        resolveIoAndErrors(ep, method, descriptor.getEndpointAnnotation());
+
+        // Body types resolved against the routing controller replace the declared ones
+        ep.setResponseBodyType(descriptor.getReturnType());
+        if (!descriptor.getBodyTypes().isEmpty()) {
+            ep.setRequestBodyType(descriptor.getBodyTypes().get(0));
+        }
+
+        // Media types Spring routes by take precedence over inferred ones
+        if (!descriptor.getConsumes().isEmpty()) {
+            ep.setConsumes(new ArrayList<>(descriptor.getConsumes()));
+        }
+        if (!descriptor.getProduces().isEmpty()) {
+            ep.setProduces(new ArrayList<>(descriptor.getProduces()));
+        }
+
+        return ep;
+    }
+
+    private void resolveIoAndErrors(ApiEndpoint ep, Method method, dev.retreever.annotation.ApiEndpoint ann) {
+
         // 3. Consumes / Produces
         EndpointContentTypeResolver.resolve(ep, method);
 
@@ -49,15 +103,10 @@ public class ApiEndpointResolver {
         ioResolver.resolve(ep, method);
 
         // 5. Error types (NO resolving here, only store Types)
-        dev.retreever.annotation.ApiEndpoint ann =
-                method.getAnnotation(dev.retreever.annotation.ApiEndpoint.class);
-
         if (ann != null && ann.errors().length > 0) {
             Arrays.stream(ann.errors())
                     .map(c -> (Type) c)
                     .forEach(ep::addErrorType);
         }
-
-        return ep;
     }
 }
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import dev.retreever.endpoint.model.ApiEndpoint;
 
 import java.lang.reflect.Method;
+import java.util.regex.Pattern;
 
 /**
  * Resolves the final HTTP path and HTTP method for a controller method.
@@ -22,6 +23,7 @@ import java.lang.reflect.Method;
 public class EndpointPathAndMethodResolver {
 
     private static final StringValueResolver IDENTITY_VALUE_RESOLVER = value -> value;
+    private static final Pattern DUPLICATE_SLASHES = Pattern.compile("//+");
 
     /**
      * Populates the endpoint path and HTTP method based on Spring mapping annotations.
@@ -42,13 +44,18 @@ public class EndpointPathAndMethodResolver {
      * @param valueResolver Spring value resolver for embedded placeholders
      */
     public static void resolve(ApiEndpoint endpoint, Method method, StringValueResolver valueResolver) {
+        resolve(endpoint, resolvePath(method, valueResolver), resolveHttpMethod(method));
+    }
 
-        String classPath = resolveValue(resolveClassPath(method), valueResolver);
-        String methodPath = resolveValue(resolveMethodPath(method), valueResolver);
-        String httpMethod = resolveHttpMethod(method);
-
-        String fullPath = normalizePath(classPath, methodPath);
-        endpoint.setPath(fullPath);
+    /**
+     * Populates the endpoint from an already resolved path and HTTP method.
+     *
+     * @param endpoint   the endpoint model to fill
+     * @param path       the normalized full path
+     * @param httpMethod the declared HTTP method, or {@code null} to fall back to GET
+     */
+    public static void resolve(ApiEndpoint endpoint, String path, String httpMethod) {
+        endpoint.setPath(path);
 
         if (httpMethod == null) {
             httpMethod = "GET"; // safe fallback
@@ -56,6 +63,19 @@ public class EndpointPathAndMethodResolver {
         endpoint.setHttpMethod(httpMethod.toUpperCase());
     }
 
+    /**
+     * Resolves the full normalized path of a controller method, resolving Spring
+     * placeholder expressions in class and method mappings.
+     *
+     * @param method        the controller method
+     * @param valueResolver Spring value resolver for embedded placeholders
+     */
+    public static String resolvePath(Method method, StringValueResolver valueResolver) {
+        String classPath = resolveValue(resolveClassPath(method), valueResolver);
+        String methodPath = resolveValue(resolveMethodPath(method), valueResolver);
+        return normalizePath(classPath, methodPath);
+    }
+
     /**
      * Extracts class-level path from @RequestMapping on the controller class.
      */
@@ -140,7 +160,7 @@ public class EndpointPathAndMethodResolver {
         String combined = base + sub;
 
         // collapse "///" into "/"
-        return combined.replaceAll("//+", "/");
+        return DUPLICATE_SLASHES.matcher(combined).replaceAll("/");
     }
 
     private static String firstMappingPath(String[] valuePaths, String[] pathPaths) {
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.endpoint.model.ApiDoc;
+import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.ApiGroup;
+import dev.retreever.json.RetreeverJsonGenerator;
+import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.search.ApiSearchIndex;
+import dev.retreever.search.SchemaUsageIndex;
+import dev.retreever.view.ApiDocumentAssembler;
+import dev.retreever.view.ApiDocumentWriter;
+import dev.retreever.view.dto.ApiDocument;
+import dev.retreever.view.dto.ApiDocumentIndex;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Serves one documentation build piece by piece.
+ * <p>
+ * The catalog holds the resolved endpoint metadata and renders groups and endpoints
+ * the first time they are requested, caching every rendered piece. The full
+ * {@link ApiDocument} is assembled from the same cached pieces, so the index,
+ * per-id lookups and the full document always agree.
+ * <p>
+ * A catalog can also be {@linkplain #restore restored} from a previously rendered
+ * document and its indexes, in which case every piece is already rendered and nothing
+ * is resolved.
+ */
+public class ApiDocumentCatalog {
+
+    private final ApiDoc apiDoc;
+    private final Instant upTime;
+    private final ApiDocumentAssembler assembler;
+    private final Function<ApiEndpoint, ApiDocument.Endpoint> endpointRenderer;
+    private final ApiDocumentWriter writer;
+    private final ApiDocumentIndex index;
+
+    private final Map<String, ApiGroup> groups = new LinkedHashMap<>();
+    private final Map<String, ApiEndpoint> endpoints = new LinkedHashMap<>();
+    private final Map<String, ApiDocument.ApiGroup> renderedGroups = new ConcurrentHashMap<>();
+    private final Map<String, ApiDocument.Endpoint> renderedEndpoints = new ConcurrentHashMap<>();
+
+    private volatile ApiDocument document;
+    private volatile ApiSearchIndex searchIndex;
+    private volatile SchemaUsageIndex usageIndex;
+
+    /**
+     * @param endpointRenderer renders a single endpoint, resolving whatever it still needs
+     */
+    public ApiDocumentCatalog(ApiDoc apiDoc,
+                              Instant upTime,
+                              ApiDocumentAssembler assembler,
+                              Function<ApiEndpoint, ApiDocument.Endpoint> endpointRenderer) {
+        this(apiDoc, upTime, assembler, endpointRenderer, null);
+    }
+
+    /**
+     * @param endpointRenderer renders a single endpoint, resolving whatever it still needs
+     * @param writer           streams the full document from resolved metadata, or {@code null}
+     *                         when schemas are resolved on demand
+     */
+    public ApiDocumentCatalog(ApiDoc apiDoc,
+                              Instant upTime,
+                              ApiDocumentAssembler assembler,
+                              Function<ApiEndpoint, ApiDocument.Endpoint> endpointRenderer,
+                              ApiDocumentWriter writer) {
+        this.apiDoc = apiDoc;
+        this.upTime = upTime;
+        this.assembler = assembler;
+        this.endpointRenderer = endpointRenderer;
+        this.writer = writer;
+
+        for (ApiGroup group : apiDoc.getGroups()) {
+            groups.putIfAbsent(group.getId(), group);
+            for (ApiEndpoint endpoint : group.getEndpoints()) {
+                endpoints.putIfAbsent(endpoint.getId(), endpoint);
+            }
+        }
+        this.index = assembler.assembleIndex(apiDoc, upTime);
+    }
+
+    private ApiDocumentCatalog(ApiDocument document, ApiSearchIndex searchIndex, SchemaUsageIndex usageIndex) {
+        this.apiDoc = null;
+        this.upTime = document.upTime();
+        this.assembler = null;
+        this.endpointRenderer = null;
+        this.writer = null;
+
+        for (ApiDocument.ApiGroup group : document.groups()) {
+            renderedGroups.putIfAbsent(group.id(), group);
+            for (ApiDocument.Endpoint endpoint : group.endpoints()) {
+                renderedEndpoints.putIfAbsent(endpoint.id(), endpoint);
+            }
+        }
+        this.index = ApiDocumentAssembler.assembleIndex(document);
+        this.document = document;
+        this.searchIndex = searchIndex;
+        this.usageIndex = usageIndex;
+    }
+
+    /**
+     * Creates a catalog serving an already rendered document, e.g. one loaded from a
+     * snapshot. Stub expansion is not available on restored catalogs.
+     */
+    public static ApiDocumentCatalog restore(ApiDocument document,
+                                             ApiSearchIndex searchIndex,
+                                             SchemaUsageIndex usageIndex) {
+        return new ApiDocumentCatalog(document, searchIndex, usageIndex);
+    }
+
+    public ApiDocumentIndex index() {
+        return index;
+    }
+
+    /**
+     * Returns the fully rendered group, or {@code null} if no group has this id.
+     */
+    public ApiDocument.ApiGroup group(String id) {
+        ApiGroup group = groups.get(id);
+        if (group == null) {
+            return renderedGroups.get(id);
+        }
+        return renderedGroups.computeIfAbsent(id, key -> renderGroup(group));
+    }
+
+    /**
+     * Returns the fully rendered endpoint, or {@code null} if no endpoint has this id.
+     */
+    public ApiDocument.Endpoint endpoint(String id) {
+        ApiEndpoint endpoint = endpoints.get(id);
+        if (endpoint == null) {
+            return renderedEndpoints.get(id);
+        }
+        return renderedEndpoints.computeIfAbsent(id, key -> endpointRenderer.apply(endpoint));
+    }
+
+    /**
+     * Returns the full document, rendering every piece not rendered yet.
+     */
+    public ApiDocument document() {
+        ApiDocument current = document;
+        if (current == null) {
+            synchronized (this) {
+                current = document;
+                if (current == null) {
+                    current = assembler.assemble(apiDoc, upTime, group -> group(group.getId()));
+                    document = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the search index for this build, creating it on first use. Under lazy
+     * resolution this renders the full document first, so every schema is resolved.
+     */
+    public ApiSearchIndex searchIndex() {
+        ApiSearchIndex current = searchIndex;
+        if (current == null) {
+            synchronized (this) {
+                current = searchIndex;
+                if (current == null) {
+                    if (writer == null) {
+                        document();
+                    }
+                    current = assembler.assembleSearchIndex(apiDoc);
+                    searchIndex = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the reverse index from DTO classes to the endpoints and errors using them,
+     * creating it on first use. Under lazy resolution this renders the full document
+     * first, so every schema is resolved.
+     */
+    public SchemaUsageIndex usageIndex() {
+        SchemaUsageIndex current = usageIndex;
+        if (current == null) {
+            synchronized (this) {
+                current = usageIndex;
+                if (current == null) {
+                    if (writer == null) {
+                        document();
+                    }
+                    current = assembler.assembleUsageIndex(apiDoc);
+                    usageIndex = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Writes the full document to the generator. When the document has not been assembled
+     * yet and a writer is available, it is streamed without building the DTO.
+     */
+    public void writeDocument(RetreeverJsonGenerator generator) throws IOException {
+        ApiDocument current = document;
+        if (current == null && writer != null) {
+            writer.write(apiDoc, upTime, generator, assembler);
+        } else {
+            generator.writeObject(document());
+        }
+    }
+
+    /**
+     * Returns a schema subtree that was stubbed under the render budget, or {@code null}
+     * if no rendered piece of this build carries the token.
+     */
+    public Map<String, Object> expand(String token) {
+        return assembler != null ? assembler.expandStub(token) : null;
+    }
+
+    public Instant upTime() {
+        return upTime;
+    }
+
+    /**
+     * Returns the registry this build resolved its schemas into, or {@code null} for a
+     * restored catalog.
+     */
+    public SchemaRegistry schemaRegistry() {
+        return assembler != null ? assembler.getSchemaRegistry() : null;
+    }
+
+    private ApiDocument.ApiGroup renderGroup(ApiGroup group) {
+        return assembler.assembleGroup(group, endpoint -> endpoint(endpoint.getId()));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+
+package dev.retreever.engine;
+
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.support.Sha256;
+import dev.retreever.view.dto.ApiDocument;
+import dev.retreever.view.dto.ApiDocumentChanges;
+import dev.retreever.view.dto.ApiDocumentIndex;
+import dev.retreever.view.dto.ApiDocumentVersion;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Content hashes of one documentation build, used by clients to fetch only what changed.
+ * <p>
+ * Each group is hashed from its serialized form. The document hash covers the
+ * document-level fields and the ordered group hashes, but not {@code up_time}, so
+ * unchanged content hashes the same across rebuilds and restarts.
+ */
+public final class ApiDocumentHashes {
+
+    private static final int HASH_BYTES = 8;
+
+    private final ApiDocumentCatalog catalog;
+    private final String version;
+    private final Map<String, String> groups;
+
+    private ApiDocumentHashes(ApiDocumentCatalog catalog, String version, Map<String, String> groups) {
+        this.catalog = catalog;
+        this.version = version;
+        this.groups = groups;
+    }
+
+    /**
+     * Hashes every group of the catalog, rendering groups that were not rendered yet.
+     *
+     * @throws IllegalStateException if a group cannot be serialized
+     */
+    public static ApiDocumentHashes compute(ApiDocumentCatalog catalog, RetreeverJsonMapper jsonMapper) {
+        ApiDocumentIndex index = catalog.index();
+        MessageDigest document = Sha256.newDigest();
+        update(document, index.name());
+        update(document, index.description());
+        update(document, index.version());
+        update(document, index.uriPrefix());
+        update(document, String.valueOf(index.retreeverAuthEnabled()));
+        update(document, index.studioStorage());
+
+        Map<String, String> groups = new LinkedHashMap<>();
+        for (ApiDocumentIndex.Group outline : index.groups()) {
+            if (groups.containsKey(outline.id())) {
+                continue;
+            }
+            String hash = hash(serialize(catalog.group(outline.id()), jsonMapper));
+            groups.put(outline.id(), hash);
+            update(document, outline.id());
+            update(document, hash);
+        }
+
+        String version = Sha256.hex(document, HASH_BYTES);
+        return new ApiDocumentHashes(catalog, version, Collections.unmodifiableMap(groups));
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Returns group ids mapped to their hashes, in document order.
+     */
+    public Map<String, String> groups() {
+        return groups;
+    }
+
+    public ApiDocumentVersion toVersion() {
+        return new ApiDocumentVersion(version, groups);
+    }
+
+    /**
+     * Compares a client's version with this build and returns the groups it is missing.
+     */
+    public ApiDocumentChanges changesSince(ApiDocumentChanges.Since since) {
+        String knownVersion = since == null ? null : since.version();
+        if (version.equals(knownVersion)) {
+            return new ApiDocumentChanges(version, catalog.upTime(), false, null, null, null, null);
+        }
+
+        Map<String, String> known = since == null || since.groups() == null ? Map.of() : since.groups();
+        List<ApiDocument.ApiGroup> added = new ArrayList<>();
+        List<ApiDocument.ApiGroup> changed = new ArrayList<>();
+        for (Map.Entry<String, String> group : groups.entrySet()) {
+            String knownHash = known.get(group.getKey());
+            if (knownHash == null) {
+                added.add(catalog.group(group.getKey()));
+            } else if (!Objects.equals(knownHash, group.getValue())) {
+                changed.add(catalog.group(group.getKey()));
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (String id : known.keySet()) {
+            if (!groups.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+
+        return new ApiDocumentChanges(version, catalog.upTime(), true, groups, added, changed, removed);
+    }
+
+    private static byte[] serialize(ApiDocument.ApiGroup group, RetreeverJsonMapper jsonMapper) {
+        try {
+            return jsonMapper.writeValueAsBytes(group);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to serialize Retreever API group " + group.id() + ".", ex);
+        }
+    }
+
+    private static String hash(byte[] value) {
+        return Sha256.hex(value, HASH_BYTES);
+    }
+
+    /**
+     * Feeds a length-prefixed field, so adjacent fields cannot shift into each other.
+     */
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (value == null ? 0 : 1));
+        digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        digest.update((byte) ':');
+        digest.update(bytes);
+    }
+}
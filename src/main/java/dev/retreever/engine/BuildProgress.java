@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how far a documentation build has come, so it can be reported while the build
+ * runs in the background.
+ * <p>
+ * Each {@link Stage} covers a fixed share of the overall percentage. Stages that process
+ * a known number of items, such as schema resolution, advance within their share as
+ * items complete. Items may be completed from several threads.
+ */
+public final class BuildProgress {
+
+    private volatile Stage stage = Stage.QUEUED;
+    private volatile int total;
+    private final AtomicInteger completed = new AtomicInteger();
+
+    /**
+     * Moves the build to the next stage.
+     */
+    public void stage(Stage stage) {
+        this.total = 0;
+        this.completed.set(0);
+        this.stage = stage;
+    }
+
+    /**
+     * Sets the number of items the current stage will process.
+     */
+    public void total(int total) {
+        this.total = Math.max(0, total);
+    }
+
+    /**
+     * Records one processed item of the current stage.
+     */
+    public void advance() {
+        completed.incrementAndGet();
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the overall progress from {@code 0} to {@code 100}.
+     */
+    public int getPercent() {
+        Stage current = stage;
+        int items = total;
+        if (items == 0) {
+            return current.start;
+        }
+        int done = Math.min(completed.get(), items);
+        return current.start + (current.end - current.start) * done / items;
+    }
+
+    /**
+     * Steps of a documentation build, in order, with the share of the overall progress
+     * each one covers.
+     */
+    public enum Stage {
+        QUEUED(0, 0),
+        SCANNING(0, 5),
+        ERRORS(5, 10),
+        SCHEMAS(10, 70),
+        ENDPOINTS(70, 80),
+        RENDERING(80, 100);
+
+        private final int start;
+        private final int end;
+
+        Stage(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public String id() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -9,12 +9,16 @@
 package dev.retreever.engine;
 
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.BridgeMethodResolver;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -43,10 +47,39 @@ public class ControllerScanner {
                 .flatMap(m -> m.getHandlerMethods().values().stream())
                 .map(HandlerMethod::getBeanType)
                 .map(ControllerScanner::resolveTargetClass)
+                .distinct()
                 .filter(DocumentationEligibility::isDocumentedController)
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Collects the routes of every documented controller from all
+     * {@link RequestMappingHandlerMapping} beans, keyed by the user-declared handler
+     * method behind proxies and bridge methods.
+     *
+     * @param context the active Spring application context
+     * @return the registered routes by controller
+     */
+    public static RequestMappingIndex scanRequestMappings(ApplicationContext context) {
+
+        Map<Class<?>, Map<Method, RequestMappingInfo>> routes = new LinkedHashMap<>();
+        Map<Class<?>, Boolean> documented = new LinkedHashMap<>();
+
+        for (RequestMappingHandlerMapping mapping : context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            mapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+                Class<?> controller = resolveTargetClass(handlerMethod.getBeanType());
+                if (!documented.computeIfAbsent(controller, DocumentationEligibility::isDocumentedController)) {
+                    return;
+                }
+
+                Method method = BridgeMethodResolver.findBridgedMethod(handlerMethod.getMethod());
+                routes.computeIfAbsent(controller, key -> new LinkedHashMap<>()).putIfAbsent(method, info);
+            });
+        }
+
+        return new RequestMappingIndex(routes);
+    }
+
     /**
      * Discovers controller-advices that produce response bodies either through
      * {@link RestControllerAdvice}, class-level {@code @ResponseBody}, or
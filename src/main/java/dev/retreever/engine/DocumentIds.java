@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.support.Sha256;
+
+import java.lang.reflect.Method;
+
+/**
+ * Derives stable identifiers for documentation groups and endpoints.
+ * Ids depend only on class names and method signatures, so they survive restarts
+ * and stay valid in client caches while the code is unchanged.
+ */
+public final class DocumentIds {
+
+    private static final int ID_BYTES = 8;
+
+    private DocumentIds() {
+    }
+
+    /**
+     * Returns the id of the group documented from the given controller.
+     */
+    public static String groupId(Class<?> controllerClass) {
+        return hash(controllerClass.getName());
+    }
+
+    /**
+     * Returns the id of the endpoint documented from the given handler method.
+     */
+    public static String endpointId(Method method) {
+        return hash(signature(method));
+    }
+
+    /**
+     * Returns the id of one route of a handler method that is routed under several
+     * paths or HTTP methods.
+     */
+    public static String endpointId(Method method, String httpMethod, String path) {
+        return hash(signature(method) + ' ' + httpMethod + ' ' + path);
+    }
+
+    /**
+     * Returns the id of the endpoint a controller routes to the handler method. A method
+     * the controller inherits is identified together with the controller, so
+     * controllers sharing a base class get distinct ids; declared methods keep the id
+     * of {@link #endpointId(Method)}.
+     */
+    public static String endpointId(Class<?> controllerClass, Method method) {
+        return hash(signature(controllerClass, method));
+    }
+
+    /**
+     * Returns the id of one route a controller maps the handler method under, when it
+     * is routed under several paths or HTTP methods.
+     */
+    public static String endpointId(Class<?> controllerClass, Method method, String httpMethod, String path) {
+        return hash(signature(controllerClass, method) + ' ' + httpMethod + ' ' + path);
+    }
+
+    private static String signature(Class<?> controllerClass, Method method) {
+        if (controllerClass == null || controllerClass == method.getDeclaringClass()) {
+            return signature(method);
+        }
+        return controllerClass.getName() + '>' + signature(method);
+    }
+
+    private static String signature(Method method) {
+        StringBuilder signature = new StringBuilder()
+                .append(method.getDeclaringClass().getName())
+                .append('#')
+                .append(method.getName())
+                .append('(');
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) signature.append(',');
+            signature.append(parameterTypes[i].getName());
+        }
+
+        return signature.append(')').toString();
+    }
+
+    private static String hash(String value) {
+        return Sha256.hex(value, ID_BYTES);
+    }
+}
@@ -18,6 +18,7 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
 /**
  * Centralizes the rules that decide whether a controller or advice contributes
@@ -38,6 +39,19 @@ public final class DocumentationEligibility {
     }
 
     public static boolean isDocumentedController(Class<?> controllerClass) {
+        return isDocumentedController(controllerClass, () -> Arrays.stream(controllerClass.getDeclaredMethods())
+                .anyMatch(DocumentationEligibility::isDocumentedControllerMethod));
+    }
+
+    /**
+     * Same as {@link #isDocumentedController(Class)} for callers that already know
+     * whether the class declares a documented handler method.
+     */
+    public static boolean isDocumentedController(Class<?> controllerClass, boolean hasDocumentedMethods) {
+        return isDocumentedController(controllerClass, () -> hasDocumentedMethods);
+    }
+
+    private static boolean isDocumentedController(Class<?> controllerClass, BooleanSupplier hasDocumentedMethods) {
         if (controllerClass == null) {
             return false;
         }
@@ -58,17 +72,23 @@ public final class DocumentationEligibility {
             return true;
         }
 
-        return Arrays.stream(controllerClass.getDeclaredMethods())
-                .anyMatch(DocumentationEligibility::isDocumentedControllerMethod);
+        return hasDocumentedMethods.getAsBoolean();
     }
 
     public static boolean isDocumentedControllerMethod(Method method) {
-        if (method == null || hasAnnotation(method, RetreeverSkip.class) ||
-                hasAnnotation(method.getDeclaringClass(), RetreeverSkip.class) || !isRequestMappingMethod(method)) {
+        return method != null && isDocumentedControllerMethod(method.getDeclaringClass(), method);
+    }
+
+    /**
+     * Same as {@link #isDocumentedControllerMethod(Method)} for a handler method the
+     * controller may have inherited, judged by the controller's own annotations.
+     */
+    public static boolean isDocumentedControllerMethod(Class<?> controllerClass, Method method) {
+        if (method == null || controllerClass == null || hasAnnotation(method, RetreeverSkip.class) ||
+                hasAnnotation(controllerClass, RetreeverSkip.class) || !isRequestMappingMethod(method)) {
             return false;
         }
 
-        Class<?> controllerClass = method.getDeclaringClass();
         if (hasAnnotation(controllerClass, RestController.class)) {
             return true;
         }
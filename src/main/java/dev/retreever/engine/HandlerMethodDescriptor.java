@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.annotation.ApiEndpoint;
+import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
+import dev.retreever.schema.model.JsonPropertyType;
+import dev.retreever.schema.resolver.JsonPropertyTypeResolver;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Everything the build needs to know about one documented handler method, read once.
+ * <p>
+ * Descriptors are created by {@link HandlerMethodDescriptors} only for methods that
+ * pass {@link DocumentationEligibility#isDocumentedControllerMethod(Method)}, so holding
+ * one means the method is documented. The path has its placeholders resolved and is
+ * normalized; exclusion rules and endpoint resolution use it as is. When documentation
+ * is driven by Spring's handler mappings, a method has one descriptor per route.
+ * <p>
+ * A descriptor belongs to the controller that routes the method, which may inherit it.
+ * Return and body types are resolved against that controller, so type variables of a
+ * generic base controller become the types the subclass binds them to.
+ */
+public final class HandlerMethodDescriptor {
+
+    private final Class<?> controllerClass;
+    private final Method method;
+    private final String id;
+    private final String path;
+    private final String httpMethod;
+    private final Type returnType;
+    private final List<Type> bodyTypes;
+    private final ApiEndpoint endpointAnnotation;
+    private final List<String> consumes;
+    private final List<String> produces;
+
+    private HandlerMethodDescriptor(Class<?> controllerClass,
+                                    Method method,
+                                    String id,
+                                    String path,
+                                    String httpMethod,
+                                    List<Type> bodyTypes,
+                                    List<String> consumes,
+                                    List<String> produces) {
+        this.controllerClass = controllerClass;
+        this.method = method;
+        this.id = id;
+        this.path = path;
+        this.httpMethod = httpMethod;
+        this.returnType = GenericTypeResolver.resolveType(method.getGenericReturnType(), controllerClass);
+        this.bodyTypes = bodyTypes;
+        this.endpointAnnotation = method.getAnnotation(ApiEndpoint.class);
+        this.consumes = consumes;
+        this.produces = produces;
+    }
+
+    /**
+     * Reads the descriptor of a documented handler method from its mapping annotations.
+     */
+    static HandlerMethodDescriptor of(Class<?> controllerClass, Method method, StringValueResolver valueResolver) {
+        return new HandlerMethodDescriptor(
+                controllerClass,
+                method,
+                DocumentIds.endpointId(controllerClass, method),
+                EndpointPathAndMethodResolver.resolvePath(method, valueResolver),
+                EndpointPathAndMethodResolver.resolveHttpMethod(method),
+                bodyTypes(controllerClass, method),
+                List.of(),
+                List.of()
+        );
+    }
+
+    /**
+     * Reads one descriptor per path and HTTP method Spring routes the handler method
+     * under. A method with a single route keeps the id it has in annotation mode.
+     */
+    static List<HandlerMethodDescriptor> of(Class<?> controllerClass, Method method, RequestMappingInfo mapping) {
+        Set<String> paths = new TreeSet<>();
+        mapping.getPatternValues().forEach(pattern -> paths.add(StringUtils.hasText(pattern) ? pattern : "/"));
+        if (paths.isEmpty()) {
+            paths.add("/");
+        }
+
+        List<String> httpMethods = new ArrayList<>();
+        new TreeSet<>(mapping.getMethodsCondition().getMethods()).forEach(httpMethod -> httpMethods.add(httpMethod.name()));
+        if (httpMethods.isEmpty()) {
+            httpMethods.add(null);
+        }
+
+        List<Type> bodyTypes = bodyTypes(controllerClass, method);
+        List<String> consumes = mediaTypes(mapping.getConsumesCondition().getConsumableMediaTypes());
+        List<String> produces = mediaTypes(mapping.getProducesCondition().getProducibleMediaTypes());
+        boolean single = paths.size() == 1 && httpMethods.size() == 1;
+
+        List<HandlerMethodDescriptor> routes = new ArrayList<>();
+        for (String path : paths) {
+            for (String httpMethod : httpMethods) {
+                String id = single
+                        ? DocumentIds.endpointId(controllerClass, method)
+                        : DocumentIds.endpointId(controllerClass, method, httpMethod, path);
+                routes.add(new HandlerMethodDescriptor(
+                        controllerClass, method, id, path, httpMethod, bodyTypes, consumes, produces));
+            }
+        }
+        return routes;
+    }
+
+    /**
+     * The controller that routes to the method, which may inherit it from a base class.
+     */
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The full request path, with placeholders resolved.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * The declared HTTP method, or {@code null} for a {@code @RequestMapping} that
+     * does not restrict it.
+     */
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * The generic return type, resolved against the routing controller.
+     */
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * Generic types of the parameters that bind to an object, such as request bodies
+     * and model attributes, resolved against the routing controller.
+     */
+    public List<Type> getBodyTypes() {
+        return bodyTypes;
+    }
+
+    /**
+     * The Retreever {@link ApiEndpoint} annotation on the method, or {@code null}.
+     */
+    public ApiEndpoint getEndpointAnnotation() {
+        return endpointAnnotation;
+    }
+
+    /**
+     * Media types the route is restricted to consume, or an empty list when they are
+     * read from the mapping annotations instead.
+     */
+    public List<String> getConsumes() {
+        return consumes;
+    }
+
+    /**
+     * Media types the route is restricted to produce, or an empty list when they are
+     * read from the mapping annotations instead.
+     */
+    public List<String> getProduces() {
+        return produces;
+    }
+
+    private static List<String> mediaTypes(Set<MediaType> mediaTypes) {
+        return mediaTypes.stream().map(MediaType::toString).toList();
+    }
+
+    private static List<Type> bodyTypes(Class<?> controllerClass, Method method) {
+        List<Type> types = new ArrayList<>();
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            Class<?> parameterType = ResolvableType.forMethodParameter(method, i, controllerClass).resolve(parameters[i].getType());
+            if (JsonPropertyTypeResolver.resolve(parameterType) == JsonPropertyType.OBJECT) {
+                types.add(GenericTypeResolver.resolveType(parameters[i].getParameterizedType(), controllerClass));
+            }
+        }
+        return List.copyOf(types);
+    }
+}
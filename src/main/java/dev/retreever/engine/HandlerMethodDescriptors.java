@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import org.springframework.util.StringValueResolver;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads the documented handler methods of each controller once per build and hands
+ * the same descriptors to every stage that needs them: schema resolution, exclusion
+ * checks and endpoint resolution.
+ * <p>
+ * Descriptors come from the mapping annotations of each declared method, or, after
+ * {@link #reset(RequestMappingIndex)} with an index, from the routes Spring MVC
+ * registered.
+ */
+public final class HandlerMethodDescriptors {
+
+    private final StringValueResolver valueResolver;
+    private final Map<Class<?>, List<HandlerMethodDescriptor>> descriptors = new ConcurrentHashMap<>();
+    private volatile RequestMappingIndex mappings;
+
+    public HandlerMethodDescriptors(StringValueResolver valueResolver) {
+        this.valueResolver = valueResolver;
+    }
+
+    /**
+     * Returns the documented handler methods of the controller, in declaration or
+     * registration order. The list is empty for classes that are not documented
+     * controllers.
+     */
+    public List<HandlerMethodDescriptor> of(Class<?> controllerClass) {
+        if (controllerClass == null) {
+            return List.of();
+        }
+        return descriptors.computeIfAbsent(controllerClass, this::extract);
+    }
+
+    /**
+     * Returns the descriptor with the given endpoint id among the controllers read so
+     * far in this build, or {@code null} when none matches.
+     */
+    public HandlerMethodDescriptor find(String endpointId) {
+        if (endpointId == null) {
+            return null;
+        }
+        for (List<HandlerMethodDescriptor> methods : descriptors.values()) {
+            for (HandlerMethodDescriptor method : methods) {
+                if (endpointId.equals(method.getId())) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Forgets every descriptor, so the next build reads the controllers again.
+     */
+    public void clear() {
+        reset(null);
+    }
+
+    /**
+     * Forgets every descriptor and reads the next ones from Spring's registered routes,
+     * or from mapping annotations when {@code mappings} is {@code null}.
+     */
+    public void reset(RequestMappingIndex mappings) {
+        this.mappings = mappings;
+        descriptors.clear();
+    }
+
+    private List<HandlerMethodDescriptor> extract(Class<?> controllerClass) {
+        RequestMappingIndex routes = mappings;
+        List<HandlerMethodDescriptor> methods = new ArrayList<>();
+        if (routes != null) {
+            routes.routes(controllerClass).forEach((method, mapping) -> {
+                if (DocumentationEligibility.isDocumentedControllerMethod(controllerClass, method)) {
+                    methods.addAll(HandlerMethodDescriptor.of(controllerClass, method, mapping));
+                }
+            });
+            return List.copyOf(methods);
+        }
+
+        for (Method method : controllerClass.getDeclaredMethods()) {
+            if (DocumentationEligibility.isDocumentedControllerMethod(method)) {
+                methods.add(HandlerMethodDescriptor.of(controllerClass, method, valueResolver));
+            }
+        }
+        return List.copyOf(methods);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The routes Spring MVC registered for each documented controller, as collected by
+ * {@link ControllerScanner#scanRequestMappings}. Each handler method maps to the
+ * {@link RequestMappingInfo} Spring routes it with, so its patterns already have
+ * placeholders and path prefixes applied.
+ */
+public final class RequestMappingIndex {
+
+    private final Map<Class<?>, Map<Method, RequestMappingInfo>> routes;
+
+    RequestMappingIndex(Map<Class<?>, Map<Method, RequestMappingInfo>> routes) {
+        Map<Class<?>, Map<Method, RequestMappingInfo>> copy = new LinkedHashMap<>();
+        routes.forEach((controller, methods) -> copy.put(controller, Collections.unmodifiableMap(new LinkedHashMap<>(methods))));
+        this.routes = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * Returns the documented controllers that have at least one route.
+     */
+    public Set<Class<?>> controllers() {
+        return routes.keySet();
+    }
+
+    /**
+     * Returns the routed handler methods of the controller in registration order, or an
+     * empty map if Spring registered none.
+     */
+    public Map<Method, RequestMappingInfo> routes(Class<?> controllerClass) {
+        return routes.getOrDefault(controllerClass, Map.of());
+    }
+}
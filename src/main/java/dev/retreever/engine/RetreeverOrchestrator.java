@@ -8,12 +8,15 @@
 
 package dev.retreever.engine;
 
+import dev.retreever.config.RetreeverBuildProperties;
 import dev.retreever.config.RetreeverDocumentationExclusionProperties;
 import dev.retreever.auth.RetreeverAuthProperties;
 import dev.retreever.auth.RetreeverAuthenticationService;
 import dev.retreever.config.RetreeverStudioProperties;
 import dev.retreever.config.SchemaConfig;
 import dev.retreever.doc.resolver.ApiDocResolver;
+import dev.retreever.endpoint.model.ApiDoc;
+import dev.retreever.endpoint.model.ApiEndpoint;
 import dev.retreever.endpoint.model.ApiHeader;
 import dev.retreever.endpoint.resolver.ApiEndpointResolver;
 import dev.retreever.group.resolver.ApiGroupResolver;
@@ -21,22 +24,33 @@ import dev.retreever.repo.ApiErrorRegistry;
 import dev.retreever.repo.ApiHeaderRegistry;
 import dev.retreever.repo.SchemaRegistry;
 import dev.retreever.view.ApiDocumentAssembler;
+import dev.retreever.view.ApiDocumentWriter;
+import dev.retreever.view.SchemaRenderBudget;
 import dev.retreever.view.dto.ApiDocument;
 import org.springframework.util.StringValueResolver;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Top-level orchestrator coordinating the complete Retreever documentation pipeline.
  * Executes in precise order: Errors → Schemas → Endpoints → Document Assembly.
+ * <p>
+ * Every build resolves into its own schema and error registries, so a catalog keeps
+ * rendering from the registries it was built with while a later build runs.
  */
 public class RetreeverOrchestrator {
 
-    private final ApiErrorResolutionOrchestrator apiErrorResolutionOrchestrator;
-    private final SchemaResolutionOrchestrator schemaResolutionOrchestrator;
-    private final ApiDocumentAssembler assembler;
-    private final ApiDocResolver docResolver;
+    private final ApiEndpointResolver endpointResolver;
+    private final RetreeverDocumentationExclusionProperties exclusionProperties;
+    private final StringValueResolver valueResolver;
+    private final int parallelism;
+    private final SchemaResolutionCache schemaCache;
+    private final RetreeverAuthenticationService authenticationService;
+    private final RetreeverStudioProperties studioProperties;
+    private final SchemaRenderBudget renderBudget;
     private final List<String> basePackages; // ✅ Singleton
 
     public List<String> getBasePackages() {
@@ -70,37 +84,54 @@ public class RetreeverOrchestrator {
             RetreeverAuthenticationService authenticationService,
             RetreeverStudioProperties studioProperties,
             StringValueResolver valueResolver) {
+        this(basePackages, headers, exclusionProperties, authProperties, authenticationService, studioProperties,
+                valueResolver, new RetreeverBuildProperties());
+    }
+
+    public RetreeverOrchestrator(
+            List<String> basePackages,
+            List<ApiHeader> headers,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            RetreeverAuthProperties authProperties,
+            RetreeverAuthenticationService authenticationService,
+            RetreeverStudioProperties studioProperties,
+            StringValueResolver valueResolver,
+            RetreeverBuildProperties buildProperties) {
+        this(basePackages, headers, exclusionProperties, authProperties, authenticationService, studioProperties,
+                valueResolver, buildProperties, null);
+    }
+
+    public RetreeverOrchestrator(
+            List<String> basePackages,
+            List<ApiHeader> headers,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            RetreeverAuthProperties authProperties,
+            RetreeverAuthenticationService authenticationService,
+            RetreeverStudioProperties studioProperties,
+            StringValueResolver valueResolver,
+            RetreeverBuildProperties buildProperties,
+            SchemaResolutionCache schemaCache) {
         this.basePackages = basePackages;
 
         // 1. Initialise config
         SchemaConfig.init(basePackages);
 
-        // 2. Registries (singletons where applicable)
-        ApiErrorRegistry errorRegistry = ApiErrorRegistry.getInstance(); // ✅ Singleton
+        // 2. Headers (schema and error registries are created per build, see buildCatalog)
         ApiHeaderRegistry headerRegistry = ApiHeaderRegistry.init(headers);
-        SchemaRegistry schemaRegistry = SchemaRegistry.getInstance();
 
         // 3. Resolver chain (endpoint → group → doc)
-        ApiEndpointResolver endpointResolver = new ApiEndpointResolver(headerRegistry, valueResolver);
-        ApiGroupResolver groupResolver = new ApiGroupResolver(endpointResolver, exclusionProperties);
-
-        // 4. Orchestrators & Assemblers
-        this.apiErrorResolutionOrchestrator = new ApiErrorResolutionOrchestrator(errorRegistry);
-        this.schemaResolutionOrchestrator = new SchemaResolutionOrchestrator(
-                schemaRegistry,
-                exclusionProperties,
-                valueResolver
-        );
-        RetreeverAuthenticationService resolvedAuthenticationService = authenticationService != null
+        this.exclusionProperties = exclusionProperties;
+        this.valueResolver = valueResolver;
+        this.endpointResolver = new ApiEndpointResolver(headerRegistry, valueResolver);
+
+        // 4. Settings of the orchestrators & assemblers each build creates
+        this.parallelism = buildProperties.getParallelism();
+        this.schemaCache = schemaCache;
+        this.authenticationService = authenticationService != null
                 ? authenticationService
                 : new RetreeverAuthenticationService(authProperties, List.of());
-        this.assembler = new ApiDocumentAssembler(
-                schemaRegistry,
-                errorRegistry,
-                resolvedAuthenticationService,
-                studioProperties
-        );
-        this.docResolver = new ApiDocResolver(groupResolver);
+        this.studioProperties = studioProperties;
+        this.renderBudget = SchemaRenderBudget.of(buildProperties.getMaxRenderDepth(), buildProperties.getMaxRenderNodes());
     }
 
     /**
@@ -113,18 +144,88 @@ public class RetreeverOrchestrator {
     public ApiDocument build(Class<?> applicationClass,
                              Set<Class<?>> controllers,
                              Set<Class<?>> controllerAdvices) {
+        return buildCatalog(applicationClass, controllers, controllerAdvices, false).document();
+    }
+
+    /**
+     * Runs the pipeline up to endpoint resolution and returns a catalog that renders the
+     * document piece by piece.
+     * <p>
+     * When {@code lazy} is set, controller schemas are not resolved up front; each endpoint
+     * resolves its own schemas the first time it is rendered. Errors and exception handler
+     * schemas are always resolved eagerly because any endpoint may reference them.
+     */
+    public ApiDocumentCatalog buildCatalog(Class<?> applicationClass,
+                                          Set<Class<?>> controllers,
+                                          Set<Class<?>> controllerAdvices,
+                                          boolean lazy) {
+        return buildCatalog(applicationClass, controllers, controllerAdvices, lazy, new BuildProgress());
+    }
+
+    /**
+     * Same as {@link #buildCatalog(Class, Set, Set, boolean)}, reporting each step to
+     * {@code progress}.
+     */
+    public ApiDocumentCatalog buildCatalog(Class<?> applicationClass,
+                                          Set<Class<?>> controllers,
+                                          Set<Class<?>> controllerAdvices,
+                                          boolean lazy,
+                                          BuildProgress progress) {
+        return buildCatalog(applicationClass, controllers, controllerAdvices, lazy, progress, null);
+    }
+
+    /**
+     * Same as {@link #buildCatalog(Class, Set, Set, boolean, BuildProgress)}, taking
+     * endpoint paths, HTTP methods and media types from the routes Spring MVC registered
+     * when {@code mappings} is not {@code null}.
+     */
+    public ApiDocumentCatalog buildCatalog(Class<?> applicationClass,
+                                          Set<Class<?>> controllers,
+                                          Set<Class<?>> controllerAdvices,
+                                          boolean lazy,
+                                          BuildProgress progress,
+                                          RequestMappingIndex mappings) {
+
+        // Fresh registries, so the published document is untouched until this build replaces it
+        SchemaRegistry schemaRegistry = SchemaRegistry.create();
+        ApiErrorRegistry errorRegistry = ApiErrorRegistry.create();
+
+        // Handler methods are read once per build and shared by the steps below
+        HandlerMethodDescriptors descriptors = new HandlerMethodDescriptors(valueResolver);
+        descriptors.reset(mappings);
+        SchemaResolutionOrchestrator schemaResolution = new SchemaResolutionOrchestrator(
+                schemaRegistry, exclusionProperties, parallelism, schemaCache, descriptors);
+        ApiDocResolver docResolver = new ApiDocResolver(
+                new ApiGroupResolver(endpointResolver, exclusionProperties, descriptors)
+        );
 
         // === STEP 1: RESOLVE API ERRORS ===
-        apiErrorResolutionOrchestrator.resolveAllErrors(controllerAdvices);
+        progress.stage(BuildProgress.Stage.ERRORS);
+        new ApiErrorResolutionOrchestrator(errorRegistry).resolveAllErrors(controllerAdvices);
 
-        // === STEP 2: RESOLVE SCHEMAS ===
-        schemaResolutionOrchestrator.resolveAllSchema(applicationClass, controllers, controllerAdvices);
+        // === STEP 2: RESOLVE SCHEMAS (controllers deferred in lazy mode) ===
+        progress.stage(BuildProgress.Stage.SCHEMAS);
+        if (lazy) {
+            schemaResolution.resolveAdviceSchemas(controllerAdvices);
+        } else {
+            schemaResolution.resolveAllSchema(applicationClass, controllers, controllerAdvices, progress);
+        }
 
         // === STEP 3: RESOLVE ENDPOINTS & DOCUMENT ===
-        dev.retreever.endpoint.model.ApiDoc apiDoc =
-                docResolver.resolve(applicationClass, controllers);
-
-        // === STEP 4: ASSEMBLE FINAL DTO ===
-        return assembler.assemble(apiDoc);
+        progress.stage(BuildProgress.Stage.ENDPOINTS);
+        ApiDoc apiDoc = docResolver.resolve(applicationClass, controllers);
+
+        // === STEP 4: ASSEMBLE ON DEMAND (rendered pieces shared within this build) ===
+        ApiDocumentAssembler buildAssembler = new ApiDocumentAssembler(
+                schemaRegistry, errorRegistry, authenticationService, studioProperties, renderBudget);
+        Function<ApiEndpoint, ApiDocument.Endpoint> endpointRenderer = lazy
+                ? endpoint -> {
+                    schemaResolution.resolveEndpointSchemas(endpoint);
+                    return buildAssembler.assembleEndpoint(endpoint);
+                }
+                : buildAssembler::assembleEndpoint;
+
+        return new ApiDocumentCatalog(apiDoc, Instant.now(), buildAssembler, endpointRenderer,
+                lazy ? null : new ApiDocumentWriter(schemaRegistry, errorRegistry, authenticationService, studioProperties));
     }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.engine;
+
+import dev.retreever.schema.model.Schema;
+import dev.retreever.support.Sha256;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the resolved schemas of each controller across application restarts, so a
+ * restart only resolves the controllers whose code changed.
+ * <p>
+ * Entries are keyed by controller name and hold the schemas together with a hash of
+ * the bytecode they were resolved from: the controller and every class its schemas
+ * reached, each with its superclasses and interfaces. An entry is reused only when
+ * the same classes, loaded again, still hash the same. Classes are held by name only,
+ * so entries never pin the class loader of an earlier restart.
+ * <p>
+ * The {@linkplain #shared(String) shared} instance lives as long as the class loader
+ * that loaded Retreever, which outlives the restart class loader of Spring Boot
+ * DevTools. Entries are dropped whenever the configuration key changes.
+ */
+public final class SchemaResolutionCache {
+
+    private static final SchemaResolutionCache SHARED = new SchemaResolutionCache();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private String configurationKey;
+
+    SchemaResolutionCache() {
+    }
+
+    /**
+     * Returns the process-wide cache, emptied first if it was filled under a different
+     * configuration.
+     *
+     * @param configurationKey identifies every setting that shapes resolved schemas
+     */
+    public static SchemaResolutionCache shared(String configurationKey) {
+        SHARED.configure(configurationKey);
+        return SHARED;
+    }
+
+    synchronized void configure(String configurationKey) {
+        if (!Objects.equals(this.configurationKey, configurationKey)) {
+            entries.clear();
+            this.configurationKey = configurationKey;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the cached schemas of the controller by type name, or {@code null} if
+     * nothing is cached or any class they were resolved from has changed.
+     */
+    Map<String, Cached> get(Class<?> controller) {
+        Entry entry = entries.get(controller.getName());
+        if (entry == null) {
+            return null;
+        }
+
+        Set<Class<?>> classes = load(entry.classNames, controller.getClassLoader());
+        if (classes == null || !Arrays.equals(entry.fingerprint, fingerprint(controller, classes))) {
+            entries.remove(controller.getName(), entry);
+            return null;
+        }
+
+        Map<String, Cached> schemas = new LinkedHashMap<>();
+        entry.schemas.forEach((typeName, cached) -> {
+            Set<Class<?>> reached = load(cached.classNames, controller.getClassLoader());
+            schemas.put(typeName, new Cached(cached.schema, reached != null ? reached : Set.of()));
+        });
+        return schemas;
+    }
+
+    /**
+     * Stores the schemas just resolved for the controller.
+     */
+    void put(Class<?> controller, Map<String, Cached> schemas) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Map<String, StoredSchema> stored = new LinkedHashMap<>();
+        schemas.forEach((typeName, cached) -> {
+            classes.addAll(cached.classes());
+            stored.put(typeName, new StoredSchema(cached.schema(), names(cached.classes())));
+        });
+
+        byte[] fingerprint = fingerprint(controller, classes);
+        if (fingerprint != null) {
+            entries.put(controller.getName(), new Entry(fingerprint, names(classes), stored));
+        }
+    }
+
+    /**
+     * Hashes the bytecode of the controller and the classes, each with its supertypes,
+     * or returns {@code null} if some bytecode cannot be read.
+     */
+    static byte[] fingerprint(Class<?> controller, Set<Class<?>> classes) {
+        Set<Class<?>> all = new LinkedHashSet<>(classes);
+        all.add(controller);
+        return fingerprint(all);
+    }
+
+    /**
+     * Hashes the bytecode of the classes, each with its supertypes, in name order.
+     * Platform classes are skipped. Returns {@code null} if some bytecode cannot be read.
+     */
+    public static byte[] fingerprint(Collection<Class<?>> classes) {
+        Map<String, Class<?>> hierarchy = new TreeMap<>();
+        classes.forEach(type -> addHierarchy(type, hierarchy));
+
+        MessageDigest digest = Sha256.newDigest();
+        for (Class<?> type : hierarchy.values()) {
+            byte[] bytes = bytecode(type);
+            if (bytes == null) {
+                return null;
+            }
+            Sha256.update(digest, type.getName());
+            digest.update(bytes);
+        }
+        return digest.digest();
+    }
+
+    private static void addHierarchy(Class<?> type, Map<String, Class<?>> hierarchy) {
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.poll();
+            if (current == null || current.isPrimitive() || current.isArray() || isPlatformClass(current)
+                    || hierarchy.putIfAbsent(current.getName(), current) != null) {
+                continue;
+            }
+            pending.add(current.getSuperclass());
+            pending.addAll(Arrays.asList(current.getInterfaces()));
+        }
+    }
+
+    private static boolean isPlatformClass(Class<?> type) {
+        return type.getClassLoader() == null || type.getName().startsWith("java.");
+    }
+
+    private static byte[] bytecode(Class<?> type) {
+        String resource = type.getName().replace('.', '/') + ".class";
+        try (InputStream in = type.getClassLoader().getResourceAsStream(resource)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private static Set<Class<?>> load(Set<String> names, ClassLoader loader) {
+        Set<Class<?>> classes = new HashSet<>();
+        for (String name : names) {
+            try {
+                classes.add(Class.forName(name, false, loader));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                return null;
+            }
+        }
+        return classes;
+    }
+
+    private static Set<String> names(Set<Class<?>> classes) {
+        Set<String> names = new TreeSet<>();
+        classes.forEach(type -> names.add(type.getName()));
+        return Set.copyOf(names);
+    }
+
+    /**
+     * A resolved root schema and the object and enum classes it contains.
+     */
+    record Cached(Schema schema, Set<Class<?>> classes) {
+    }
+
+    private record StoredSchema(Schema schema, Set<String> classNames) {
+    }
+
+    private record Entry(byte[] fingerprint, Set<String> classNames, Map<String, StoredSchema> schemas) {
+    }
+}
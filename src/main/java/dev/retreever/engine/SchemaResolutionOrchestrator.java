@@ -8,10 +8,10 @@
 
 package dev.retreever.engine;
 
+import dev.retreever.config.RetreeverBuildProperties;
 import dev.retreever.config.RetreeverDocumentationExclusionProperties;
 import dev.retreever.config.SchemaConfig;
 import dev.retreever.endpoint.model.ApiEndpoint;
-import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
 import dev.retreever.repo.SchemaRegistry;
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.Schema;
@@ -27,12 +27,26 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Orchestrates complete schema resolution for REST controllers and exception handlers.
  * Stores UNWRAPPED schemas with TRUE wrapped types as keys (ResponseEntity<T>, etc.)
+ * <p>
+ * Controllers can be resolved concurrently; each controller is resolved into its own
+ * ordered batch and batches are merged into the registry in controller-name order, so
+ * the registry content does not depend on thread scheduling.
+ * <p>
+ * With a {@link SchemaResolutionCache}, controllers whose bytecode did not change since
+ * the previous build reuse their cached schemas instead of being resolved again.
  */
 public class SchemaResolutionOrchestrator {
 
@@ -40,7 +54,9 @@ public class SchemaResolutionOrchestrator {
 
     private final SchemaRegistry schemaRegistry;
     private final RetreeverDocumentationExclusionProperties exclusionProperties;
-    private final StringValueResolver valueResolver;
+    private final int parallelism;
+    private final SchemaResolutionCache cache;
+    private final HandlerMethodDescriptors descriptors;
 
     public SchemaResolutionOrchestrator(
             SchemaRegistry schemaRegistry,
@@ -52,18 +68,66 @@ public class SchemaResolutionOrchestrator {
             SchemaRegistry schemaRegistry,
             RetreeverDocumentationExclusionProperties exclusionProperties,
             StringValueResolver valueResolver) {
+        this(schemaRegistry, exclusionProperties, valueResolver, RetreeverBuildProperties.SEQUENTIAL);
+    }
+
+    public SchemaResolutionOrchestrator(
+            SchemaRegistry schemaRegistry,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            StringValueResolver valueResolver,
+            int parallelism) {
+        this(schemaRegistry, exclusionProperties, valueResolver, parallelism, null);
+    }
+
+    public SchemaResolutionOrchestrator(
+            SchemaRegistry schemaRegistry,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            StringValueResolver valueResolver,
+            int parallelism,
+            SchemaResolutionCache cache) {
+        this(schemaRegistry, exclusionProperties, parallelism, cache, new HandlerMethodDescriptors(valueResolver));
+    }
+
+    public SchemaResolutionOrchestrator(
+            SchemaRegistry schemaRegistry,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            int parallelism,
+            SchemaResolutionCache cache,
+            HandlerMethodDescriptors descriptors) {
         this.schemaRegistry = schemaRegistry;
         this.exclusionProperties = exclusionProperties;
-        this.valueResolver = valueResolver;
+        this.parallelism = Math.max(RetreeverBuildProperties.SEQUENTIAL, parallelism);
+        this.cache = cache;
+        this.descriptors = descriptors;
         log.debug("packages allowed for scanning: {}", SchemaConfig.getBasePackages());
     }
 
     public void resolveAllSchema(Class<?> applicationClass,
                                  Set<Class<?>> controllers,
                                  Set<Class<?>> controllerAdvices) {
+        resolveAllSchema(applicationClass, controllers, controllerAdvices, new BuildProgress());
+    }
+
+    /**
+     * Resolves every controller and exception handler schema, advancing the progress
+     * once per controller.
+     */
+    public void resolveAllSchema(Class<?> applicationClass,
+                                 Set<Class<?>> controllers,
+                                 Set<Class<?>> controllerAdvices,
+                                 BuildProgress progress) {
+
+        // Start from a clean object-schema cache so stale subtrees never leak between runs
+        schemaRegistry.getObjectSchemaCache().clear();
+
+        // Cached schemas replace those of the previous build, which the registry would otherwise keep
+        if (cache != null) {
+            schemaRegistry.clear();
+        }
 
         // Process REST Controllers
-        processControllers(controllers);
+        progress.total(controllers.size());
+        processControllers(controllers, progress);
 
         // Process Exception Handlers
         processControllerAdvices(controllerAdvices);
@@ -77,27 +141,126 @@ public class SchemaResolutionOrchestrator {
         log.debug("SchemaResolutionOrchestrator: {} schemas registered", schemaRegistry.size());
     }
 
-    private void processControllers(Set<Class<?>> controllers) {
-        for (Class<?> controller : controllers) {
-            if (isBasePackageClass(controller)) continue;
-            if (!DocumentationEligibility.isDocumentedController(controller)) continue;
+    private void processControllers(Set<Class<?>> controllers, BuildProgress progress) {
+        List<Class<?>> ordered = controllers.stream()
+                .sorted(Comparator.comparing(Class::getName))
+                .toList();
 
-            for (Method method : controller.getDeclaredMethods()) {
-                if (!DocumentationEligibility.isDocumentedControllerMethod(method)) continue;
-                if (isExcluded(method)) continue;
+        if (parallelism <= RetreeverBuildProperties.SEQUENTIAL || ordered.size() < 2) {
+            ordered.forEach(controller -> mergeIntoRegistry(resolveController(controller, progress)));
+            return;
+        }
 
-                log.debug("Processing endpoint: {}", method.getName());
+        resolveInParallel(ordered, progress).forEach(this::mergeIntoRegistry);
+    }
 
-                // 1. REGISTER RAW RETURN TYPE with its unwrapped schema
-                processReturnType(method.getGenericReturnType());
+    /**
+     * Resolves controllers on a dedicated pool bounded by the configured parallelism.
+     * Results keep the input order so merging stays deterministic.
+     */
+    private List<Map<String, ResolvedSchema>> resolveInParallel(List<Class<?>> controllers, BuildProgress progress) {
+        log.debug("Resolving {} controllers with parallelism {}", controllers.size(), parallelism);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.submit(() -> controllers.parallelStream()
+                    .map(controller -> resolveController(controller, progress))
+                    .toList()
+            ).get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while resolving Retreever schemas.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to resolve Retreever schemas.", ex.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
 
-                // 2. REGISTER @RequestBody/@ModelAttribute schemas
-                processMethodParameters(method);
+    private Map<String, ResolvedSchema> resolveController(Class<?> controller, BuildProgress progress) {
+        try {
+            return resolveController(controller);
+        } finally {
+            progress.advance();
+        }
+    }
+
+    private Map<String, ResolvedSchema> resolveController(Class<?> controller) {
+        Map<String, ResolvedSchema> schemas = new LinkedHashMap<>();
+        if (isBasePackageClass(controller)) return schemas;
+
+        // Only documented controllers have documented methods
+        List<HandlerMethodDescriptor> methods = descriptors.of(controller);
+        if (methods.isEmpty()) return schemas;
+
+        if (cache != null) {
+            Map<String, SchemaResolutionCache.Cached> cached = cache.get(controller);
+            if (cached != null) {
+                log.debug("Reusing {} cached schemas of unchanged controller {}", cached.size(), controller.getName());
+                cached.forEach((typeName, entry) -> schemas.put(typeName, new ResolvedSchema(entry.schema(), entry.classes())));
+                return schemas;
             }
         }
+
+        for (HandlerMethodDescriptor method : methods) {
+            if (exclusionProperties.excludes(method.getPath())) continue;
+
+            resolveMethod(method, schemas);
+        }
+
+        if (cache != null) {
+            Map<String, SchemaResolutionCache.Cached> resolved = new LinkedHashMap<>();
+            schemas.forEach((typeName, entry) -> resolved.put(typeName, new SchemaResolutionCache.Cached(entry.schema(), entry.classes())));
+            cache.put(controller, resolved);
+        }
+        return schemas;
+    }
+
+    /**
+     * Resolves and registers the schemas of a single endpoint. Used when endpoints are
+     * documented on demand instead of all at startup.
+     */
+    public void resolveEndpointSchemas(ApiEndpoint endpoint) {
+        HandlerMethodDescriptor method = endpoint == null ? null : descriptors.find(endpoint.getId());
+        if (method == null || isBasePackageClass(method.getControllerClass())) return;
+
+        Map<String, ResolvedSchema> schemas = new LinkedHashMap<>();
+        resolveMethod(method, schemas);
+        mergeIntoRegistry(schemas);
+    }
+
+    /**
+     * Resolves and registers exception handler schemas only, leaving controller
+     * schemas to {@link #resolveEndpointSchemas}.
+     */
+    public void resolveAdviceSchemas(Set<Class<?>> controllerAdvices) {
+        schemaRegistry.getObjectSchemaCache().clear();
+        processControllerAdvices(controllerAdvices);
+        log.debug("SchemaResolutionOrchestrator: {} advice schemas registered", schemaRegistry.size());
+    }
+
+    private void resolveMethod(HandlerMethodDescriptor method, Map<String, ResolvedSchema> schemas) {
+        log.debug("Processing endpoint: {}", method.getMethod().getName());
+
+        // 1. REGISTER RAW RETURN TYPE with its unwrapped schema
+        processReturnType(method.getReturnType(), schemas);
+
+        // 2. REGISTER @RequestBody/@ModelAttribute schemas
+        for (Type bodyType : method.getBodyTypes()) {
+            registerSchema(bodyType, unwrapContainerType(bodyType), schemas);
+        }
+    }
+
+    private void mergeIntoRegistry(Map<String, ResolvedSchema> schemas) {
+        schemas.forEach((typeName, resolved) -> schemaRegistry.register(typeName, resolved.schema(), resolved.classes()));
     }
 
     private void processControllerAdvices(Set<Class<?>> controllerAdvices) {
+        Map<String, ResolvedSchema> schemas = new LinkedHashMap<>();
+
         for (Class<?> advice : controllerAdvices) {
             if (isBasePackageClass(advice)) continue;
             if (!DocumentationEligibility.isDocumentedControllerAdvice(advice)) continue;
@@ -106,19 +269,21 @@ public class SchemaResolutionOrchestrator {
                 if (!DocumentationEligibility.isDocumentedExceptionHandlerMethod(method)) continue;
 
                 // Register exception handler return type
-                processReturnType(method.getGenericReturnType());
+                processReturnType(method.getGenericReturnType(), schemas);
 
                 // Register request body parameters (if any)
-                processMethodParameters(method);
+                processMethodParameters(method, schemas);
             }
         }
+
+        mergeIntoRegistry(schemas);
     }
 
     /**
      * CORE LOGIC: Store UNWRAPPED schema with TRUE wrapped type as key
      * ResponseEntity<ApiResponse<ProductResponse>> → schema of ApiResponse<ProductResponse>
      */
-    private void processReturnType(Type rawReturnType) {
+    private void processReturnType(Type rawReturnType, Map<String, ResolvedSchema> schemas) {
         if (rawReturnType == null || isVoid(rawReturnType)) return;
 
         log.debug("Return type: {}", rawReturnType.getTypeName());
@@ -126,17 +291,17 @@ public class SchemaResolutionOrchestrator {
         // KEY = TRUE return type (ResponseEntity<T>)
         // VALUE = Schema of unwrapped T
         Type unwrappedType = unwrapContainerType(rawReturnType);
-        registerSchema(rawReturnType, unwrappedType);
+        registerSchema(rawReturnType, unwrappedType, schemas);
     }
 
-    private void processMethodParameters(Method method) {
+    private void processMethodParameters(Method method, Map<String, ResolvedSchema> schemas) {
         Parameter[] parameters = method.getParameters();
         for (Parameter param : parameters) {
             JsonPropertyType jsonType = JsonPropertyTypeResolver.resolve(param.getType());
             if (jsonType.equals(JsonPropertyType.OBJECT)) {
                 Type rawParamType = param.getParameterizedType();
                 Type unwrappedType = unwrapContainerType(rawParamType);
-                registerSchema(rawParamType, unwrappedType);
+                registerSchema(rawParamType, unwrappedType, schemas);
             }
         }
     }
@@ -144,14 +309,19 @@ public class SchemaResolutionOrchestrator {
     /**
      * PERFECT MATCH: Key=WrappedType, Schema=UnwrappedType
      */
-    private void registerSchema(Type keyType, Type unwrappedType) {
+    private void registerSchema(Type keyType, Type unwrappedType, Map<String, ResolvedSchema> schemas) {
         Class<?> rawClass = SchemaResolver.extractRawClass(unwrappedType);
         if (rawClass == null || rawClass.isPrimitive() || rawClass.isEnum() || isBasePackageClass(rawClass)) {
             return;
         }
+        String typeName = keyType.getTypeName();
+        if (schemas.containsKey(typeName)) {
+            return;
+        }
 
-        Schema schema = SchemaResolver.initResolution(unwrappedType);
-        schemaRegistry.register(keyType, schema);
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        Schema schema = SchemaResolver.initResolution(unwrappedType, classes, schemaRegistry.getObjectSchemaCache());
+        schemas.put(typeName, new ResolvedSchema(schema, classes));
         log.debug("Registered: {} → {}", keyType.getTypeName(), schema.getClass().getSimpleName());
     }
 
@@ -192,9 +362,9 @@ public class SchemaResolutionOrchestrator {
                 .noneMatch(packageName::startsWith);
     }
 
-    private boolean isExcluded(Method method) {
-        ApiEndpoint endpoint = new ApiEndpoint();
-        EndpointPathAndMethodResolver.resolve(endpoint, method, valueResolver);
-        return exclusionProperties.excludes(endpoint.getPath());
+    /**
+     * A resolved root schema and the object and enum classes it contains.
+     */
+    private record ResolvedSchema(Schema schema, Set<Class<?>> classes) {
     }
 }
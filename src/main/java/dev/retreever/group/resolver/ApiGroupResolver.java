@@ -10,12 +10,13 @@ package dev.retreever.group.resolver;
 
 import dev.retreever.annotation.ApiGroup;
 import dev.retreever.config.RetreeverDocumentationExclusionProperties;
+import dev.retreever.engine.DocumentIds;
 import dev.retreever.engine.DocumentationEligibility;
+import dev.retreever.engine.HandlerMethodDescriptor;
+import dev.retreever.engine.HandlerMethodDescriptors;
 import dev.retreever.endpoint.model.ApiEndpoint;
 import dev.retreever.endpoint.resolver.ApiEndpointResolver;
-import dev.retreever.endpoint.resolver.EndpointPathAndMethodResolver;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -29,12 +30,21 @@ public class ApiGroupResolver {
 
     private final ApiEndpointResolver endpointResolver;
     private final RetreeverDocumentationExclusionProperties exclusionProperties;
+    private final HandlerMethodDescriptors descriptors;
 
     public ApiGroupResolver(
             ApiEndpointResolver endpointResolver,
             RetreeverDocumentationExclusionProperties exclusionProperties) {
+        this(endpointResolver, exclusionProperties, new HandlerMethodDescriptors(endpointResolver.getValueResolver()));
+    }
+
+    public ApiGroupResolver(
+            ApiEndpointResolver endpointResolver,
+            RetreeverDocumentationExclusionProperties exclusionProperties,
+            HandlerMethodDescriptors descriptors) {
         this.endpointResolver = endpointResolver;
         this.exclusionProperties = exclusionProperties;
+        this.descriptors = descriptors;
     }
 
     /**
@@ -54,11 +64,13 @@ public class ApiGroupResolver {
     public dev.retreever.endpoint.model.ApiGroup resolve(Class<?> controllerClass) {
 
         // Must be a Spring controller
-        if (!DocumentationEligibility.isDocumentedController(controllerClass)) {
+        List<HandlerMethodDescriptor> methods = descriptors.of(controllerClass);
+        if (!DocumentationEligibility.isDocumentedController(controllerClass, !methods.isEmpty())) {
             return null;
         }
 
         dev.retreever.endpoint.model.ApiGroup group = new dev.retreever.endpoint.model.ApiGroup();
+        group.setId(DocumentIds.groupId(controllerClass));
 
         // Group name & description
         ApiGroup ann =
@@ -81,15 +93,12 @@ public class ApiGroupResolver {
         // Resolve endpoints
         List<ApiEndpoint> endpoints = new ArrayList<>();
 
-        for (Method method : controllerClass.getDeclaredMethods()) {
+        for (HandlerMethodDescriptor method : methods) {
             // Only consider methods with a valid HTTP mapping
-            if (EndpointPathAndMethodResolver.resolveHttpMethod(method) == null) continue;
-            if (!DocumentationEligibility.isDocumentedControllerMethod(method)) continue;
-
-            ApiEndpoint ep = endpointResolver.resolve(method);
-            if (exclusionProperties.excludes(ep.getPath())) continue;
+            if (method.getHttpMethod() == null) continue;
+            if (exclusionProperties.excludes(method.getPath())) continue;
 
-            endpoints.add(ep);
+            endpoints.add(endpointResolver.resolve(method));
         }
 
         group.setEndpoints(endpoints);
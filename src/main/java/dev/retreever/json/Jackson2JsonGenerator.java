@@ -0,0 +1,79 @@
+package dev.retreever.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+final class Jackson2JsonGenerator implements RetreeverJsonGenerator {
+
+    private final JsonGenerator generator;
+
+    Jackson2JsonGenerator(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        generator.writeStartObject();
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        generator.writeEndArray();
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        generator.writeFieldName(name);
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        generator.writeString(value);
+    }
+
+    @Override
+    public void writeNumber(int value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+        generator.writeNumber(value);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        generator.writeBoolean(value);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        generator.writeNull();
+    }
+
+    @Override
+    public void writeObject(Object value) throws IOException {
+        generator.writeObject(value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
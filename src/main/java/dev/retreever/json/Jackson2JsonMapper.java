@@ -1,13 +1,24 @@
 package dev.retreever.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.BeanDescription;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 final class Jackson2JsonMapper implements RetreeverJsonMapper {
 
@@ -38,12 +49,86 @@ final class Jackson2JsonMapper implements RetreeverJsonMapper {
         return mapper.readValue(value, type);
     }
 
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    @Override
+    public RetreeverJsonGenerator createGenerator(OutputStream out) throws IOException {
+        return new Jackson2JsonGenerator(mapper.writer().createGenerator(out));
+    }
+
+    @Override
+    public RetreeverJsonMapper copyForFormat(RetreeverBinaryFormat format) {
+        JsonFactory factory;
+        try {
+            Class<?> factoryClass = Class.forName(format.jackson2Factory(), true, ObjectMapper.class.getClassLoader());
+            factory = (JsonFactory) factoryClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+
+        try {
+            return new Jackson2JsonMapper(mapper.copyWith(factory));
+        } catch (IllegalStateException ex) {
+            // Mapper subclasses that do not override copy() cannot be copied; use defaults instead.
+            return new Jackson2JsonMapper(new ObjectMapper(factory).findAndRegisterModules());
+        }
+    }
+
+    @Override
+    public String describeConfiguration() {
+        SerializationConfig config = mapper.getSerializationConfig();
+        PropertyNamingStrategy naming = config.getPropertyNamingStrategy();
+        List<String> introspectors = config.getAnnotationIntrospector().allIntrospectors().stream()
+                .map(introspector -> introspector.getClass().getName())
+                .toList();
+        List<String> mapperFeatures = Arrays.stream(MapperFeature.values())
+                .filter(config::isEnabled)
+                .map(Enum::name)
+                .toList();
+
+        return String.join("|",
+                "jackson=" + mapper.version(),
+                "naming=" + (naming != null ? naming.getClass().getName() : null),
+                "introspectors=" + introspectors,
+                "modules=" + new TreeSet<>(mapper.getRegisteredModuleIds().stream().map(String::valueOf).toList()),
+                "mixins=" + mapper.mixInCount(),
+                "visibility=" + config.getDefaultVisibilityChecker(),
+                "inclusion=" + config.getDefaultPropertyInclusion(),
+                "mapperFeatures=" + mapperFeatures,
+                "serializationFeatures=" + config.getSerializationFeatures());
+    }
+
     @Override
     public String resolvePropertyName(Field field, Class<?> declaringClass) {
+        return findPropertyName(introspectProperties(declaringClass), field);
+    }
+
+    @Override
+    public Map<Field, String> resolvePropertyNames(Class<?> declaringClass, Collection<Field> fields) {
+        List<BeanPropertyDefinition> properties = introspectProperties(declaringClass);
+        Map<Field, String> names = new HashMap<>();
+
+        for (Field field : fields) {
+            String name = findPropertyName(properties, field);
+            if (name != null) {
+                names.put(field, name);
+            }
+        }
+
+        return names;
+    }
+
+    private List<BeanPropertyDefinition> introspectProperties(Class<?> declaringClass) {
         JavaType javaType = mapper.constructType(declaringClass);
         BeanDescription beanDescription = mapper.getSerializationConfig().introspect(javaType);
+        return beanDescription.findProperties();
+    }
 
-        for (BeanPropertyDefinition property : beanDescription.findProperties()) {
+    private String findPropertyName(List<BeanPropertyDefinition> properties, Field field) {
+        for (BeanPropertyDefinition property : properties) {
             if (matchesField(property, field)) {
                 return property.getName();
             }
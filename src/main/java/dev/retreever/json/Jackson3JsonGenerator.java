@@ -0,0 +1,178 @@
+package dev.retreever.json;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapts a Jackson 3 {@code JsonGenerator} without a compile-time dependency on it.
+ * Jackson 3 generators throw unchecked {@code JacksonException}s, which are rethrown
+ * as {@link IOException}s.
+ */
+final class Jackson3JsonGenerator implements RetreeverJsonGenerator {
+
+    private static final Map<Class<?>, Handles> HANDLES = new ConcurrentHashMap<>();
+
+    private final Object generator;
+    private final Handles handles;
+
+    Jackson3JsonGenerator(Object generator) {
+        this.generator = generator;
+        this.handles = HANDLES.computeIfAbsent(generator.getClass(), Handles::resolve);
+    }
+
+    @Override
+    public void writeStartObject() throws IOException {
+        invoke(handles.writeStartObject);
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        invoke(handles.writeEndObject);
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        invoke(handles.writeStartArray);
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        invoke(handles.writeEndArray);
+    }
+
+    @Override
+    public void writeFieldName(String name) throws IOException {
+        invoke(handles.writeName, name);
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        invoke(handles.writeString, value);
+    }
+
+    @Override
+    public void writeNumber(int value) throws IOException {
+        invoke(handles.writeInt, value);
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        invoke(handles.writeLong, value);
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+        invoke(handles.writeDouble, value);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        invoke(handles.writeBoolean, value);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        invoke(handles.writeNull);
+    }
+
+    @Override
+    public void writeObject(Object value) throws IOException {
+        invoke(handles.writePOJO, value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        invoke(handles.close);
+    }
+
+    private void invoke(MethodHandle handle) throws IOException {
+        try {
+            Object ignored = (Object) handle.invokeExact(generator);
+        } catch (Throwable ex) {
+            throw new IOException("Failed to write JSON with Jackson 3.", ex);
+        }
+    }
+
+    private void invoke(MethodHandle handle, Object argument) throws IOException {
+        try {
+            Object ignored = (Object) handle.invokeExact(generator, argument);
+        } catch (Throwable ex) {
+            throw new IOException("Failed to write JSON with Jackson 3.", ex);
+        }
+    }
+
+    /**
+     * Generator methods resolved once per generator class and adapted to an
+     * all-{@code Object} signature.
+     */
+    private static final class Handles {
+
+        private final MethodHandle writeStartObject;
+        private final MethodHandle writeEndObject;
+        private final MethodHandle writeStartArray;
+        private final MethodHandle writeEndArray;
+        private final MethodHandle writeName;
+        private final MethodHandle writeString;
+        private final MethodHandle writeInt;
+        private final MethodHandle writeLong;
+        private final MethodHandle writeDouble;
+        private final MethodHandle writeBoolean;
+        private final MethodHandle writeNull;
+        private final MethodHandle writePOJO;
+        private final MethodHandle close;
+
+        private Handles(Class<?> type) throws ReflectiveOperationException {
+            this.writeStartObject = handle(type, "writeStartObject");
+            this.writeEndObject = handle(type, "writeEndObject");
+            this.writeStartArray = handle(type, "writeStartArray");
+            this.writeEndArray = handle(type, "writeEndArray");
+            this.writeName = handle(type, "writeName", String.class);
+            this.writeString = handle(type, "writeString", String.class);
+            this.writeInt = handle(type, "writeNumber", int.class);
+            this.writeLong = handle(type, "writeNumber", long.class);
+            this.writeDouble = handle(type, "writeNumber", double.class);
+            this.writeBoolean = handle(type, "writeBoolean", boolean.class);
+            this.writeNull = handle(type, "writeNull");
+            this.writePOJO = handle(type, "writePOJO", Object.class);
+            this.close = handle(type, "close");
+        }
+
+        private static Handles resolve(Class<?> generatorClass) {
+            try {
+                return new Handles(generatorClass);
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Unsupported Jackson 3 JsonGenerator: " + generatorClass.getName(), ex);
+            }
+        }
+
+        private static MethodHandle handle(Class<?> owner, String name, Class<?>... parameterTypes)
+                throws ReflectiveOperationException {
+            Method method = method(owner, name, parameterTypes);
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            return handle.asType(MethodType.genericMethodType(parameterTypes.length + 1));
+        }
+
+        /**
+         * Finds the public method on the nearest public class; concrete generators may
+         * be declared in non-exported or non-public types.
+         */
+        private static Method method(Class<?> owner, String name, Class<?>... parameterTypes)
+                throws NoSuchMethodException {
+            for (Class<?> type = owner; type != null; type = type.getSuperclass()) {
+                if (Modifier.isPublic(type.getModifiers())) {
+                    Method method = type.getMethod(name, parameterTypes);
+                    if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                        return method;
+                    }
+                }
+            }
+            throw new NoSuchMethodException(owner.getName() + "." + name);
+        }
+    }
+}
@@ -1,19 +1,42 @@
 package dev.retreever.json;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 final class Jackson3JsonMapper implements RetreeverJsonMapper {
 
+    private static final Logger log = LoggerFactory.getLogger(Jackson3JsonMapper.class);
+
     private static final String JACKSON3_OBJECT_MAPPER = "tools.jackson.databind.ObjectMapper";
 
+    private static final Map<Class<?>, Handles> HANDLES = new ConcurrentHashMap<>();
+    private static final AtomicBoolean INTROSPECTION_FALLBACK_LOGGED = new AtomicBoolean();
+
     private final Object mapper;
+    private final Handles handles;
 
     Jackson3JsonMapper(Object mapper) {
         this.mapper = mapper;
+        this.handles = HANDLES.computeIfAbsent(mapper.getClass(), Handles::resolve);
     }
 
     static Jackson3JsonMapper createDefault() {
@@ -41,8 +64,8 @@ final class Jackson3JsonMapper implements RetreeverJsonMapper {
     @Override
     public byte[] writeValueAsBytes(Object value) throws IOException {
         try {
-            return (byte[]) invoke(mapper, "writeValueAsBytes", Object.class, value);
-        } catch (ReflectiveOperationException ex) {
+            return (byte[]) (Object) handles.writeValueAsBytes.invokeExact(mapper, value);
+        } catch (Throwable ex) {
             throw new IOException("Failed to serialize value with Jackson 3.", ex);
         }
     }
@@ -50,59 +73,168 @@ final class Jackson3JsonMapper implements RetreeverJsonMapper {
     @Override
     public <T> T readValue(byte[] value, Class<T> type) throws IOException {
         try {
-            return type.cast(invoke(mapper, "readValue", byte[].class, value, Class.class, type));
-        } catch (ReflectiveOperationException ex) {
+            return type.cast((Object) handles.readValue.invokeExact(mapper, (Object) value, (Object) type));
+        } catch (Throwable ex) {
             throw new IOException("Failed to deserialize value with Jackson 3.", ex);
         }
     }
 
+    @Override
+    public boolean supportsStreaming() {
+        return handles.createGenerator != null;
+    }
+
+    @Override
+    public RetreeverJsonGenerator createGenerator(OutputStream out) throws IOException {
+        if (handles.createGenerator == null) {
+            throw new IllegalStateException("Jackson 3 ObjectMapper does not expose createGenerator(OutputStream).");
+        }
+        try {
+            return new Jackson3JsonGenerator((Object) handles.createGenerator.invokeExact(mapper, (Object) out));
+        } catch (Throwable ex) {
+            throw new IOException("Failed to create Jackson 3 generator.", ex);
+        }
+    }
+
+    /**
+     * Jackson 3 mappers cannot switch their token stream factory, so binary formats use
+     * the format's own mapper with discovered modules instead of a copy of the host mapper.
+     */
+    @Override
+    public RetreeverJsonMapper copyForFormat(RetreeverBinaryFormat format) {
+        try {
+            Class<?> mapperClass = Class.forName(format.jackson3Mapper(), true, mapper.getClass().getClassLoader());
+            Object builder = mapperClass.getMethod("builder").invoke(null);
+            invoke(builder, "findAndAddModules");
+            return new Jackson3JsonMapper(invoke(builder, "build"));
+        } catch (ReflectiveOperationException | LinkageError | IllegalStateException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Jackson 3 is only reached reflectively, so this describes the settings exposed by
+     * its public accessors and falls back to the mapper class when they are missing.
+     */
+    @Override
+    public String describeConfiguration() {
+        List<String> parts = new ArrayList<>();
+        parts.add(mapper.getClass().getName());
+        try {
+            Object config = invoke(mapper, "serializationConfig");
+            Object naming = invoke(config, "getPropertyNamingStrategy");
+            parts.add("naming=" + (naming != null ? naming.getClass().getName() : null));
+            parts.add("visibility=" + invoke(config, "getDefaultVisibilityChecker"));
+            parts.add("inclusion=" + invoke(config, "getDefaultPropertyInclusion"));
+            parts.add("serializationFeatures=" + invoke(config, "getSerializationFeatures"));
+
+            Set<String> modules = new TreeSet<>();
+            for (Object module : (Collection<?>) invoke(mapper, "registeredModules")) {
+                modules.add(String.valueOf(invoke(module, "getRegistrationId")));
+            }
+            parts.add("modules=" + modules);
+            parts.add("mixins=" + invoke(mapper, "mixInCount"));
+        } catch (ReflectiveOperationException | ClassCastException ex) {
+            // Keep what could be read; a partial description still separates most setups.
+        }
+        return String.join("|", parts);
+    }
+
     @Override
     public String resolvePropertyName(Field field, Class<?> declaringClass) {
         try {
-            Object javaType = invoke(mapper, "constructType", Type.class, declaringClass);
-            Object serializationConfig = invoke(mapper, "serializationConfig");
-            Object beanDescription = invoke(serializationConfig, "introspect", javaType.getClass(), javaType);
-            Object properties = invoke(beanDescription, "findProperties");
-
-            if (properties instanceof List<?> list) {
-                for (Object property : list) {
-                    if (matchesField(property, field)) {
-                        return (String) invoke(property, "getName");
-                    }
+            return findPropertyName(introspectProperties(declaringClass), field);
+        } catch (RuntimeException | ReflectiveOperationException ex) {
+            // Fall through to annotation/naming strategy fallback in JsonNameResolver.
+            logIntrospectionFallback(declaringClass, ex);
+            return null;
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Unexpected failure introspecting " + declaringClass.getName() + " with Jackson 3.", ex);
+        }
+    }
+
+    @Override
+    public Map<Field, String> resolvePropertyNames(Class<?> declaringClass, Collection<Field> fields) {
+        Map<Field, String> names = new HashMap<>();
+        try {
+            List<?> properties = introspectProperties(declaringClass);
+            for (Field field : fields) {
+                String name = findPropertyName(properties, field);
+                if (name != null) {
+                    names.put(field, name);
                 }
             }
-        } catch (ReflectiveOperationException ignored) {
+        } catch (RuntimeException | ReflectiveOperationException ex) {
             // Fall through to annotation/naming strategy fallback in JsonNameResolver.
+            logIntrospectionFallback(declaringClass, ex);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Unexpected failure introspecting " + declaringClass.getName() + " with Jackson 3.", ex);
+        }
+        return names;
+    }
+
+    /**
+     * A failing introspection usually means an incompatible Jackson 3 version, so it is
+     * reported once rather than for every class.
+     */
+    private static void logIntrospectionFallback(Class<?> declaringClass, Exception ex) {
+        if (INTROSPECTION_FALLBACK_LOGGED.compareAndSet(false, true)) {
+            log.debug("Jackson 3 property introspection failed for {}; falling back to annotation-based property names.",
+                    declaringClass.getName(), ex);
+        }
+    }
+
+    private List<?> introspectProperties(Class<?> declaringClass) throws Throwable {
+        if (!handles.supportsIntrospection()) {
+            return List.of();
         }
 
+        Object javaType = (Object) handles.constructType.invokeExact(mapper, (Object) declaringClass);
+        Object introspector = (Object) handles.introspector.invokeExact(mapper);
+        Object beanDescription = (Object) handles.introspect.invokeExact(introspector, javaType);
+        Object properties = (Object) handles.findProperties.invokeExact(beanDescription);
+
+        return properties instanceof List<?> list ? list : List.of();
+    }
+
+    private String findPropertyName(List<?> properties, Field field) throws Throwable {
+        for (Object property : properties) {
+            if (matchesField(property, field)) {
+                return (String) (Object) handles.propertyName.invokeExact(property);
+            }
+        }
         return null;
     }
 
-    private boolean matchesField(Object property, Field field) throws ReflectiveOperationException {
-        if (!(boolean) invoke(property, "couldSerialize")) {
+    private boolean matchesField(Object property, Field field) throws Throwable {
+        if (!(boolean) (Object) handles.couldSerialize.invokeExact(property)) {
             return false;
         }
 
-        Object annotatedField = invoke(property, "getField");
+        Object annotatedField = (Object) handles.getField.invokeExact(property);
         if (annotatedField != null) {
-            Object underlyingField = invoke(annotatedField, "getAnnotated");
+            Object underlyingField = (Object) handles.getAnnotated.invokeExact(annotatedField);
             if (field.equals(underlyingField)) {
                 return true;
             }
         }
 
-        String internalName = (String) invoke(property, "getInternalName");
+        String internalName = (String) (Object) handles.getInternalName.invokeExact(property);
         if (field.getName().equals(internalName)) {
             return true;
         }
 
-        Object getter = invoke(property, "getGetter");
-        if (getter != null && matchesAccessor((String) invoke(getter, "getName"), field)) {
+        Object getter = (Object) handles.getGetter.invokeExact(property);
+        if (getter != null && matchesAccessor((String) (Object) handles.memberName.invokeExact(getter), field)) {
             return true;
         }
 
-        Object setter = invoke(property, "getSetter");
-        return setter != null && matchesAccessor((String) invoke(setter, "getName"), field);
+        Object setter = (Object) handles.getSetter.invokeExact(property);
+        return setter != null && matchesAccessor((String) (Object) handles.memberName.invokeExact(setter), field);
     }
 
     private boolean matchesAccessor(String accessorName, Field field) {
@@ -118,25 +250,154 @@ final class Jackson3JsonMapper implements RetreeverJsonMapper {
                 || accessorName.equals("set" + accessorSuffix);
     }
 
+    /**
+     * Used only for one-off builder calls; hot paths go through {@link Handles}.
+     */
     private static Object invoke(Object target, String methodName) throws ReflectiveOperationException {
-        Method method = target.getClass().getMethod(methodName);
+        Method method = Handles.method(target.getClass(), methodName);
         return method.invoke(target);
     }
 
-    private static Object invoke(Object target, String methodName, Class<?> parameterType, Object argument)
-            throws ReflectiveOperationException {
-        Method method = target.getClass().getMethod(methodName, parameterType);
-        return method.invoke(target, argument);
-    }
+    /**
+     * Jackson 3 methods resolved once per mapper class and adapted to an all-{@code Object}
+     * signature, so every call site can use {@code invokeExact}.
+     */
+    private static final class Handles {
+
+        private static final String BEAN_DESCRIPTION = "tools.jackson.databind.BeanDescription";
+        private static final String BEAN_PROPERTY_DEFINITION = "tools.jackson.databind.introspect.BeanPropertyDefinition";
+        private static final String ANNOTATED = "tools.jackson.databind.introspect.Annotated";
+        private static final String DATABIND_CONTEXT = "tools.jackson.databind.DatabindContext";
+
+        private final MethodHandle writeValueAsBytes;
+        private final MethodHandle readValue;
+
+        // Null when this Jackson 3 build cannot open a generator on an OutputStream.
+        private MethodHandle createGenerator;
+
+        // Introspection handles stay null when this Jackson 3 build does not expose them.
+        private MethodHandle constructType;
+        private MethodHandle introspector;
+        private MethodHandle introspect;
+        private MethodHandle findProperties;
+        private MethodHandle propertyName;
+        private MethodHandle couldSerialize;
+        private MethodHandle getField;
+        private MethodHandle getAnnotated;
+        private MethodHandle getInternalName;
+        private MethodHandle getGetter;
+        private MethodHandle getSetter;
+        private MethodHandle memberName;
+
+        private Handles(MethodHandle writeValueAsBytes, MethodHandle readValue) {
+            this.writeValueAsBytes = writeValueAsBytes;
+            this.readValue = readValue;
+        }
+
+        private static Handles resolve(Class<?> mapperClass) {
+            Handles handles;
+            try {
+                handles = new Handles(
+                        handle(mapperClass, "writeValueAsBytes", Object.class),
+                        handle(mapperClass, "readValue", byte[].class, Class.class)
+                );
+            } catch (ReflectiveOperationException ex) {
+                throw new IllegalStateException("Unsupported Jackson 3 ObjectMapper: " + mapperClass.getName(), ex);
+            }
+
+            try {
+                handles.createGenerator = handle(mapperClass, "createGenerator", OutputStream.class);
+            } catch (ReflectiveOperationException ignored) {
+                handles.createGenerator = null;
+            }
+
+            try {
+                ClassLoader loader = mapperClass.getClassLoader();
+                Method constructType = method(mapperClass, "constructType", Type.class);
+                Class<?> beanDescription = Class.forName(BEAN_DESCRIPTION, false, loader);
+                Class<?> property = Class.forName(BEAN_PROPERTY_DEFINITION, false, loader);
+                Class<?> annotated = Class.forName(ANNOTATED, false, loader);
+
+                handles.constructType = adapt(constructType);
+                resolveIntrospection(handles, mapperClass, constructType.getReturnType(), loader);
+                handles.findProperties = handle(beanDescription, "findProperties");
+                handles.propertyName = handle(property, "getName");
+                handles.couldSerialize = handle(property, "couldSerialize");
+                handles.getField = handle(property, "getField");
+                handles.getAnnotated = handle(annotated, "getAnnotated");
+                handles.getInternalName = handle(property, "getInternalName");
+                handles.getGetter = handle(property, "getGetter");
+                handles.getSetter = handle(property, "getSetter");
+                handles.memberName = handle(annotated, "getName");
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                handles.introspect = null;
+            }
+            return handles;
+        }
 
-    private static Object invoke(
-            Object target,
-            String methodName,
-            Class<?> firstParameterType,
-            Object firstArgument,
-            Class<?> secondParameterType,
-            Object secondArgument) throws ReflectiveOperationException {
-        Method method = target.getClass().getMethod(methodName, firstParameterType, secondParameterType);
-        return method.invoke(target, firstArgument, secondArgument);
+        /**
+         * Jackson 3.0 introspects beans through a serialization context; earlier 3.x
+         * snapshots still exposed {@code SerializationConfig.introspect(JavaType)}.
+         */
+        private static void resolveIntrospection(Handles handles, Class<?> mapperClass, Class<?> javaType,
+                                                 ClassLoader loader) throws ReflectiveOperationException {
+            try {
+                Class<?> databindContext = Class.forName(DATABIND_CONTEXT, false, loader);
+                handles.introspector = handle(mapperClass, "_serializationContext");
+                handles.introspect = handle(databindContext, "introspectBeanDescription", javaType);
+            } catch (ReflectiveOperationException ex) {
+                Method serializationConfig = method(mapperClass, "serializationConfig");
+                handles.introspector = adapt(serializationConfig);
+                handles.introspect = handle(serializationConfig.getReturnType(), "introspect", javaType);
+            }
+        }
+
+        private boolean supportsIntrospection() {
+            return introspect != null;
+        }
+
+        private static MethodHandle handle(Class<?> owner, String name, Class<?>... argumentTypes)
+                throws ReflectiveOperationException {
+            return adapt(method(owner, name, argumentTypes));
+        }
+
+        private static MethodHandle adapt(Method method) throws IllegalAccessException {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            return handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+        }
+
+        /**
+         * Finds a public method, declared by a public class, whose parameters accept
+         * the given argument types. Jackson 3 builders are private subclasses, so their
+         * own overrides are not accessible.
+         */
+        private static Method method(Class<?> owner, String name, Class<?>... argumentTypes)
+                throws NoSuchMethodException {
+            for (Method candidate : owner.getMethods()) {
+                if (candidate.getName().equals(name)
+                        && Modifier.isPublic(candidate.getDeclaringClass().getModifiers())
+                        && accepts(candidate.getParameterTypes(), argumentTypes)) {
+                    return candidate;
+                }
+            }
+            for (Class<?> type = owner.getSuperclass(); type != null; type = type.getSuperclass()) {
+                if (Modifier.isPublic(type.getModifiers())) {
+                    return method(type, name, argumentTypes);
+                }
+            }
+            throw new NoSuchMethodException(owner.getName() + "." + name);
+        }
+
+        private static boolean accepts(Class<?>[] parameterTypes, Class<?>[] argumentTypes) {
+            if (parameterTypes.length != argumentTypes.length) {
+                return false;
+            }
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (!parameterTypes[i].isAssignableFrom(argumentTypes[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 }
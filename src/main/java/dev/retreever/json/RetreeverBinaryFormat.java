@@ -0,0 +1,68 @@
+package dev.retreever.json;
+
+import java.util.Locale;
+
+/**
+ * Binary encodings the API document can be served in besides JSON. Each one needs
+ * the matching Jackson dataformat module on the classpath.
+ */
+public enum RetreeverBinaryFormat {
+
+    CBOR(
+            "cbor",
+            "application/cbor",
+            "com.fasterxml.jackson.dataformat.cbor.CBORFactory",
+            "tools.jackson.dataformat.cbor.CBORMapper"
+    ),
+    SMILE(
+            "smile",
+            "application/x-jackson-smile",
+            "com.fasterxml.jackson.dataformat.smile.SmileFactory",
+            "tools.jackson.dataformat.smile.SmileMapper"
+    );
+
+    private final String id;
+    private final String mediaType;
+    private final String jackson2Factory;
+    private final String jackson3Mapper;
+
+    RetreeverBinaryFormat(String id, String mediaType, String jackson2Factory, String jackson3Mapper) {
+        this.id = id;
+        this.mediaType = mediaType;
+        this.jackson2Factory = jackson2Factory;
+        this.jackson3Mapper = jackson3Mapper;
+    }
+
+    /**
+     * Returns the format with the given configuration id, or {@code null} if there is none.
+     */
+    public static RetreeverBinaryFormat fromId(String id) {
+        if (id == null) {
+            return null;
+        }
+
+        String normalized = id.trim().toLowerCase(Locale.ROOT);
+        for (RetreeverBinaryFormat format : values()) {
+            if (format.id.equals(normalized)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    String jackson2Factory() {
+        return jackson2Factory;
+    }
+
+    String jackson3Mapper() {
+        return jackson3Mapper;
+    }
+}
@@ -0,0 +1,50 @@
+package dev.retreever.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Minimal streaming writer over the host's Jackson generator, so documents can be
+ * written token by token with either Jackson 2 or Jackson 3.
+ * Closing the generator flushes it and closes the underlying stream.
+ */
+public interface RetreeverJsonGenerator extends Closeable {
+
+    void writeStartObject() throws IOException;
+
+    void writeEndObject() throws IOException;
+
+    void writeStartArray() throws IOException;
+
+    void writeEndArray() throws IOException;
+
+    void writeFieldName(String name) throws IOException;
+
+    void writeString(String value) throws IOException;
+
+    void writeNumber(int value) throws IOException;
+
+    void writeNumber(long value) throws IOException;
+
+    void writeNumber(double value) throws IOException;
+
+    void writeBoolean(boolean value) throws IOException;
+
+    void writeNull() throws IOException;
+
+    /**
+     * Writes any value through the mapper's own serializers.
+     */
+    void writeObject(Object value) throws IOException;
+
+    /**
+     * Writes a string, or {@code null} when the value is missing.
+     */
+    default void writeStringOrNull(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+        } else {
+            writeString(value);
+        }
+    }
+}
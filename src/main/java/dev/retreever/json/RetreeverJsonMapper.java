@@ -1,7 +1,11 @@
 package dev.retreever.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 public interface RetreeverJsonMapper {
 
@@ -11,5 +15,58 @@ public interface RetreeverJsonMapper {
 
     <T> T readValue(byte[] value, Class<T> type) throws IOException;
 
+    /**
+     * Returns whether {@link #createGenerator(OutputStream)} is available.
+     */
+    default boolean supportsStreaming() {
+        return false;
+    }
+
+    /**
+     * Opens a streaming generator writing UTF-8 JSON to the stream, configured like
+     * {@link #writeValueAsBytes(Object)}. Only call it when {@link #supportsStreaming()}
+     * returns {@code true}.
+     *
+     * @throws IllegalStateException if this mapper cannot stream
+     */
+    default RetreeverJsonGenerator createGenerator(OutputStream out) throws IOException {
+        throw new IllegalStateException("Streaming is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Returns a mapper that writes the given binary format, keeping this mapper's
+     * configuration where the Jackson version allows it.
+     *
+     * @return the binary mapper, or {@code null} if the format module is not on the classpath
+     */
+    default RetreeverJsonMapper copyForFormat(RetreeverBinaryFormat format) {
+        return null;
+    }
+
+    /**
+     * Describes the mapper settings that decide property names and inclusion: the
+     * naming strategy, annotation introspectors, registered modules, mix-ins and
+     * features. Mappers configured alike describe themselves alike, so the result can
+     * key anything derived from {@link #resolvePropertyNames(Class, Collection)}.
+     */
+    default String describeConfiguration() {
+        return getClass().getName();
+    }
+
     String resolvePropertyName(Field field, Class<?> declaringClass);
+
+    /**
+     * Resolves the serialized names of several fields of one class at once.
+     * Fields without a Jackson property are left out of the result.
+     */
+    default Map<Field, String> resolvePropertyNames(Class<?> declaringClass, Collection<Field> fields) {
+        Map<Field, String> names = new HashMap<>();
+        for (Field field : fields) {
+            String name = resolvePropertyName(field, declaringClass);
+            if (name != null) {
+                names.put(field, name);
+            }
+        }
+        return names;
+    }
 }
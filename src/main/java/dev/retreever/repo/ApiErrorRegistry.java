@@ -14,28 +14,36 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
 
 /**
- * Thread-safe singleton registry storing ApiError definitions resolved from @ExceptionHandler methods.
+ * Registry storing ApiError definitions resolved from @ExceptionHandler methods.
  * Keyed by the exception's fully qualified class name.
  * <p>
- * No schema resolving is done here.
+ * Each documentation build registers into its own registry from {@link #create()} and
+ * only reads it once the build is published. No schema resolving is done here.
  */
 public final class ApiErrorRegistry extends DocRegistry<ApiError> {
 
     private static final ApiErrorRegistry INSTANCE = new ApiErrorRegistry();
-    private static final Map<String, ApiError> errors = new ConcurrentHashMap<>();
     private static final Logger log = LoggerFactory.getLogger(ApiErrorRegistry.class);
 
     private ApiErrorRegistry() {
     }
 
+    /**
+     * Returns the JVM-wide registry, for callers that do not build documentation.
+     */
     public static ApiErrorRegistry getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Creates an empty registry for one documentation build.
+     */
+    public static ApiErrorRegistry create() {
+        return new ApiErrorRegistry();
+    }
+
     /**
      * Registers an ApiError using its exception class name. Deduplicates automatically.
      */
@@ -67,17 +75,13 @@ public final class ApiErrorRegistry extends DocRegistry<ApiError> {
      * Optimizes registry: log stats.
      */
     public void optimize() {
-        System.out.println("ApiErrorRegistry: " + errors.size() + " unique errors registered");
+        log.debug("ApiErrorRegistry: {} unique errors registered", size());
     }
 
     /**
      * Clears all registered errors.
      */
     public void clear() {
-        errors.clear();
-    }
-
-    public int size() {
-        return errors.size();
+        getAll().clear();
     }
 }
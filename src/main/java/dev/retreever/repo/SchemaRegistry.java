@@ -9,28 +9,47 @@
 package dev.retreever.repo;
 
 import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.resolver.ObjectSchemaCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Type;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * Thread-safe singleton registry for resolved schemas using Type.getTypeName() keys.
+ * Thread-safe registry for resolved schemas using Type.getTypeName() keys.
  * Type-only registration for maximum safety and simplicity.
+ * <p>
+ * Each documentation build resolves into its own registry from {@link #create()}, so a
+ * rebuild never touches the schemas of the document being served. The registry also
+ * owns the {@link ObjectSchemaCache} its schemas are resolved through.
  */
 public final class SchemaRegistry {
     Logger log = LoggerFactory.getLogger(SchemaRegistry.class);
     private static final SchemaRegistry INSTANCE = new SchemaRegistry();
-    private static final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Set<Class<?>>> reachedClasses = new ConcurrentHashMap<>();
+    private final ObjectSchemaCache objectSchemas = new ObjectSchemaCache();
 
     private SchemaRegistry() {}
 
+    /**
+     * Returns the JVM-wide registry, for callers that do not build documentation.
+     */
     public static SchemaRegistry getInstance() {
         return INSTANCE;
     }
 
+    /**
+     * Creates an empty registry for one documentation build.
+     */
+    public static SchemaRegistry create() {
+        return new SchemaRegistry();
+    }
+
     /**
      * Registers schema for the given type using Type.getTypeName(). Deduplicates automatically.
      */
@@ -43,6 +62,28 @@ public final class SchemaRegistry {
         }
     }
 
+    /**
+     * Registers schema for the given type together with the object and enum classes
+     * it contains.
+     */
+    public void register(Type type, Schema schema, Set<Class<?>> classes) {
+        if (type == null) return;
+        register(type.getTypeName(), schema, classes);
+    }
+
+    /**
+     * Registers schema under an already computed type name, as returned by
+     * Type.getTypeName(), together with the object and enum classes it contains.
+     */
+    public void register(String typeName, Schema schema, Set<Class<?>> classes) {
+        if (typeName == null || schema == null) return;
+
+        schemas.putIfAbsent(typeName, schema);
+        if (classes != null) {
+            reachedClasses.putIfAbsent(typeName, Set.copyOf(classes));
+        }
+    }
+
     /**
      * Retrieves schema by type.
      */
@@ -52,6 +93,24 @@ public final class SchemaRegistry {
         return typeName != null ? schemas.get(typeName) : null;
     }
 
+    /**
+     * Retrieves the object and enum classes contained in the schema registered for the
+     * type, or an empty set if none were recorded.
+     */
+    public Set<Class<?>> getReachedClasses(Type type) {
+        if (type == null) return Set.of();
+        return reachedClasses.getOrDefault(type.getTypeName(), Set.of());
+    }
+
+    /**
+     * Retrieves every object and enum class contained in the registered schemas.
+     */
+    public Set<Class<?>> getReachedClasses() {
+        Set<Class<?>> classes = new HashSet<>();
+        reachedClasses.values().forEach(classes::addAll);
+        return classes;
+    }
+
     /**
      * Optimizes registry: log stats.
      */
@@ -65,6 +124,15 @@ public final class SchemaRegistry {
 
     public void clear() {
         schemas.clear();
+        reachedClasses.clear();
+        objectSchemas.clear();
+    }
+
+    /**
+     * Returns the cache object schemas are memoized in while resolving into this registry.
+     */
+    public ObjectSchemaCache getObjectSchemaCache() {
+        return objectSchemas;
     }
 
     public Map<String, Schema> getSchemas() {
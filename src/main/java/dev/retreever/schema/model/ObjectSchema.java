@@ -1,15 +1,18 @@
 package dev.retreever.schema.model;
 
 import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.Map;
 
 /**
  * Represents a JSON object (set of named properties).
  * Properties are stored in insertion order.
+ * Resolved instances may be shared between several parents, so the property view is read-only.
  */
 public class ObjectSchema implements Schema {
 
     private final Map<String, Property> properties = new LinkedHashMap<>();
+    private final Map<String, Property> propertiesView = Collections.unmodifiableMap(properties);
 
     public void addProperty(Property property) {
         if (property == null) return;
@@ -22,7 +25,7 @@ public class ObjectSchema implements Schema {
     }
 
     public Map<String, Property> getProperties() {
-        return properties;
+        return propertiesView;
     }
 
     public boolean isEmpty() {
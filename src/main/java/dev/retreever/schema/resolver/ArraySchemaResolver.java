@@ -8,7 +8,6 @@
 
 package dev.retreever.schema.resolver;
 
-import dev.retreever.schema.context.ResolverContext;
 import dev.retreever.schema.model.ArraySchema;
 import dev.retreever.schema.model.Schema;
 
@@ -19,8 +18,7 @@ import java.lang.reflect.Type;
 public class ArraySchemaResolver {
 
     public static Schema resolve(Type type) {
-        ResolverContext ctx = SchemaResolver.CONTEXT.get();
-        Type elementType = ctx.substitute(extractElementType(type));
+        Type elementType = SchemaResolver.substitute(extractElementType(type));
         Schema elementSchema = SchemaResolver.resolve(elementType);
         return new ArraySchema(elementSchema);
     }
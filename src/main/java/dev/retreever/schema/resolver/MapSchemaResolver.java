@@ -8,7 +8,6 @@
 
 package dev.retreever.schema.resolver;
 
-import dev.retreever.schema.context.ResolverContext;
 import dev.retreever.schema.model.JsonPropertyType;
 import dev.retreever.schema.model.MapSchema;
 import dev.retreever.schema.model.Schema;
@@ -23,8 +22,7 @@ import java.lang.reflect.Type;
 public class MapSchemaResolver {
 
     public static Schema resolve(Type resolvedType) {
-        ResolverContext ctx = SchemaResolver.CONTEXT.get();
-        Type substitutedType = ctx.substitute(resolvedType);
+        Type substitutedType = SchemaResolver.substitute(resolvedType);
 
         // Handle raw Map (no generics) → Map<String,Object>
         if (!(substitutedType instanceof ParameterizedType pt)) {
@@ -44,8 +42,8 @@ public class MapSchemaResolver {
         Type valueType = typeArgs.length > 1 ? typeArgs[1] : Object.class;
 
         // Substitute any type variables (T → concrete type)
-        keyType = ctx.substitute(keyType);
-        valueType = ctx.substitute(valueType);
+        keyType = SchemaResolver.substitute(keyType);
+        valueType = SchemaResolver.substitute(valueType);
 
         // Resolve key to JsonPropertyType, value to full Schema
         JsonPropertyType keyPropType = JsonPropertyTypeResolver.resolve(
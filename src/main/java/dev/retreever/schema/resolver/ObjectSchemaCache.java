@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.schema.resolver;
+
+import dev.retreever.schema.context.ResolverContext;
+import dev.retreever.schema.model.Schema;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes resolved object schemas keyed by their fully-substituted type.
+ * <p>
+ * A subtree is only cached when it is self-contained: it must not have been cut short
+ * by the recursion guard on a type that was already being resolved outside of it.
+ * Every type-variable lookup made while building the subtree is recorded, and a cached
+ * entry is only reused when the current context binds those variables the same way
+ * and none of the types the subtree visited are on the current resolution stack.
+ * Reused entries return the same {@link Schema} instance.
+ * <p>
+ * Each documentation build owns one cache through its schema registry and passes it to
+ * {@link SchemaResolver#initResolution(Type, Set, ObjectSchemaCache)}, so a build never
+ * sees or clears the schemas of another. Resolutions that pass no cache share one.
+ */
+public final class ObjectSchemaCache {
+
+    private static final int MAX_KEY_DEPTH = 8;
+
+    private static final ObjectSchemaCache SHARED = new ObjectSchemaCache();
+
+    private static final ThreadLocal<ObjectSchemaCache> ACTIVE = new ThreadLocal<>();
+
+    private static final ThreadLocal<Deque<Frame>> FRAMES =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ObjectSchemaCache() {
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Makes the cache the one used by resolutions on this thread, or the shared one when
+     * {@code null}, and returns the cache it replaces.
+     */
+    static ObjectSchemaCache activate(ObjectSchemaCache cache) {
+        ObjectSchemaCache previous = ACTIVE.get();
+        if (cache == null) {
+            ACTIVE.remove();
+        } else {
+            ACTIVE.set(cache);
+        }
+        return previous;
+    }
+
+    private static Map<String, Entry> activeEntries() {
+        ObjectSchemaCache active = ACTIVE.get();
+        return (active != null ? active : SHARED).entries;
+    }
+
+    /**
+     * Returns a cached schema for the key if it is valid in the current resolution state,
+     * replaying its dependencies into the enclosing subtree.
+     *
+     * @param resolving types on the resolution stack mapped to their depth
+     * @param depth     depth of the object about to be resolved; only shallower types count as ancestors
+     */
+    static Entry lookup(String key, ResolverContext context, Map<Type, Integer> resolving, int depth) {
+        Entry entry = activeEntries().get(key);
+        if (entry == null || !entry.isReusable(context, resolving, depth)) {
+            return null;
+        }
+
+        Frame parent = FRAMES.get().peek();
+        if (parent != null) {
+            entry.lookups.forEach(parent::recordLookup);
+            parent.visited.addAll(entry.visited);
+            parent.classes.addAll(entry.classes);
+        }
+        return entry;
+    }
+
+    /**
+     * Starts tracking a subtree rooted at the given resolution depth.
+     */
+    static void enter(int depth) {
+        FRAMES.get().push(new Frame(depth));
+    }
+
+    /**
+     * Stops tracking the current subtree, caching its schema if it is self-contained.
+     */
+    static void exit(String key, Schema schema) {
+        Deque<Frame> frames = FRAMES.get();
+        Frame frame = frames.pop();
+
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.merge(frame);
+        } else {
+            FRAMES.remove();
+        }
+
+        if (frame.isSelfContained()) {
+            activeEntries().put(key, new Entry(schema, Map.copyOf(frame.lookups), Set.copyOf(frame.visited),
+                    Set.copyOf(frame.classes)));
+        }
+    }
+
+    static void recordVisit(Type type) {
+        Frame frame = FRAMES.get().peek();
+        if (frame != null) {
+            frame.visited.add(type);
+        }
+    }
+
+    static void recordClass(Class<?> clazz) {
+        Frame frame = FRAMES.get().peek();
+        if (frame != null && clazz != Object.class) {
+            frame.classes.add(clazz);
+        }
+    }
+
+    static void recordCycle(int depth) {
+        Frame frame = FRAMES.get().peek();
+        if (frame != null) {
+            frame.minCycleDepth = Math.min(frame.minCycleDepth, depth);
+        }
+    }
+
+    static void recordLookup(TypeVariable<?> variable, Type substituted) {
+        Frame frame = FRAMES.get().peek();
+        if (frame != null) {
+            frame.recordLookup(variable, substituted);
+        }
+    }
+
+    /**
+     * Clears the cache shared by resolutions that pass none.
+     */
+    static void clearShared() {
+        SHARED.clear();
+    }
+
+    /**
+     * Builds a cache key by substituting every reachable type variable with its
+     * current binding, e.g. {@code ApiResponse<T>} becomes {@code ApiResponse<ProductResponse>}.
+     */
+    static String keyOf(Type type, ResolverContext context) {
+        StringBuilder key = new StringBuilder();
+        appendKey(type, context, key, 0);
+        return key.toString();
+    }
+
+    private static void appendKey(Type type, ResolverContext context, StringBuilder key, int depth) {
+        if (depth > MAX_KEY_DEPTH) {
+            key.append('…');
+            return;
+        }
+
+        if (type instanceof Class<?> clazz) {
+            key.append(clazz.getName());
+            TypeVariable<?>[] parameters = clazz.getTypeParameters();
+            if (parameters.length > 0) {
+                appendArguments(parameters, context, key, depth);
+            }
+        } else if (type instanceof ParameterizedType pt) {
+            appendKey(pt.getRawType(), null, key, depth + 1);
+            appendArguments(pt.getActualTypeArguments(), context, key, depth);
+        } else if (type instanceof TypeVariable<?> tv) {
+            Type substituted = context != null ? context.substitute(tv) : tv;
+            if (substituted != tv) {
+                appendKey(substituted, context, key, depth + 1);
+            } else {
+                key.append(tv.getGenericDeclaration()).append('#').append(tv.getName());
+            }
+        } else if (type instanceof GenericArrayType at) {
+            appendKey(at.getGenericComponentType(), context, key, depth + 1);
+            key.append("[]");
+        } else if (type instanceof WildcardType wt) {
+            key.append('?');
+            for (Type upper : wt.getUpperBounds()) {
+                key.append(" extends ");
+                appendKey(upper, context, key, depth + 1);
+            }
+            for (Type lower : wt.getLowerBounds()) {
+                key.append(" super ");
+                appendKey(lower, context, key, depth + 1);
+            }
+        } else if (type != null) {
+            key.append(type.getTypeName());
+        }
+    }
+
+    private static void appendArguments(Type[] arguments, ResolverContext context, StringBuilder key, int depth) {
+        key.append('<');
+        for (int i = 0; i < arguments.length; i++) {
+            if (i > 0) key.append(',');
+            appendKey(arguments[i], context, key, depth + 1);
+        }
+        key.append('>');
+    }
+
+    /**
+     * A cached schema together with the resolution state it depends on and the object
+     * and enum classes it contains.
+     */
+    record Entry(Schema schema, Map<TypeVariable<?>, Type> lookups, Set<Type> visited, Set<Class<?>> classes) {
+
+        boolean isReusable(ResolverContext context, Map<Type, Integer> resolving, int depth) {
+            for (Map.Entry<TypeVariable<?>, Type> lookup : lookups.entrySet()) {
+                if (!Objects.equals(context.substitute(lookup.getKey()), lookup.getValue())) {
+                    return false;
+                }
+            }
+
+            for (Map.Entry<Type, Integer> active : resolving.entrySet()) {
+                if (active.getValue() < depth && visited.contains(active.getKey())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Frame {
+
+        private final int depth;
+        private final Map<TypeVariable<?>, Type> lookups = new HashMap<>();
+        private final Set<Type> visited = new HashSet<>();
+        private final Set<Class<?>> classes = new HashSet<>();
+        private int minCycleDepth = Integer.MAX_VALUE;
+        private boolean rebound;
+
+        private Frame(int depth) {
+            this.depth = depth;
+        }
+
+        /**
+         * Records a type-variable binding. A variable seen with two different bindings
+         * inside one subtree makes the subtree depend on more than the entry context.
+         */
+        private void recordLookup(TypeVariable<?> variable, Type substituted) {
+            Type previous = lookups.putIfAbsent(variable, substituted);
+            if (previous != null && !previous.equals(substituted)) {
+                rebound = true;
+            }
+        }
+
+        private void merge(Frame child) {
+            child.lookups.forEach(this::recordLookup);
+            visited.addAll(child.visited);
+            classes.addAll(child.classes);
+            minCycleDepth = Math.min(minCycleDepth, child.minCycleDepth);
+            rebound |= child.rebound;
+        }
+
+        private boolean isSelfContained() {
+            return !rebound && minCycleDepth >= depth;
+        }
+    }
+}
@@ -14,19 +14,35 @@ import dev.retreever.schema.model.Schema;
 import dev.retreever.schema.model.ValueSchema;
 
 import java.lang.reflect.*;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
  * Central dispatcher for schema resolution using the instance-per-resolution pattern.
  * Delegates to specialized resolvers based on type classification.
+ * Object schemas are memoized through {@link ObjectSchemaCache}, so a DTO reached from
+ * many places is reflected once and shared.
+ * <p>
+ * Each resolution also records the object and enum classes its schema contains, so
+ * callers can tell which endpoints a DTO affects without walking schemas afterwards.
  */
 public class SchemaResolver {
     static final ThreadLocal<ResolverContext> CONTEXT =
             ThreadLocal.withInitial(ResolverContext::new);
 
-    private static final ThreadLocal<Set<Type>> RESOLVING =
-            ThreadLocal.withInitial(HashSet::new);
+    /**
+     * Types currently being resolved, mapped to their depth on the resolution stack.
+     */
+    private static final ThreadLocal<Map<Type, Integer>> RESOLVING =
+            ThreadLocal.withInitial(LinkedHashMap::new);
+
+    /**
+     * Object and enum classes reached by the current root resolution.
+     */
+    private static final ThreadLocal<Set<Class<?>>> REACHED =
+            ThreadLocal.withInitial(LinkedHashSet::new);
 
     private SchemaResolver() {}
 
@@ -34,12 +50,38 @@ public class SchemaResolver {
      * Entry point for schema resolution with generic context initialization.
      */
     public static Schema initResolution(Type type) {
+        return initResolution(type, null);
+    }
+
+    /**
+     * Entry point for schema resolution that also collects every object and enum class
+     * the resulting schema contains, including memoized subtrees.
+     *
+     * @param reached receives the reached classes, may be {@code null}
+     */
+    public static Schema initResolution(Type type, Set<Class<?>> reached) {
+        return initResolution(type, reached, null);
+    }
+
+    /**
+     * Same as {@link #initResolution(Type, Set)}, memoizing object schemas in the given
+     * cache instead of the shared one.
+     *
+     * @param cache the object schema cache of the build, may be {@code null}
+     */
+    public static Schema initResolution(Type type, Set<Class<?>> reached, ObjectSchemaCache cache) {
+        ObjectSchemaCache previous = ObjectSchemaCache.activate(cache);
         CONTEXT.set(ResolverContext.fromRoot(type));
         try {
             return resolve(type);
         } finally {
+            if (reached != null) {
+                reached.addAll(REACHED.get());
+            }
             CONTEXT.remove();
             RESOLVING.get().clear();
+            REACHED.remove();
+            ObjectSchemaCache.activate(previous);
         }
     }
 
@@ -51,19 +93,28 @@ public class SchemaResolver {
             return new ValueSchema(JsonPropertyType.NULL);
         }
 
-        Set<Type> resolving = RESOLVING.get();
-        if (!resolving.add(type)) {
+        Map<Type, Integer> resolving = RESOLVING.get();
+        ObjectSchemaCache.recordVisit(type);
+
+        Integer activeDepth = resolving.get(type);
+        if (activeDepth != null) {
+            ObjectSchemaCache.recordCycle(activeDepth);
             return new ValueSchema(JsonPropertyType.OBJECT);
         }
 
+        int depth = resolving.size();
+        resolving.put(type, depth);
         try {
-            Type resolvedType = CONTEXT.get().substitute(type);
+            Type resolvedType = substitute(type);
             Class<?> rawType = extractRawClass(resolvedType);
             JsonPropertyType kind = JsonPropertyTypeResolver.resolve(rawType);
+            if (kind == JsonPropertyType.OBJECT || kind == JsonPropertyType.ENUM) {
+                recordReached(rawType);
+            }
 
             return switch (kind) {
                 case ARRAY -> ArraySchemaResolver.resolve(resolvedType);
-                case OBJECT -> ObjectSchemaResolver.resolve(resolvedType);
+                case OBJECT -> resolveObject(resolvedType, depth);
                 case MAP -> MapSchemaResolver.resolve(resolvedType);
                 default -> ValueSchemaResolver.resolve(resolvedType);
             };
@@ -72,19 +123,68 @@ public class SchemaResolver {
         }
     }
 
+    /**
+     * Substitutes type variables from the active context and records the binding
+     * for the memoization of enclosing object schemas.
+     */
+    static Type substitute(Type type) {
+        Type substituted = CONTEXT.get().substitute(type);
+        if (type instanceof TypeVariable<?> variable) {
+            ObjectSchemaCache.recordLookup(variable, substituted);
+        }
+        return substituted;
+    }
+
+    /**
+     * Clears the object schemas memoized for resolutions that pass no cache of their
+     * own, e.g. after the JSON naming configuration changed.
+     */
+    public static void clearCache() {
+        ObjectSchemaCache.clearShared();
+    }
+
+    private static Schema resolveObject(Type resolvedType, int depth) {
+        ResolverContext context = CONTEXT.get();
+        String key = ObjectSchemaCache.keyOf(resolvedType, context);
+
+        ObjectSchemaCache.Entry cached = ObjectSchemaCache.lookup(key, context, RESOLVING.get(), depth);
+        if (cached != null) {
+            REACHED.get().addAll(cached.classes());
+            return cached.schema();
+        }
+
+        Schema schema = null;
+        ObjectSchemaCache.enter(depth);
+        ObjectSchemaCache.recordClass(extractRawClass(resolvedType));
+        try {
+            schema = ObjectSchemaResolver.resolve(resolvedType);
+            return schema;
+        } finally {
+            ObjectSchemaCache.exit(key, schema);
+        }
+    }
+
+    private static void recordReached(Class<?> rawType) {
+        if (rawType != Object.class) {
+            REACHED.get().add(rawType);
+            ObjectSchemaCache.recordClass(rawType);
+        }
+    }
+
     /**
      * Field resolution entry point - captures field-level generic context.
      * Used by ObjectSchemaResolver, ArraySchemaResolver for nested types.
      */
     public static Schema resolveField(Field field, Type declaringType, Type fieldType) {
+        ResolverContext parentCtx = CONTEXT.get();
         ResolverContext fieldCtx = ResolverContext.fromField(field, declaringType);
-        ResolverContext mergedCtx = CONTEXT.get().merge(fieldCtx);
+        ResolverContext mergedCtx = parentCtx.merge(fieldCtx);
 
         CONTEXT.set(mergedCtx);
         try {
             return resolve(fieldType);
         } finally {
-            CONTEXT.set(CONTEXT.get()); // Restore parent context
+            CONTEXT.set(parentCtx); // Restore parent context
         }
     }
 
@@ -10,13 +10,17 @@ package dev.retreever.schema.resolver.jackson;
 
 import dev.retreever.json.RetreeverJsonMapper;
 import dev.retreever.json.RetreeverJsonMappers;
+import dev.retreever.schema.resolver.SchemaResolver;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class JsonNameResolver {
 
@@ -40,17 +44,19 @@ public class JsonNameResolver {
             "com.fasterxml.jackson.databind.annotation.JsonNaming",
             "tools.jackson.databind.annotation.JsonNaming"
     );
-    private static volatile RetreeverJsonMapper mapper = RetreeverJsonMappers.defaultMapper();
+    private static volatile NameCache names = new NameCache(RetreeverJsonMappers.defaultMapper());
 
     public static void configure(RetreeverJsonMapper objectMapper) {
         if (objectMapper != null) {
-            mapper = objectMapper;
+            names = new NameCache(objectMapper);
+            SchemaResolver.clearCache();
         }
     }
 
     public static void configure(Object objectMapper) {
         if (objectMapper != null) {
-            mapper = RetreeverJsonMappers.wrap(objectMapper);
+            names = new NameCache(RetreeverJsonMappers.wrap(objectMapper));
+            SchemaResolver.clearCache();
         }
     }
 
@@ -87,7 +93,7 @@ public class JsonNameResolver {
     }
 
     private static String resolveJacksonPropertyName(Field field, Class<?> declaringClass) {
-        return mapper.resolvePropertyName(field, declaringClass);
+        return names.resolve(field, declaringClass);
     }
 
     private static String getJsonPropertyNameOrElseDefault(AnnotatedElement elem, String defaultName) {
@@ -197,4 +203,33 @@ public class JsonNameResolver {
         return null;
     }
 
+    /**
+     * Jackson property names per declaring class, resolved with a single introspection
+     * of the class. Bound to one mapper so that reconfiguring drops every entry at once.
+     */
+    private static final class NameCache {
+
+        private final RetreeverJsonMapper mapper;
+        private final Map<Class<?>, Map<Field, String>> namesByClass = new ConcurrentHashMap<>();
+
+        private NameCache(RetreeverJsonMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        private String resolve(Field field, Class<?> declaringClass) {
+            if (!field.getDeclaringClass().isAssignableFrom(declaringClass)) {
+                return mapper.resolvePropertyName(field, declaringClass);
+            }
+            return namesByClass.computeIfAbsent(declaringClass, this::introspect).get(field);
+        }
+
+        private Map<Field, String> introspect(Class<?> declaringClass) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = declaringClass; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                fields.addAll(List.of(current.getDeclaredFields()));
+            }
+            return Map.copyOf(mapper.resolvePropertyNames(declaringClass, fields));
+        }
+    }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.search;
+
+import dev.retreever.view.dto.ApiSearchResult;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory inverted index over the endpoints of one documentation build.
+ * <p>
+ * Terms are kept sorted, so a prefix query is a binary search followed by a scan of the
+ * adjacent terms. Each term has one posting per endpoint it occurs in, packed into a
+ * single {@code int}: the endpoint ordinal in the high bits and a bit mask of the
+ * {@link Field}s it occurs in below. All query tokens must match for an endpoint to be
+ * returned; endpoints are ranked by the weights of the matching fields, with exact
+ * term matches counting double.
+ */
+public final class ApiSearchIndex {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final int FIELD_BITS = 8;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final int EXACT_MATCH_FACTOR = 2;
+
+    private final List<Entry> entries;
+    private final String[] terms;
+    private final int[][] postings;
+
+    private ApiSearchIndex(List<Entry> entries, String[] terms, int[][] postings) {
+        this.entries = entries;
+        this.terms = terms;
+        this.postings = postings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int endpointCount() {
+        return entries.size();
+    }
+
+    public int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Runs a query and returns at most {@code limit} endpoints, best first.
+     */
+    public ApiSearchResult search(String query, int limit) {
+        List<String> tokens = distinct(Tokenizer.tokenize(query));
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (tokens.isEmpty() || entries.isEmpty()) {
+            return new ApiSearchResult(query, 0, List.of());
+        }
+
+        int[] total = null;
+        int[] matchedFields = new int[entries.size()];
+        for (String token : tokens) {
+            int[] scores = scoreToken(token, matchedFields);
+            if (total == null) {
+                total = scores;
+            } else {
+                for (int i = 0; i < total.length; i++) {
+                    total[i] = total[i] == 0 || scores[i] == 0 ? 0 : total[i] + scores[i];
+                }
+            }
+        }
+
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < total.length; i++) {
+            if (total[i] > 0) {
+                matches.add(i);
+            }
+        }
+        final int[] ranked = total;
+        matches.sort((a, b) -> ranked[a] != ranked[b] ? Integer.compare(ranked[b], ranked[a]) : Integer.compare(a, b));
+
+        List<ApiSearchResult.Hit> hits = new ArrayList<>(Math.min(matches.size(), cappedLimit));
+        for (int i = 0; i < matches.size() && i < cappedLimit; i++) {
+            int ordinal = matches.get(i);
+            hits.add(entries.get(ordinal).toHit(ranked[ordinal], Field.names(matchedFields[ordinal])));
+        }
+        return new ApiSearchResult(query, matches.size(), hits);
+    }
+
+    /**
+     * Scores every endpoint for one token: the best weight among the terms that start
+     * with the token, doubled for the exact term.
+     */
+    private int[] scoreToken(String token, int[] matchedFields) {
+        int[] scores = new int[entries.size()];
+        for (int t = lowerBound(token); t < terms.length && terms[t].startsWith(token); t++) {
+            int factor = terms[t].length() == token.length() ? EXACT_MATCH_FACTOR : 1;
+            for (int posting : postings[t]) {
+                int ordinal = posting >>> FIELD_BITS;
+                int fields = posting & FIELD_MASK;
+                scores[ordinal] = Math.max(scores[ordinal], Field.weight(fields) * factor);
+                matchedFields[ordinal] |= fields;
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * Writes the index in the binary form read by {@link #read(ByteBuffer)}.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(entries.size());
+        for (Entry entry : entries) {
+            IndexCodec.writeString(out, entry.id);
+            IndexCodec.writeString(out, entry.groupId);
+            IndexCodec.writeString(out, entry.groupName);
+            IndexCodec.writeString(out, entry.name);
+            IndexCodec.writeString(out, entry.method);
+            IndexCodec.writeString(out, entry.path);
+            out.writeBoolean(entry.deprecated);
+        }
+        out.writeInt(terms.length);
+        for (int i = 0; i < terms.length; i++) {
+            IndexCodec.writeString(out, terms[i]);
+            IndexCodec.writeInts(out, postings[i]);
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(DataOutput)}, advancing the buffer past it.
+     */
+    public static ApiSearchIndex read(ByteBuffer in) {
+        int entryCount = in.getInt();
+        List<Entry> entries = new ArrayList<>(entryCount);
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(new Entry(
+                    IndexCodec.readString(in),
+                    IndexCodec.readString(in),
+                    IndexCodec.readString(in),
+                    IndexCodec.readString(in),
+                    IndexCodec.readString(in),
+                    IndexCodec.readString(in),
+                    in.get() != 0
+            ));
+        }
+        String[] terms = new String[in.getInt()];
+        int[][] postings = new int[terms.length][];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = IndexCodec.readString(in);
+            postings[i] = IndexCodec.readInts(in);
+        }
+        return new ApiSearchIndex(List.copyOf(entries), terms, postings);
+    }
+
+    private int lowerBound(String token) {
+        int index = Arrays.binarySearch(terms, token);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static List<String> distinct(List<String> tokens) {
+        return tokens.stream().distinct().toList();
+    }
+
+    /**
+     * Parts of an endpoint the index covers, with their ranking weights.
+     */
+    public enum Field {
+        NAME("name", 8),
+        PATH("path", 6),
+        ERROR_CODE("error_code", 5),
+        METHOD("method", 4),
+        GROUP("group", 3),
+        PROPERTY("property", 2),
+        PARAMETER("parameter", 2),
+        DESCRIPTION("description", 1);
+
+        private final String label;
+        private final int weight;
+
+        Field(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+
+        private static int weight(int fields) {
+            int weight = 0;
+            for (Field field : values()) {
+                if ((fields & field.bit()) != 0) {
+                    weight += field.weight;
+                }
+            }
+            return weight;
+        }
+
+        private static List<String> names(int fields) {
+            List<String> names = new ArrayList<>(2);
+            for (Field field : values()) {
+                if ((fields & field.bit()) != 0) {
+                    names.add(field.label);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Collects endpoints one at a time and freezes them into an index.
+     */
+    public static final class Builder {
+
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<String, IntList> postings = new HashMap<>();
+        private Map<String, Integer> current;
+
+        private Builder() {
+        }
+
+        /**
+         * Starts a new endpoint; text added afterwards belongs to it.
+         */
+        public Builder endpoint(String id, String groupId, String groupName, String name, String method,
+                                String path, boolean deprecated) {
+            flush();
+            entries.add(new Entry(id, groupId, groupName, name, method, path, deprecated));
+            current = new LinkedHashMap<>();
+            add(Field.NAME, name);
+            add(Field.PATH, path);
+            add(Field.METHOD, method);
+            add(Field.GROUP, groupName);
+            return this;
+        }
+
+        public Builder add(Field field, String text) {
+            if (current == null) {
+                throw new IllegalStateException("Call endpoint(...) before adding text.");
+            }
+            for (String token : Tokenizer.tokenize(text)) {
+                current.merge(token, field.bit(), (a, b) -> a | b);
+            }
+            return this;
+        }
+
+        public ApiSearchIndex build() {
+            flush();
+            String[] terms = postings.keySet().toArray(String[]::new);
+            Arrays.sort(terms);
+
+            int[][] packed = new int[terms.length][];
+            for (int i = 0; i < terms.length; i++) {
+                packed[i] = postings.get(terms[i]).toArray();
+            }
+            return new ApiSearchIndex(List.copyOf(entries), terms, packed);
+        }
+
+        private void flush() {
+            if (current == null) {
+                return;
+            }
+            int ordinal = entries.size() - 1;
+            current.forEach((term, fields) ->
+                    postings.computeIfAbsent(term, key -> new IntList()).add((ordinal << FIELD_BITS) | fields));
+            current = null;
+        }
+    }
+
+    private record Entry(String id, String groupId, String groupName, String name, String method, String path,
+                         boolean deprecated) {
+
+        private ApiSearchResult.Hit toHit(int score, List<String> matched) {
+            return new ApiSearchResult.Hit(id, groupId, groupName, name, method, path, deprecated, score, matched);
+        }
+    }
+
+    /**
+     * Splits text into lower-case terms on non-alphanumeric characters. Camel-case
+     * words are indexed whole and by their parts, so {@code userId} matches
+     * {@code userid}, {@code user} and {@code id}.
+     */
+    static final class Tokenizer {
+
+        private Tokenizer() {
+        }
+
+        static List<String> tokenize(String text) {
+            if (text == null || text.isEmpty()) {
+                return List.of();
+            }
+
+            List<String> tokens = new ArrayList<>();
+            int start = -1;
+            for (int i = 0; i <= text.length(); i++) {
+                boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    addWord(text.substring(start, i), tokens);
+                    start = -1;
+                }
+            }
+            return tokens;
+        }
+
+        private static void addWord(String word, List<String> tokens) {
+            tokens.add(word.toLowerCase(Locale.ROOT));
+
+            int partStart = 0;
+            for (int i = 1; i < word.length(); i++) {
+                char previous = word.charAt(i - 1);
+                char current = word.charAt(i);
+                boolean boundary = (Character.isLowerCase(previous) || Character.isDigit(previous))
+                        && Character.isUpperCase(current)
+                        || Character.isUpperCase(previous) && Character.isUpperCase(current)
+                        && i + 1 < word.length() && Character.isLowerCase(word.charAt(i + 1));
+                if (boundary) {
+                    tokens.add(word.substring(partStart, i).toLowerCase(Locale.ROOT));
+                    partStart = i;
+                }
+            }
+            if (partStart > 0) {
+                tokens.add(word.substring(partStart).toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.search;
+
+import dev.retreever.view.dto.ApiSchemaUsage;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reverse index from resolved DTO classes to the endpoints and errors whose schemas
+ * contain them, for one documentation build.
+ * <p>
+ * Endpoints and errors are numbered in document order. Each class has two adjacency
+ * lists of those numbers: endpoint postings pack the endpoint ordinal with a bit mask
+ * of where the class is used (request or response body), error postings are plain
+ * error ordinals. Classes can be looked up by binary name, canonical name or simple name.
+ */
+public final class SchemaUsageIndex {
+
+    private static final int ROLE_BITS = 2;
+    private static final int ROLE_MASK = (1 << ROLE_BITS) - 1;
+
+    private final List<EndpointEntry> endpoints;
+    private final List<ErrorEntry> errors;
+    private final String[] classNames;
+    private final int[][] endpointPostings;
+    private final int[][] errorPostings;
+    private final Map<String, int[]> aliases;
+
+    private SchemaUsageIndex(List<EndpointEntry> endpoints,
+                             List<ErrorEntry> errors,
+                             String[] classNames,
+                             int[][] endpointPostings,
+                             int[][] errorPostings,
+                             Map<String, int[]> aliases) {
+        this.endpoints = endpoints;
+        this.errors = errors;
+        this.classNames = classNames;
+        this.endpointPostings = endpointPostings;
+        this.errorPostings = errorPostings;
+        this.aliases = aliases;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int classCount() {
+        return classNames.length;
+    }
+
+    /**
+     * Returns the usages of every indexed class matching the name, or {@code null} if
+     * no class matches.
+     */
+    public ApiSchemaUsage lookup(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+
+        String trimmed = name.trim();
+        int exact = Arrays.binarySearch(classNames, trimmed);
+        int[] matches = exact >= 0 ? new int[]{exact} : aliases.get(trimmed);
+        if (matches == null) {
+            return null;
+        }
+
+        List<ApiSchemaUsage.Type> types = new ArrayList<>(matches.length);
+        for (int index : matches) {
+            types.add(usagesOf(index));
+        }
+        return new ApiSchemaUsage(trimmed, types);
+    }
+
+    /**
+     * Writes the index in the binary form read by {@link #read(ByteBuffer)}.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(endpoints.size());
+        for (EndpointEntry endpoint : endpoints) {
+            IndexCodec.writeString(out, endpoint.id);
+            IndexCodec.writeString(out, endpoint.name);
+            IndexCodec.writeString(out, endpoint.method);
+            IndexCodec.writeString(out, endpoint.path);
+        }
+        out.writeInt(errors.size());
+        for (ErrorEntry error : errors) {
+            IndexCodec.writeString(out, error.exception);
+            out.writeInt(error.status);
+            IndexCodec.writeString(out, error.description);
+            IndexCodec.writeInts(out, error.endpoints);
+        }
+        out.writeInt(classNames.length);
+        for (int i = 0; i < classNames.length; i++) {
+            IndexCodec.writeString(out, classNames[i]);
+            IndexCodec.writeInts(out, endpointPostings[i]);
+            IndexCodec.writeInts(out, errorPostings[i]);
+        }
+        out.writeInt(aliases.size());
+        for (Map.Entry<String, int[]> alias : aliases.entrySet()) {
+            IndexCodec.writeString(out, alias.getKey());
+            IndexCodec.writeInts(out, alias.getValue());
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(DataOutput)}, advancing the buffer past it.
+     */
+    public static SchemaUsageIndex read(ByteBuffer in) {
+        int endpointCount = in.getInt();
+        List<EndpointEntry> endpoints = new ArrayList<>(endpointCount);
+        for (int i = 0; i < endpointCount; i++) {
+            endpoints.add(new EndpointEntry(IndexCodec.readString(in), IndexCodec.readString(in),
+                    IndexCodec.readString(in), IndexCodec.readString(in)));
+        }
+        int errorCount = in.getInt();
+        List<ErrorEntry> errors = new ArrayList<>(errorCount);
+        for (int i = 0; i < errorCount; i++) {
+            errors.add(new ErrorEntry(IndexCodec.readString(in), in.getInt(), IndexCodec.readString(in),
+                    IndexCodec.readInts(in)));
+        }
+        String[] classNames = new String[in.getInt()];
+        int[][] endpointPostings = new int[classNames.length][];
+        int[][] errorPostings = new int[classNames.length][];
+        for (int i = 0; i < classNames.length; i++) {
+            classNames[i] = IndexCodec.readString(in);
+            endpointPostings[i] = IndexCodec.readInts(in);
+            errorPostings[i] = IndexCodec.readInts(in);
+        }
+        int aliasCount = in.getInt();
+        Map<String, int[]> aliases = new HashMap<>(aliasCount * 2);
+        for (int i = 0; i < aliasCount; i++) {
+            aliases.put(IndexCodec.readString(in), IndexCodec.readInts(in));
+        }
+        return new SchemaUsageIndex(List.copyOf(endpoints), List.copyOf(errors), classNames,
+                endpointPostings, errorPostings, aliases);
+    }
+
+    private ApiSchemaUsage.Type usagesOf(int classIndex) {
+        List<ApiSchemaUsage.Endpoint> usedBy = new ArrayList<>(endpointPostings[classIndex].length);
+        for (int posting : endpointPostings[classIndex]) {
+            usedBy.add(endpoints.get(posting >>> ROLE_BITS).toDto(Role.names(posting & ROLE_MASK)));
+        }
+
+        List<ApiSchemaUsage.Error> usedByErrors = new ArrayList<>(errorPostings[classIndex].length);
+        for (int ordinal : errorPostings[classIndex]) {
+            ErrorEntry error = errors.get(ordinal);
+            List<String> raisedBy = new ArrayList<>(error.endpoints.length);
+            for (int endpoint : error.endpoints) {
+                raisedBy.add(endpoints.get(endpoint).id);
+            }
+            usedByErrors.add(new ApiSchemaUsage.Error(error.exception, error.status, error.description, raisedBy));
+        }
+        return new ApiSchemaUsage.Type(classNames[classIndex], usedBy, usedByErrors);
+    }
+
+    /**
+     * Where a class occurs in an endpoint.
+     */
+    public enum Role {
+        REQUEST("request"),
+        RESPONSE("response");
+
+        private final String label;
+
+        Role(String label) {
+            this.label = label;
+        }
+
+        private int bit() {
+            return 1 << ordinal();
+        }
+
+        private static List<String> names(int roles) {
+            List<String> names = new ArrayList<>(2);
+            for (Role role : values()) {
+                if ((roles & role.bit()) != 0) {
+                    names.add(role.label);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Collects endpoints, errors and the classes they use, then freezes them into an index.
+     */
+    public static final class Builder {
+
+        private final List<EndpointEntry> endpoints = new ArrayList<>();
+        private final List<ErrorEntry> errors = new ArrayList<>();
+        private final Map<String, Integer> errorOrdinals = new HashMap<>();
+        private final List<IntList> errorEndpoints = new ArrayList<>();
+        private final Map<Class<?>, Map<Integer, Integer>> endpointUses = new LinkedHashMap<>();
+        private final Map<Class<?>, IntList> errorUses = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds an endpoint and returns its ordinal.
+         */
+        public int endpoint(String id, String name, String method, String path) {
+            endpoints.add(new EndpointEntry(id, name, method, path));
+            return endpoints.size() - 1;
+        }
+
+        public Builder uses(int endpoint, Set<Class<?>> classes, Role role) {
+            for (Class<?> type : classes) {
+                endpointUses.computeIfAbsent(type, key -> new LinkedHashMap<>())
+                        .merge(endpoint, role.bit(), (a, b) -> a | b);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the ordinal of the error for the exception, adding it on first use.
+         * The body classes are only recorded when the error is added.
+         */
+        public int error(String exception, int status, String description, Set<Class<?>> bodyClasses) {
+            Integer existing = errorOrdinals.get(exception);
+            if (existing != null) {
+                return existing;
+            }
+
+            int ordinal = errors.size();
+            errors.add(new ErrorEntry(exception, status, description, null));
+            errorEndpoints.add(new IntList());
+            errorOrdinals.put(exception, ordinal);
+            for (Class<?> type : bodyClasses) {
+                errorUses.computeIfAbsent(type, key -> new IntList()).add(ordinal);
+            }
+            return ordinal;
+        }
+
+        public Builder raises(int endpoint, int error) {
+            errorEndpoints.get(error).add(endpoint);
+            return this;
+        }
+
+        public SchemaUsageIndex build() {
+            List<Class<?>> classes = new ArrayList<>(endpointUses.keySet());
+            errorUses.keySet().stream().filter(type -> !endpointUses.containsKey(type)).forEach(classes::add);
+            classes.sort(Comparator.comparing(Class::getName));
+
+            String[] names = new String[classes.size()];
+            int[][] endpointPostings = new int[classes.size()][];
+            int[][] errorPostings = new int[classes.size()][];
+            Map<String, List<Integer>> aliasLists = new HashMap<>();
+            for (int i = 0; i < classes.size(); i++) {
+                Class<?> type = classes.get(i);
+                names[i] = type.getName();
+                endpointPostings[i] = pack(endpointUses.getOrDefault(type, Map.of()));
+                IntList errorList = errorUses.get(type);
+                errorPostings[i] = errorList != null ? errorList.toArray() : new int[0];
+
+                addAlias(aliasLists, type.getSimpleName(), i);
+                if (type.getCanonicalName() != null && !type.getCanonicalName().equals(type.getName())) {
+                    addAlias(aliasLists, type.getCanonicalName(), i);
+                }
+            }
+
+            Map<String, int[]> aliases = new HashMap<>();
+            aliasLists.forEach((alias, indexes) ->
+                    aliases.put(alias, indexes.stream().mapToInt(Integer::intValue).toArray()));
+
+            List<ErrorEntry> frozenErrors = new ArrayList<>(errors.size());
+            for (int i = 0; i < errors.size(); i++) {
+                ErrorEntry error = errors.get(i);
+                frozenErrors.add(new ErrorEntry(error.exception, error.status, error.description,
+                        errorEndpoints.get(i).toArray()));
+            }
+            return new SchemaUsageIndex(List.copyOf(endpoints), List.copyOf(frozenErrors), names,
+                    endpointPostings, errorPostings, aliases);
+        }
+
+        private static int[] pack(Map<Integer, Integer> uses) {
+            int[] postings = new int[uses.size()];
+            int i = 0;
+            for (Map.Entry<Integer, Integer> use : uses.entrySet()) {
+                postings[i++] = (use.getKey() << ROLE_BITS) | use.getValue();
+            }
+            Arrays.sort(postings);
+            return postings;
+        }
+
+        private static void addAlias(Map<String, List<Integer>> aliases, String alias, int index) {
+            if (alias != null && !alias.isEmpty()) {
+                aliases.computeIfAbsent(alias, key -> new ArrayList<>(1)).add(index);
+            }
+        }
+    }
+
+    private record EndpointEntry(String id, String name, String method, String path) {
+
+        private ApiSchemaUsage.Endpoint toDto(List<String> usage) {
+            return new ApiSchemaUsage.Endpoint(id, name, method, path, usage);
+        }
+    }
+
+    private record ErrorEntry(String exception, int status, String description, int[] endpoints) {
+    }
+}
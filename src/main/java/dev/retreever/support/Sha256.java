@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 digests behind the ids, hashes, entity tags and fingerprints Retreever derives
+ * from content.
+ */
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+
+    /**
+     * Returns the digest of the bytes in hex.
+     */
+    public static String hex(byte[] value) {
+        return HexFormat.of().formatHex(newDigest().digest(value));
+    }
+
+    /**
+     * Returns the first {@code bytes} bytes of the digest of the value in hex.
+     */
+    public static String hex(byte[] value, int bytes) {
+        return prefix(newDigest().digest(value), bytes);
+    }
+
+    /**
+     * Returns the first {@code bytes} bytes of the digest of the UTF-8 string in hex.
+     */
+    public static String hex(String value, int bytes) {
+        return hex(value.getBytes(StandardCharsets.UTF_8), bytes);
+    }
+
+    /**
+     * Returns the first {@code bytes} bytes of a finished digest in hex.
+     */
+    public static String hex(MessageDigest digest, int bytes) {
+        return prefix(digest.digest(), bytes);
+    }
+
+    /**
+     * Feeds the UTF-8 string followed by a zero byte, so adjacent values cannot run
+     * into each other.
+     */
+    public static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static String prefix(byte[] digest, int bytes) {
+        return HexFormat.of().formatHex(digest, 0, Math.min(bytes, digest.length));
+    }
+}
@@ -13,9 +13,16 @@ import dev.retreever.auth.RetreeverAuthenticationService;
 import dev.retreever.config.RetreeverStudioProperties;
 import dev.retreever.repo.ApiErrorRegistry;
 import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.MapSchema;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
 import dev.retreever.schema.model.Schema;
+import dev.retreever.search.ApiSearchIndex;
+import dev.retreever.search.SchemaUsageIndex;
 import dev.retreever.schema.resolver.SchemaResolver;
 import dev.retreever.view.dto.ApiDocument;
+import dev.retreever.view.dto.ApiDocumentIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -23,9 +30,16 @@ import org.springframework.http.HttpStatus;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -41,27 +55,76 @@ public class ApiDocumentAssembler {
     private final ApiErrorRegistry errorRegistry;
     private final RetreeverAuthenticationService authenticationService;
     private final RetreeverStudioProperties studioProperties;
+    private final SchemaRenderBudget renderBudget;
+
+    // Per-build memo: each distinct error type and schema is rendered once and shared.
+    // Schema does not override equals, so schema keys compare by identity.
+    private final Map<Type, ApiDocument.Error> renderedErrors = new ConcurrentHashMap<>();
+    private final Map<Schema, Map<String, Object>> renderedRequests = new ConcurrentHashMap<>();
+    private final Map<Schema, Map<String, Object>> renderedResponses = new ConcurrentHashMap<>();
+
+    // Under a render budget, stub tokens depend on the root type, so views are memoized by scope.
+    private final Map<String, Map<String, Object>> renderedScopes = new ConcurrentHashMap<>();
+    private final Map<String, Stub> stubs = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> renderedStubs = new ConcurrentHashMap<>();
 
     public ApiDocumentAssembler(
             SchemaRegistry schemaRegistry,
             ApiErrorRegistry errorRegistry,
             RetreeverAuthenticationService authenticationService,
             RetreeverStudioProperties studioProperties) {
+        this(schemaRegistry, errorRegistry, authenticationService, studioProperties, SchemaRenderBudget.unlimited());
+    }
+
+    public ApiDocumentAssembler(
+            SchemaRegistry schemaRegistry,
+            ApiErrorRegistry errorRegistry,
+            RetreeverAuthenticationService authenticationService,
+            RetreeverStudioProperties studioProperties,
+            SchemaRenderBudget renderBudget) {
         this.schemaRegistry = schemaRegistry;
         this.errorRegistry = errorRegistry;
         this.authenticationService = authenticationService;
         this.studioProperties = studioProperties;
+        this.renderBudget = renderBudget;
         log.debug("ApiDocumentAssembler initialized - SchemaRegistry: {}, ErrorRegistry: {}",
                 schemaRegistry.size(), errorRegistry.size());
     }
 
+    /**
+     * Returns an assembler with the same registries and an empty render memo, to be used
+     * for one documentation build. Rendered errors and schema views are shared between
+     * all endpoints assembled through it.
+     */
+    public ApiDocumentAssembler forBuild() {
+        return new ApiDocumentAssembler(schemaRegistry, errorRegistry, authenticationService, studioProperties,
+                renderBudget);
+    }
+
+    /**
+     * Returns the registry schemas are rendered from.
+     */
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry;
+    }
+
     // PUBLIC ENTRY POINT
     public ApiDocument assemble(ApiDoc apiDoc) {
+        return assemble(apiDoc, Instant.now(), this::assembleGroup);
+    }
+
+    /**
+     * Assembles the full document, delegating each group to the given mapper so callers
+     * can reuse groups they already rendered.
+     */
+    public ApiDocument assemble(ApiDoc apiDoc,
+                                Instant upTime,
+                                Function<ApiGroup, ApiDocument.ApiGroup> groupMapper) {
         log.debug("Assembling ApiDocument: {} groups, {} total endpoints",
                 apiDoc.getGroups().size(), countTotalEndpoints(apiDoc));
 
         List<ApiDocument.ApiGroup> groups = apiDoc.getGroups().stream()
-                .map(this::mapGroup)
+                .map(groupMapper)
                 .collect(Collectors.toList());
 
         ApiDocument doc = new ApiDocument(
@@ -71,7 +134,7 @@ public class ApiDocumentAssembler {
                 apiDoc.getUriPrefix(),
                 authenticationService.isEnabled(),
                 studioProperties.getStorage(),
-                Instant.now(),
+                upTime,
                 groups
         );
 
@@ -79,14 +142,209 @@ public class ApiDocumentAssembler {
         return doc;
     }
 
+    /**
+     * Assembles the schema-free outline of the document.
+     */
+    public ApiDocumentIndex assembleIndex(ApiDoc apiDoc, Instant upTime) {
+        List<ApiDocumentIndex.Group> groups = apiDoc.getGroups().stream()
+                .map(group -> new ApiDocumentIndex.Group(
+                        group.getId(),
+                        group.getName(),
+                        group.getDescription(),
+                        group.isDeprecated(),
+                        group.getEndpoints().stream()
+                                .map(endpoint -> new ApiDocumentIndex.Endpoint(
+                                        endpoint.getId(),
+                                        endpoint.getName(),
+                                        endpoint.getHttpMethod(),
+                                        endpoint.getPath(),
+                                        endpoint.isDeprecated(),
+                                        endpoint.isSecured()
+                                ))
+                                .collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
+        return new ApiDocumentIndex(
+                apiDoc.getName(),
+                apiDoc.getDescription(),
+                apiDoc.getVersion(),
+                apiDoc.getUriPrefix(),
+                authenticationService.isEnabled(),
+                studioProperties.getStorage(),
+                upTime,
+                groups
+        );
+    }
+
+    /**
+     * Outlines an already rendered document.
+     */
+    public static ApiDocumentIndex assembleIndex(ApiDocument document) {
+        List<ApiDocumentIndex.Group> groups = document.groups().stream()
+                .map(group -> new ApiDocumentIndex.Group(
+                        group.id(),
+                        group.name(),
+                        group.description(),
+                        group.deprecated(),
+                        group.endpoints().stream()
+                                .map(endpoint -> new ApiDocumentIndex.Endpoint(
+                                        endpoint.id(),
+                                        endpoint.name(),
+                                        endpoint.method(),
+                                        endpoint.path(),
+                                        endpoint.deprecated(),
+                                        endpoint.secured()
+                                ))
+                                .collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
+        return new ApiDocumentIndex(
+                document.name(),
+                document.description(),
+                document.version(),
+                document.uriPrefix(),
+                document.retreeverAuthEnabled(),
+                document.studioStorage(),
+                document.upTime(),
+                groups
+        );
+    }
+
+    /**
+     * Builds the search index over names, paths, methods, groups, parameters, schema
+     * properties, descriptions and error codes. Endpoints must already be resolved;
+     * schemas missing from the registry are skipped.
+     */
+    public ApiSearchIndex assembleSearchIndex(ApiDoc apiDoc) {
+        ApiSearchIndex.Builder builder = ApiSearchIndex.builder();
+        Set<String> seen = new HashSet<>();
+        for (ApiGroup group : apiDoc.getGroups()) {
+            for (ApiEndpoint endpoint : group.getEndpoints()) {
+                if (!seen.add(endpoint.getId())) {
+                    continue;
+                }
+                builder.endpoint(endpoint.getId(), group.getId(), group.getName(), endpoint.getName(),
+                        endpoint.getHttpMethod(), endpoint.getPath(), endpoint.isDeprecated());
+                builder.add(ApiSearchIndex.Field.DESCRIPTION, endpoint.getDescription());
+                builder.add(ApiSearchIndex.Field.DESCRIPTION, group.getDescription());
+                indexParameters(endpoint, builder);
+                indexSchema(schemaOf(endpoint.getRequestBodyType()), builder);
+                indexSchema(schemaOf(endpoint.getResponseBodyType()), builder);
+                for (Type errorType : endpoint.getErrorTypes()) {
+                    ApiError apiError = errorType != null ? errorRegistry.get(errorType) : null;
+                    if (apiError != null) {
+                        builder.add(ApiSearchIndex.Field.ERROR_CODE, apiError.getErrorCode());
+                        builder.add(ApiSearchIndex.Field.DESCRIPTION, apiError.getDescription());
+                        indexSchema(schemaOf(apiError.getErrorBodyType()), builder);
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Builds the reverse index from DTO classes to the endpoints and errors using them,
+     * from the classes recorded while schemas were resolved. Endpoints must already be
+     * resolved.
+     */
+    public SchemaUsageIndex assembleUsageIndex(ApiDoc apiDoc) {
+        SchemaUsageIndex.Builder builder = SchemaUsageIndex.builder();
+        errorRegistry.values().stream()
+                .sorted(Comparator.comparing(error -> error.getErrorType().getTypeName()))
+                .forEach(error -> addError(error, builder));
+
+        Set<String> seen = new HashSet<>();
+        for (ApiGroup group : apiDoc.getGroups()) {
+            for (ApiEndpoint endpoint : group.getEndpoints()) {
+                if (!seen.add(endpoint.getId())) {
+                    continue;
+                }
+                int ordinal = builder.endpoint(endpoint.getId(), endpoint.getName(),
+                        endpoint.getHttpMethod(), endpoint.getPath());
+                builder.uses(ordinal, schemaRegistry.getReachedClasses(endpoint.getRequestBodyType()),
+                        SchemaUsageIndex.Role.REQUEST);
+                builder.uses(ordinal, schemaRegistry.getReachedClasses(endpoint.getResponseBodyType()),
+                        SchemaUsageIndex.Role.RESPONSE);
+                for (Type errorType : endpoint.getErrorTypes()) {
+                    ApiError apiError = errorType != null ? errorRegistry.get(errorType) : null;
+                    if (apiError != null) {
+                        builder.raises(ordinal, addError(apiError, builder));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private int addError(ApiError error, SchemaUsageIndex.Builder builder) {
+        return builder.error(
+                error.getErrorType().getTypeName(),
+                error.getStatus().value(),
+                error.getDescription(),
+                schemaRegistry.getReachedClasses(error.getErrorBodyType())
+        );
+    }
+
+    private void indexParameters(ApiEndpoint endpoint, ApiSearchIndex.Builder builder) {
+        for (ApiPathVariable variable : safeList(endpoint.getPathVariables())) {
+            builder.add(ApiSearchIndex.Field.PARAMETER, variable.getName());
+            builder.add(ApiSearchIndex.Field.DESCRIPTION, variable.getDescription());
+        }
+        for (ApiParam param : safeList(endpoint.getQueryParams())) {
+            builder.add(ApiSearchIndex.Field.PARAMETER, param.getName());
+            builder.add(ApiSearchIndex.Field.DESCRIPTION, param.getDescription());
+        }
+        for (ApiHeader header : safeList(endpoint.getHeaders())) {
+            builder.add(ApiSearchIndex.Field.PARAMETER, header.getName());
+            builder.add(ApiSearchIndex.Field.DESCRIPTION, header.getDescription());
+        }
+    }
+
+    private Schema schemaOf(Type type) {
+        return type != null ? schemaRegistry.getSchema(type) : null;
+    }
+
+    private static void indexSchema(Schema root, ApiSearchIndex.Builder builder) {
+        // Recursive DTOs share schema instances, so the walk tracks what it has visited.
+        Set<Schema> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Schema> pending = new ArrayList<>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            Schema schema = pending.remove(pending.size() - 1);
+            if (schema == null || !visited.add(schema)) {
+                continue;
+            }
+            if (schema instanceof ObjectSchema object) {
+                pending.addAll(object.getProperties().values());
+            } else if (schema instanceof Property property) {
+                builder.add(ApiSearchIndex.Field.PROPERTY, property.getName());
+                builder.add(ApiSearchIndex.Field.DESCRIPTION, property.getDescription());
+                pending.add(property.getValue());
+            } else if (schema instanceof ArraySchema array) {
+                pending.add(array.getElementSchema());
+            } else if (schema instanceof MapSchema map) {
+                pending.add(map.getValueSchema());
+            }
+        }
+    }
+
     // GROUP MAPPING
-    private ApiDocument.ApiGroup mapGroup(ApiGroup group) {
+    public ApiDocument.ApiGroup assembleGroup(ApiGroup group) {
+        return assembleGroup(group, this::assembleEndpoint);
+    }
+
+    public ApiDocument.ApiGroup assembleGroup(ApiGroup group,
+                                              Function<ApiEndpoint, ApiDocument.Endpoint> endpointMapper) {
         log.debug("Mapping group: {} ({} endpoints)", group.getName(), group.getEndpoints().size());
         List<ApiDocument.Endpoint> endpoints = group.getEndpoints().stream()
-                .map(this::mapEndpoint)
+                .map(endpointMapper)
                 .collect(Collectors.toList());
 
         return new ApiDocument.ApiGroup(
+                group.getId(),
                 group.getName(),
                 group.getDescription(),
                 group.isDeprecated(),
@@ -95,10 +353,11 @@ public class ApiDocumentAssembler {
     }
 
     // ENDPOINT MAPPING (FULL SPEC ALIGNMENT)
-    private ApiDocument.Endpoint mapEndpoint(ApiEndpoint endpoint) {
+    public ApiDocument.Endpoint assembleEndpoint(ApiEndpoint endpoint) {
         log.debug("Mapping endpoint: {} {}", endpoint.getHttpMethod(), endpoint.getPath());
 
         return new ApiDocument.Endpoint(
+                endpoint.getId(),
                 endpoint.getName(),
                 endpoint.isDeprecated(),
                 endpoint.getDescription(),
@@ -143,14 +402,66 @@ public class ApiDocumentAssembler {
         }
 
         log.debug("{} SCHEMA FOUND: {}", typeName, type.getTypeName());
-        Map<String, Object> rendered = typeName.equals("REQUEST")
-                ? SchemaViewRenderer.renderRequest(schema)
-                : SchemaViewRenderer.renderResponse(schema);
+        Map<String, Object> rendered = renderView(schema, type, typeName.equals("REQUEST"));
 
         log.debug("{} RENDERED SUCCESSFULLY", typeName);
         return rendered;
     }
 
+    private Map<String, Object> renderView(Schema schema, Type type, boolean request) {
+        if (renderBudget.isUnlimited()) {
+            return request
+                    ? renderedRequests.computeIfAbsent(schema, key -> view(SchemaViewRenderer.renderRequest(key)))
+                    : renderedResponses.computeIfAbsent(schema, key -> view(SchemaViewRenderer.renderResponse(key)));
+        }
+        return renderedScopes.computeIfAbsent(scope(type, request),
+                key -> view(render(schema, request, planStubs(schema, type, request))));
+    }
+
+    /**
+     * Plans which subtrees of the schema rendered for the type are stubbed under the render
+     * budget, registering each stub so it can be expanded later.
+     *
+     * @return stub tokens by path, empty when the schema is rendered in full
+     */
+    Map<String, String> planStubs(Schema schema, Type type, boolean request) {
+        return planStubs(schema, scope(type, request), request);
+    }
+
+    private Map<String, String> planStubs(Schema schema, String scope, boolean request) {
+        return renderBudget.plan(schema, scope, (token, subtree) -> stubs.putIfAbsent(token, new Stub(subtree, request)));
+    }
+
+    /**
+     * Renders a stubbed subtree with a fresh budget, or returns {@code null} if no stub with
+     * this token was rendered in this build. Deeper stubs inside it get tokens of their own.
+     */
+    public Map<String, Object> expandStub(String token) {
+        Stub stub = stubs.get(token);
+        if (stub == null) {
+            return null;
+        }
+        return renderedStubs.computeIfAbsent(token,
+                key -> view(render(stub.schema(), stub.request(), planStubs(stub.schema(), key, stub.request()))));
+    }
+
+    private static Map<String, Object> render(Schema schema, boolean request, Map<String, String> stubs) {
+        return request
+                ? SchemaViewRenderer.renderRequest(schema, stubs)
+                : SchemaViewRenderer.renderResponse(schema, stubs);
+    }
+
+    private static String scope(Type type, boolean request) {
+        return (request ? "request:" : "response:") + type.getTypeName();
+    }
+
+    /**
+     * Rendered views are shared between endpoints, so they are handed out read-only.
+     */
+    private static Map<String, Object> view(Map<String, Object> rendered) {
+        return Collections.unmodifiableMap(rendered);
+    }
+
     // ERROR MAPPING (ApiErrorRegistry INTEGRATED)
     private List<ApiDocument.Error> mapErrors(ApiEndpoint endpoint) {
         log.debug("Mapping {} errors", endpoint.getErrorTypes().size());
@@ -163,6 +474,11 @@ public class ApiDocumentAssembler {
     private ApiDocument.Error renderError(Type errorType) {
         if (errorType == null) return null;
 
+        ApiDocument.Error rendered = renderedErrors.get(errorType);
+        if (rendered != null) {
+            return rendered;
+        }
+
         // 2. Lookup ApiError from registry
         ApiError apiError = errorRegistry.get(errorType);
         if (apiError == null) {
@@ -176,7 +492,7 @@ public class ApiDocumentAssembler {
 
         Map<String, Object> response = null;
         if(schema != null) {
-            response = SchemaViewRenderer.renderResponse(schema);
+            response = renderView(schema, errorBodyType, false);
             log.debug("Error schema rendered, for type: {}", apiError.getErrorType().getTypeName());
         }
         else log.debug("No Schema found in registry for: {}", errorBodyType.getTypeName());
@@ -191,7 +507,8 @@ public class ApiDocumentAssembler {
         );
 
         log.debug("Error mapped: {} -> {}", apiError.getErrorType().getTypeName(), apiError.getStatus());
-        return error;
+        ApiDocument.Error previous = renderedErrors.putIfAbsent(errorType, error);
+        return previous != null ? previous : error;
     }
 
     // PARAMETER MAPPINGS (OPTIMIZED)
@@ -248,4 +565,7 @@ public class ApiDocumentAssembler {
                 .mapToInt(g -> g.getEndpoints().size())
                 .sum();
     }
+
+    private record Stub(Schema schema, boolean request) {
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import dev.retreever.config.RetreeverDocumentProperties;
+import dev.retreever.support.Sha256;
+import dev.retreever.view.dto.ApiDocument;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Converts an assembled {@link ApiDocument} to the {@code v2} wire format, where every
+ * distinct rendered schema is stored once in a top-level {@code components} table and
+ * endpoints and errors point at it with {@code {"$ref": "<id>"}}.
+ * <p>
+ * Component ids are derived from the rendered content, so they are the same across
+ * restarts and identical request or response views share one entry.
+ */
+public final class ApiDocumentComponents {
+
+    public static final String REF_KEY = "$ref";
+
+    private static final int ID_BYTES = 8;
+
+    // The assembler renders each schema once and shares the view, so views are keyed by
+    // identity; content is only compared when two instances hash to the same id.
+    private final Map<Map<String, Object>, String> ids = new IdentityHashMap<>();
+    private final Map<String, Map<String, Object>> components = new TreeMap<>();
+
+    private ApiDocumentComponents() {
+    }
+
+    /**
+     * Returns a copy of the document with schemas moved into the components table.
+     */
+    public static ApiDocument extract(ApiDocument document) {
+        ApiDocumentComponents table = new ApiDocumentComponents();
+
+        List<ApiDocument.ApiGroup> groups = new ArrayList<>(document.groups().size());
+        for (ApiDocument.ApiGroup group : document.groups()) {
+            groups.add(table.extractGroup(group));
+        }
+
+        return new ApiDocument(
+                document.name(),
+                document.description(),
+                document.version(),
+                document.uriPrefix(),
+                document.retreeverAuthEnabled(),
+                document.studioStorage(),
+                document.upTime(),
+                groups,
+                RetreeverDocumentProperties.FORMAT_V2,
+                table.components
+        );
+    }
+
+    private ApiDocument.ApiGroup extractGroup(ApiDocument.ApiGroup group) {
+        List<ApiDocument.Endpoint> endpoints = new ArrayList<>(group.endpoints().size());
+        for (ApiDocument.Endpoint endpoint : group.endpoints()) {
+            endpoints.add(extractEndpoint(endpoint));
+        }
+        return new ApiDocument.ApiGroup(
+                group.id(),
+                group.name(),
+                group.description(),
+                group.deprecated(),
+                endpoints
+        );
+    }
+
+    private ApiDocument.Endpoint extractEndpoint(ApiDocument.Endpoint endpoint) {
+        List<ApiDocument.Error> errors = null;
+        if (endpoint.errors() != null) {
+            errors = new ArrayList<>(endpoint.errors().size());
+            for (ApiDocument.Error error : endpoint.errors()) {
+                errors.add(new ApiDocument.Error(
+                        error.status(),
+                        error.statusCode(),
+                        error.description(),
+                        error.errorCode(),
+                        reference(error.response())
+                ));
+            }
+        }
+
+        return new ApiDocument.Endpoint(
+                endpoint.id(),
+                endpoint.name(),
+                endpoint.deprecated(),
+                endpoint.description(),
+                endpoint.secured(),
+                endpoint.method(),
+                endpoint.path(),
+                endpoint.status(),
+                endpoint.statusCode(),
+                endpoint.consumes(),
+                endpoint.produces(),
+                endpoint.pathVariables(),
+                endpoint.queryParams(),
+                endpoint.headers(),
+                reference(endpoint.request()),
+                reference(endpoint.response()),
+                errors
+        );
+    }
+
+    /**
+     * Registers the rendered schema view and returns a reference to it. Empty and
+     * missing views stay inline, as there is nothing to share.
+     */
+    private Map<String, Object> reference(Map<String, Object> view) {
+        if (view == null || view.isEmpty()) {
+            return view;
+        }
+
+        String id = ids.get(view);
+        if (id == null) {
+            id = register(view);
+            ids.put(view, id);
+        }
+        return Map.of(REF_KEY, id);
+    }
+
+    /**
+     * Stores a view under an id derived from its content. A view equal to the one
+     * already stored under that id shares it; different views whose hashes share a
+     * prefix get a numbered suffix.
+     */
+    private String register(Map<String, Object> view) {
+        String id = Sha256.hex(view.toString(), ID_BYTES);
+        String candidate = id;
+        for (int i = 2; ; i++) {
+            Map<String, Object> existing = components.putIfAbsent(candidate, view);
+            if (existing == null || existing.equals(view)) {
+                return candidate;
+            }
+            candidate = id + "-" + i;
+        }
+    }
+}
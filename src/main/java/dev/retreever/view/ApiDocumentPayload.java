@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import dev.retreever.json.RetreeverJsonGenerator;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.support.Sha256;
+import dev.retreever.view.dto.ApiDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized form of an {@link ApiDocument}, produced once per build and served as-is.
+ * The strong {@code ETag} is derived from a SHA-256 hash of the serialized bytes.
+ * When compression is enabled, gzip and deflate variants are encoded up front and
+ * chosen per request from {@code Accept-Encoding}.
+ */
+public final class ApiDocumentPayload {
+
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private final Variant identity;
+    private final List<Variant> encoded;
+
+    private ApiDocumentPayload(Variant identity, List<Variant> encoded) {
+        this.identity = identity;
+        this.encoded = encoded;
+    }
+
+    /**
+     * Serializes the document with the host-aligned JSON mapper.
+     *
+     * @throws IllegalStateException if the document cannot be serialized
+     */
+    public static ApiDocumentPayload serialize(ApiDocument document, RetreeverJsonMapper jsonMapper) {
+        return serialize(document, jsonMapper, false);
+    }
+
+    /**
+     * Serializes the document and optionally pre-compresses it.
+     *
+     * @throws IllegalStateException if the document cannot be serialized
+     */
+    public static ApiDocumentPayload serialize(ApiDocument document, RetreeverJsonMapper jsonMapper, boolean compress) {
+        try {
+            return of(jsonMapper.writeValueAsBytes(document), compress);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to serialize Retreever API document.", ex);
+        }
+    }
+
+    /**
+     * Streams the document through a generator of the host-aligned JSON mapper and
+     * optionally pre-compresses it.
+     *
+     * @throws IllegalStateException if the document cannot be written
+     */
+    public static ApiDocumentPayload write(Content content, RetreeverJsonMapper jsonMapper, boolean compress) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try (RetreeverJsonGenerator generator = jsonMapper.createGenerator(out)) {
+            content.writeTo(generator);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to write Retreever API document.", ex);
+        }
+        return of(out.toByteArray(), compress);
+    }
+
+    public static ApiDocumentPayload of(byte[] body) {
+        return of(body, false);
+    }
+
+    public static ApiDocumentPayload of(byte[] body, boolean compress) {
+        String hash = Sha256.hex(body);
+        Variant identity = new Variant(IDENTITY, body, "\"" + hash + "\"");
+        if (!compress) {
+            return new ApiDocumentPayload(identity, List.of());
+        }
+
+        // Preference order for equal q-values: gzip, then deflate.
+        List<Variant> encoded = new ArrayList<>(2);
+        addIfSmaller(encoded, new Variant(GZIP, gzip(body), "\"" + hash + "-" + GZIP + "\""), body);
+        addIfSmaller(encoded, new Variant(DEFLATE, deflate(body), "\"" + hash + "-" + DEFLATE + "\""), body);
+        return new ApiDocumentPayload(identity, List.copyOf(encoded));
+    }
+
+    /**
+     * Returns the uncompressed document. The array is shared and must not be modified.
+     */
+    public byte[] body() {
+        return identity.body();
+    }
+
+    public String etag() {
+        return identity.etag();
+    }
+
+    /**
+     * Returns whether pre-compressed variants exist, i.e. whether responses vary by
+     * {@code Accept-Encoding}.
+     */
+    public boolean isCompressed() {
+        return !encoded.isEmpty();
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        return identity.matches(ifNoneMatch);
+    }
+
+    /**
+     * Picks the variant with the highest quality in {@code Accept-Encoding}. Encodings
+     * not listed take the {@code *} quality, identity stays acceptable unless explicitly
+     * refused, and ties prefer compressed variants.
+     */
+    public Variant select(String acceptEncoding) {
+        if (encoded.isEmpty() || acceptEncoding == null || acceptEncoding.isBlank()) {
+            return identity;
+        }
+
+        Variant best = identity;
+        double bestQuality = quality(acceptEncoding, IDENTITY);
+        for (Variant variant : encoded) {
+            double quality = quality(acceptEncoding, variant.encoding());
+            boolean preferred = quality > bestQuality || (quality == bestQuality && best == identity);
+            if (quality > 0 && preferred) {
+                best = variant;
+                bestQuality = quality;
+            }
+        }
+        return best;
+    }
+
+    private static double quality(String acceptEncoding, String encoding) {
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = parseQuality(parts);
+
+            if (coding.equals(encoding) || (GZIP.equals(encoding) && coding.equals("x-gzip"))) {
+                return quality;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+
+        if (wildcard != null) {
+            return wildcard;
+        }
+        return IDENTITY.equals(encoding) ? 1.0 : 0.0;
+    }
+
+    private static double parseQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException ex) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    private static void addIfSmaller(List<Variant> variants, Variant variant, byte[] body) {
+        if (variant.body().length < body.length) {
+            variants.add(variant);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (OutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to gzip Retreever API document.", ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (OutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(body);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unable to deflate Retreever API document.", ex);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+
+    /**
+     * Writes a complete JSON document to a generator.
+     */
+    @FunctionalInterface
+    public interface Content {
+
+        void writeTo(RetreeverJsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * One encoded representation of the document with its own strong entity tag.
+     *
+     * @param encoding content coding, {@link #IDENTITY} for the raw JSON
+     * @param body     encoded bytes; shared and must not be modified
+     * @param etag     quoted strong entity tag
+     */
+    public record Variant(String encoding, byte[] body, String etag) {
+
+        public boolean isIdentity() {
+            return IDENTITY.equals(encoding);
+        }
+
+        /**
+         * Evaluates an {@code If-None-Match} header against this variant using weak comparison,
+         * as required for conditional GET requests.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
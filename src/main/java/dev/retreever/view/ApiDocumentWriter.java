@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.retreever.auth.RetreeverAuthenticationService;
+import dev.retreever.config.RetreeverStudioProperties;
+import dev.retreever.endpoint.model.*;
+import dev.retreever.json.RetreeverJsonGenerator;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.repo.ApiErrorRegistry;
+import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.view.dto.ApiDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams internal ApiDoc → JSON in the same shape as a serialized {@link ApiDocument},
+ * without assembling the DTO or the rendered schema maps.
+ * <p>
+ * Values are written with the same null and empty handling Jackson uses by default.
+ * Host mappers configured otherwise (e.g. {@code NON_NULL} inclusion, sorted keys)
+ * are detected by {@link #supports(RetreeverJsonMapper)} and must keep using the
+ * {@link ApiDocumentAssembler}.
+ */
+public class ApiDocumentWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiDocumentWriter.class);
+
+    private final SchemaRegistry schemaRegistry;
+    private final ApiErrorRegistry errorRegistry;
+    private final RetreeverAuthenticationService authenticationService;
+    private final RetreeverStudioProperties studioProperties;
+
+    public ApiDocumentWriter(
+            SchemaRegistry schemaRegistry,
+            ApiErrorRegistry errorRegistry,
+            RetreeverAuthenticationService authenticationService,
+            RetreeverStudioProperties studioProperties) {
+        this.schemaRegistry = schemaRegistry;
+        this.errorRegistry = errorRegistry;
+        this.authenticationService = authenticationService;
+        this.studioProperties = studioProperties;
+    }
+
+    /**
+     * Returns whether documents streamed through this mapper are byte-for-byte identical
+     * to serializing the assembled {@link ApiDocument} with it.
+     */
+    public static boolean supports(RetreeverJsonMapper jsonMapper) {
+        if (!jsonMapper.supportsStreaming()) {
+            log.debug("Host JSON mapper cannot stream; using assembled documents.");
+            return false;
+        }
+        try {
+            Probe probe = Probe.sample();
+            byte[] expected = jsonMapper.writeValueAsBytes(probe);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(expected.length);
+            try (RetreeverJsonGenerator generator = jsonMapper.createGenerator(out)) {
+                probe.writeTo(generator);
+            }
+
+            if (Arrays.equals(expected, out.toByteArray())) {
+                return true;
+            }
+            log.debug("Host JSON mapper settings differ from streaming output; using assembled documents.");
+        } catch (IOException | RuntimeException ex) {
+            log.debug("Streaming document output unavailable: {}", ex.toString());
+        }
+        return false;
+    }
+
+    // PUBLIC ENTRY POINT
+    public void write(ApiDoc apiDoc, Instant upTime, RetreeverJsonGenerator generator) throws IOException {
+        write(apiDoc, upTime, generator, null);
+    }
+
+    /**
+     * Streams the document, stubbing schema subtrees as planned by the build's assembler
+     * so the output matches the assembled document and the stubs can be expanded later.
+     *
+     * @param stubPlanner the assembler of the build, or {@code null} to render schemas in full
+     */
+    public void write(ApiDoc apiDoc, Instant upTime, RetreeverJsonGenerator generator,
+                      ApiDocumentAssembler stubPlanner) throws IOException {
+        generator.writeStartObject();
+        writeField(generator, "name", apiDoc.getName());
+        writeField(generator, "description", apiDoc.getDescription());
+        writeField(generator, "version", apiDoc.getVersion());
+        writeField(generator, "uri_prefix", apiDoc.getUriPrefix());
+        generator.writeFieldName("retreever_auth_enabled");
+        generator.writeBoolean(authenticationService.isEnabled());
+        writeField(generator, "studio_storage", studioProperties.getStorage());
+        generator.writeFieldName("up_time");
+        generator.writeObject(upTime);
+
+        generator.writeFieldName("groups");
+        generator.writeStartArray();
+        for (ApiGroup group : apiDoc.getGroups()) {
+            writeGroup(group, stubPlanner, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    // GROUP
+    private void writeGroup(ApiGroup group, ApiDocumentAssembler stubPlanner, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeField(generator, "id", group.getId());
+        writeField(generator, "name", group.getName());
+        writeField(generator, "description", group.getDescription());
+        generator.writeFieldName("deprecated");
+        generator.writeBoolean(group.isDeprecated());
+
+        generator.writeFieldName("endpoints");
+        generator.writeStartArray();
+        for (ApiEndpoint endpoint : group.getEndpoints()) {
+            writeEndpoint(endpoint, stubPlanner, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    // ENDPOINT (same field order as ApiDocument.Endpoint)
+    private void writeEndpoint(ApiEndpoint endpoint, ApiDocumentAssembler stubPlanner,
+                               RetreeverJsonGenerator generator) throws IOException {
+        HttpStatus status = endpoint.getStatus();
+
+        generator.writeStartObject();
+        writeField(generator, "id", endpoint.getId());
+        writeField(generator, "name", endpoint.getName());
+        generator.writeFieldName("deprecated");
+        generator.writeBoolean(endpoint.isDeprecated());
+        writeField(generator, "description", endpoint.getDescription());
+        generator.writeFieldName("secured");
+        generator.writeBoolean(endpoint.isSecured());
+        writeField(generator, "method", endpoint.getHttpMethod());
+        writeField(generator, "path", endpoint.getPath());
+        writeField(generator, "status", status != null ? status.getReasonPhrase() : "UNKNOWN");
+        generator.writeFieldName("status_code");
+        generator.writeNumber(status.value());
+        writeStringsField(generator, "consumes", endpoint.getConsumes());
+        writeStringsField(generator, "produces", endpoint.getProduces());
+
+        writePathVariables(endpoint.getPathVariables(), generator);
+        writeQueryParams(endpoint.getQueryParams(), generator);
+        writeHeaders(endpoint.getHeaders(), generator);
+
+        generator.writeFieldName("request");
+        writeSchema(endpoint.getRequestBodyType(), true, stubPlanner, generator);
+        generator.writeFieldName("response");
+        writeSchema(endpoint.getResponseBodyType(), false, stubPlanner, generator);
+
+        generator.writeFieldName("errors");
+        generator.writeStartArray();
+        for (Type errorType : endpoint.getErrorTypes()) {
+            writeError(errorType, stubPlanner, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    // SCHEMA
+    private void writeSchema(Type type, boolean request, ApiDocumentAssembler stubPlanner,
+                             RetreeverJsonGenerator generator) throws IOException {
+        Schema schema = type != null ? schemaRegistry.getSchema(type) : null;
+        if (schema == null) {
+            generator.writeNull();
+        } else if (request) {
+            SchemaViewWriter.writeRequest(schema, stubs(stubPlanner, schema, type, true), generator);
+        } else {
+            SchemaViewWriter.writeResponse(schema, stubs(stubPlanner, schema, type, false), generator);
+        }
+    }
+
+    private static Map<String, String> stubs(ApiDocumentAssembler stubPlanner, Schema schema, Type type,
+                                             boolean request) {
+        return stubPlanner != null ? stubPlanner.planStubs(schema, type, request) : Map.of();
+    }
+
+    // ERROR (skipped when not registered, like ApiDocumentAssembler)
+    private void writeError(Type errorType, ApiDocumentAssembler stubPlanner, RetreeverJsonGenerator generator)
+            throws IOException {
+        ApiError apiError = errorType != null ? errorRegistry.get(errorType) : null;
+        if (apiError == null) {
+            return;
+        }
+
+        generator.writeStartObject();
+        writeField(generator, "status", apiError.getStatus().getReasonPhrase());
+        generator.writeFieldName("status_code");
+        generator.writeNumber(apiError.getStatus().value());
+        writeField(generator, "description", apiError.getDescription());
+        writeField(generator, "error_code", apiError.getErrorCode());
+
+        generator.writeFieldName("response");
+        Schema schema = schemaRegistry.getSchema(apiError.getErrorBodyType());
+        if (schema != null) {
+            SchemaViewWriter.writeResponse(schema, stubs(stubPlanner, schema, apiError.getErrorBodyType(), false),
+                    generator);
+        } else {
+            generator.writeNull();
+        }
+        generator.writeEndObject();
+    }
+
+    // PARAMETERS
+    private void writePathVariables(List<ApiPathVariable> vars, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeFieldName("path_variables");
+        generator.writeStartArray();
+        if (vars != null) {
+            for (ApiPathVariable v : vars) {
+                generator.writeStartObject();
+                writeField(generator, "name", v.getName());
+                writeField(generator, "type", v.getType().displayName());
+                generator.writeFieldName("required");
+                generator.writeBoolean(v.getRequired());
+                writeStringsField(generator, "constraints", v.getConstraints());
+                writeField(generator, "description", v.getDescription());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeQueryParams(List<ApiParam> params, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeFieldName("query_params");
+        generator.writeStartArray();
+        if (params != null) {
+            for (ApiParam p : params) {
+                generator.writeStartObject();
+                writeField(generator, "name", p.getName());
+                writeField(generator, "description", p.getDescription());
+                writeField(generator, "type", p.getType().displayName());
+                generator.writeFieldName("required");
+                generator.writeBoolean(p.isRequired());
+                writeField(generator, "default_value", p.getDefaultValue());
+                writeStringsField(generator, "constraints", p.getConstraints());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeHeaders(List<ApiHeader> headers, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeFieldName("headers");
+        generator.writeStartArray();
+        if (headers != null) {
+            for (ApiHeader h : headers) {
+                generator.writeStartObject();
+                writeField(generator, "name", h.getName());
+                writeField(generator, "type", h.getType().displayName());
+                generator.writeFieldName("required");
+                generator.writeBoolean(h.isRequired());
+                writeField(generator, "description", h.getDescription());
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    // UTILITIES
+    private static void writeField(RetreeverJsonGenerator generator, String name, String value) throws IOException {
+        generator.writeFieldName(name);
+        generator.writeStringOrNull(value);
+    }
+
+    private static void writeStringsField(RetreeverJsonGenerator generator, String name,
+                                          Collection<String> values) throws IOException {
+        generator.writeFieldName(name);
+        SchemaViewWriter.writeStrings(values != null ? values : List.of(), generator);
+    }
+
+    /**
+     * Covers every value shape the writer emits: record properties in declaration order,
+     * null and empty values, map entries with null values and mapper-serialized timestamps.
+     */
+    record Probe(
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("enabled") boolean enabled,
+            @JsonProperty("code") int code,
+            @JsonProperty("up_time") Instant upTime,
+            @JsonProperty("constraints") List<String> constraints,
+            @JsonProperty("response") Map<String, Object> response
+    ) {
+
+        static Probe sample() {
+            Map<String, Object> model = new LinkedHashMap<>();
+            model.put("value", "string");
+            model.put("amount", 0);
+            model.put("missing", null);
+            model.put("items", new ArrayList<>());
+            model.put("attributes", new LinkedHashMap<>());
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("model", model);
+            response.put("example_model", List.of(1.5, false));
+            return new Probe("probe", null, true, 200, Instant.EPOCH, List.of(), response);
+        }
+
+        void writeTo(RetreeverJsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            writeField(generator, "name", name);
+            writeField(generator, "description", description);
+            generator.writeFieldName("enabled");
+            generator.writeBoolean(enabled);
+            generator.writeFieldName("code");
+            generator.writeNumber(code);
+            generator.writeFieldName("up_time");
+            generator.writeObject(upTime);
+            writeStringsField(generator, "constraints", constraints);
+
+            generator.writeFieldName("response");
+            generator.writeStartObject();
+            generator.writeFieldName("model");
+            generator.writeStartObject();
+            writeField(generator, "value", "string");
+            generator.writeFieldName("amount");
+            generator.writeNumber(0);
+            generator.writeFieldName("missing");
+            generator.writeNull();
+            generator.writeFieldName("items");
+            generator.writeStartArray();
+            generator.writeEndArray();
+            generator.writeFieldName("attributes");
+            generator.writeStartObject();
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.writeFieldName("example_model");
+            generator.writeStartArray();
+            generator.writeNumber(1.5);
+            generator.writeBoolean(false);
+            generator.writeEndArray();
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.MapSchema;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.support.Sha256;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Limits how much of a schema is rendered into one view.
+ * <p>
+ * Containers (objects, arrays and maps) are visited breadth first. A container is
+ * rendered while it stays within the maximum depth and its entries fit the remaining
+ * node budget; otherwise it is replaced by a stub {@code {"$expand": "<token>"}} in the
+ * model and example, and left out of the metadata. Tokens are derived from the scope
+ * of the view and the path of the stub, so they are the same across restarts, and
+ * {@code /retreever/doc/expand/{token}} renders the subtree with a fresh budget.
+ * <p>
+ * Both {@link SchemaViewRenderer} and {@link SchemaViewWriter} render from the same
+ * plan, so assembled and streamed documents stay identical.
+ */
+public final class SchemaRenderBudget {
+
+    public static final String EXPAND_KEY = "$expand";
+    public static final int UNLIMITED = 0;
+
+    private static final SchemaRenderBudget NONE = new SchemaRenderBudget(UNLIMITED, UNLIMITED);
+
+    private final int maxDepth;
+    private final int maxNodes;
+
+    private SchemaRenderBudget(int maxDepth, int maxNodes) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * @param maxDepth deepest container nesting rendered, the root being depth 1, or {@link #UNLIMITED}
+     * @param maxNodes most container entries rendered per view, or {@link #UNLIMITED}
+     */
+    public static SchemaRenderBudget of(int maxDepth, int maxNodes) {
+        if (maxDepth <= UNLIMITED && maxNodes <= UNLIMITED) {
+            return NONE;
+        }
+        return new SchemaRenderBudget(Math.max(UNLIMITED, maxDepth), Math.max(UNLIMITED, maxNodes));
+    }
+
+    public static SchemaRenderBudget unlimited() {
+        return NONE;
+    }
+
+    public boolean isUnlimited() {
+        return this == NONE;
+    }
+
+    /**
+     * Decides which subtrees of the schema are stubbed.
+     *
+     * @param scope identifies the view, e.g. the root type; tokens are derived from it
+     * @param stubs receives every token with the subtree it stands for
+     * @return stub tokens by path, empty when everything fits
+     */
+    public Map<String, String> plan(Schema root, String scope, BiConsumer<String, Schema> stubs) {
+        if (isUnlimited() || root == null) {
+            return Map.of();
+        }
+
+        Map<String, String> planned = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.add(new Node(unwrap(root), "", 1));
+        int nodes = 0;
+
+        while (!pending.isEmpty()) {
+            Node node = pending.poll();
+            int width = width(node.schema);
+            if (width < 0) {
+                continue;
+            }
+
+            boolean tooDeep = maxDepth > UNLIMITED && node.depth > maxDepth;
+            boolean tooWide = maxNodes > UNLIMITED && nodes + width > maxNodes;
+            if (tooDeep || tooWide) {
+                String token = token(scope, node.path);
+                planned.put(node.path, token);
+                stubs.accept(token, node.schema);
+                continue;
+            }
+
+            nodes += width;
+            if (node.schema instanceof ObjectSchema object) {
+                for (Property property : object.getProperties().values()) {
+                    pending.add(new Node(unwrap(property), propertyPath(node.path, property.getName()),
+                            node.depth + 1));
+                }
+            } else if (node.schema instanceof ArraySchema array) {
+                pending.add(new Node(unwrap(array.getElementSchema()), elementPath(node.path), node.depth + 1));
+            } else if (node.schema instanceof MapSchema map) {
+                pending.add(new Node(unwrap(map.getValueSchema()), valuePath(node.path), node.depth + 1));
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * Path of a property, as used by the metadata map.
+     */
+    static String propertyPath(String path, String name) {
+        return path.isEmpty() ? name : path + "." + name;
+    }
+
+    static String elementPath(String path) {
+        return path + "[0]";
+    }
+
+    static String valuePath(String path) {
+        return path + "{}";
+    }
+
+    static Map<String, Object> stub(String token) {
+        Map<String, Object> stub = new LinkedHashMap<>(2);
+        stub.put(EXPAND_KEY, token);
+        return stub;
+    }
+
+    /**
+     * Returns the number of entries a container renders, or {@code -1} for leaves.
+     */
+    private static int width(Schema schema) {
+        if (schema instanceof ObjectSchema object) return object.getProperties().size();
+        if (schema instanceof ArraySchema || schema instanceof MapSchema) return 1;
+        return -1;
+    }
+
+    private static Schema unwrap(Schema schema) {
+        Schema current = schema;
+        while (current instanceof Property property) {
+            current = property.getValue();
+        }
+        return current;
+    }
+
+    private static String token(String scope, String path) {
+        MessageDigest digest = Sha256.newDigest();
+        Sha256.update(digest, scope);
+        digest.update(path.getBytes(StandardCharsets.UTF_8));
+        return Sha256.hex(digest, 8);
+    }
+
+    private record Node(Schema schema, String path, int depth) {
+    }
+}
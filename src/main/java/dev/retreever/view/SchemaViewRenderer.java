@@ -27,84 +27,129 @@ public final class SchemaViewRenderer {
     private SchemaViewRenderer() {}
 
     public static Map<String, Object> renderRequest(Schema schema) {
-        return render(schema, true);
+        return render(schema, true, Map.of());
     }
 
     public static Map<String, Object> renderResponse(Schema schema) {
-        return render(schema, false);
+        return render(schema, false, Map.of());
     }
 
-    private static Map<String, Object> render(Schema schema, boolean includeMetadata) {
+    /**
+     * Renders a request view, replacing the subtrees planned by a {@link SchemaRenderBudget}
+     * with stubs.
+     *
+     * @param stubs stub tokens by path
+     */
+    public static Map<String, Object> renderRequest(Schema schema, Map<String, String> stubs) {
+        return render(schema, true, stubs);
+    }
+
+    public static Map<String, Object> renderResponse(Schema schema, Map<String, String> stubs) {
+        return render(schema, false, stubs);
+    }
+
+    private static Map<String, Object> render(Schema schema, boolean includeMetadata, Map<String, String> stubs) {
         if (schema == null) return new LinkedHashMap<>();
 
+        // Paths are only tracked when something is stubbed.
+        String root = stubs.isEmpty() ? null : "";
         Map<String, Object> result = new LinkedHashMap<>();
-        result.put(MODEL_KEY, renderModel(schema));
-        result.put(EXAMPLE_MODEL_KEY, renderExample(schema));
+        result.put(MODEL_KEY, renderModel(schema, root, stubs));
+        result.put(EXAMPLE_MODEL_KEY, renderExample(schema, root, stubs));
 
         if (includeMetadata) {
-            result.put(METADATA_KEY, buildMetadata(schema));
+            result.put(METADATA_KEY, buildMetadata(schema, stubs));
         }
         return result;
     }
 
-    private static Object renderModel(Schema s) {
+    private static Object renderModel(Schema s, String path, Map<String, String> stubs) {
         if (s == null) return null;
-        if (s instanceof Property p) return renderModel(p.getValue());
+        if (s instanceof Property p) return renderModel(p.getValue(), path, stubs);
         if (s instanceof ValueSchema vs) return generateModelValue(vs.getType());
+
+        String stub = stubAt(path, stubs);
+        if (stub != null) return SchemaRenderBudget.stub(stub);
+
         if (s instanceof ArraySchema arr) {
             Schema element = arr.getElementSchema();
-            Object model = renderModel(element);
+            Object model = renderModel(element, elementPath(path), stubs);
             return model != null ? List.of(model) : new ArrayList<>();
         }
         if (s instanceof ObjectSchema obj) {
             Map<String, Object> out = new LinkedHashMap<>();
             for (Property p : obj.getProperties().values()) {
-                out.put(p.getName(), renderModel(p));
+                out.put(p.getName(), renderModel(p, propertyPath(path, p.getName()), stubs));
             }
             return out;
         }
         if (s instanceof MapSchema map) {
             Map<String, Object> out = new LinkedHashMap<>();
-            out.put(map.getKeyType().displayName(), renderModel(map.getValueSchema()));
+            out.put(map.getKeyType().displayName(), renderModel(map.getValueSchema(), valuePath(path), stubs));
             return out;
         }
         return null;
     }
 
-    private static Object renderExample(Schema s) {
+    private static Object renderExample(Schema s, String path, Map<String, String> stubs) {
         if (s == null) return null;
 
         if (s instanceof Property p) {
             if (p.getExample() != null && p.getValue() instanceof ValueSchema vs) {
                 return convertExample(p.getExample(), vs);
             }
-            return renderExample(p.getValue());
+            return renderExample(p.getValue(), path, stubs);
+        }
+
+        String stub = stubAt(path, stubs);
+        if (stub != null && (s instanceof ArraySchema || s instanceof ObjectSchema || s instanceof MapSchema)) {
+            return SchemaRenderBudget.stub(stub);
         }
 
         if (s instanceof ArraySchema arr) {
             Schema element = arr.getElementSchema();
-            Object example = renderExample(element);
+            Object example = renderExample(element, elementPath(path), stubs);
             return example != null ? List.of(example) : new ArrayList<>();
         }
 
         if (s instanceof ObjectSchema obj) {
             Map<String, Object> out = new LinkedHashMap<>();
             for (Property p : obj.getProperties().values()) {
-                out.put(p.getName(), renderExample(p));
+                out.put(p.getName(), renderExample(p, propertyPath(path, p.getName()), stubs));
             }
             return out;
         }
 
         if (s instanceof MapSchema map) {
             String keyEx = map.getKeyType().displayName();
-            Object valEx = renderExample(map.getValueSchema());
+            Object valEx = renderExample(map.getValueSchema(), valuePath(path), stubs);
             return valEx != null ? Map.of(keyEx, valEx) : null;
         }
 
         return generateLeafExample(s);
     }
 
-    private static Object generateLeafExample(Schema s) {
+    /**
+     * Returns the stub token planned for a container at the path, if any. A {@code null}
+     * path means nothing is stubbed.
+     */
+    static String stubAt(String path, Map<String, String> stubs) {
+        return path == null ? null : stubs.get(path);
+    }
+
+    static String propertyPath(String path, String name) {
+        return path == null ? null : SchemaRenderBudget.propertyPath(path, name);
+    }
+
+    static String elementPath(String path) {
+        return path == null ? null : SchemaRenderBudget.elementPath(path);
+    }
+
+    static String valuePath(String path) {
+        return path == null ? null : SchemaRenderBudget.valuePath(path);
+    }
+
+    static Object generateLeafExample(Schema s) {
         if (s instanceof ValueSchema vs) {
             return switch (vs.getType()) {
                 case STRING -> "hello";
@@ -129,7 +174,7 @@ public final class SchemaViewRenderer {
         return null;
     }
 
-    private static Object generateModelValue(JsonPropertyType type) {
+    static Object generateModelValue(JsonPropertyType type) {
         return switch (type) {
             case STRING -> "string";
             case NUMBER -> 0;
@@ -150,7 +195,7 @@ public final class SchemaViewRenderer {
         };
     }
 
-    private static Object convertExample(Object raw, ValueSchema target) {
+    static Object convertExample(Object raw, ValueSchema target) {
         if (raw instanceof String str) {
             return switch (target.getType()) {
                 case NUMBER -> tryParseNumber(str);
@@ -166,14 +211,15 @@ public final class SchemaViewRenderer {
         catch (NumberFormatException e) { return 0; }
     }
 
-    private static Map<String, Object> buildMetadata(Schema schema) {
+    private static Map<String, Object> buildMetadata(Schema schema, Map<String, String> stubs) {
         Map<String, Object> metadata = new LinkedHashMap<>();
-        buildMetadata(schema, "", metadata);
+        buildMetadata(schema, "", stubs, metadata);
         return metadata;
     }
 
-    private static void buildMetadata(Schema s, String path, Map<String, Object> out) {
+    private static void buildMetadata(Schema s, String path, Map<String, String> stubs, Map<String, Object> out) {
         if (s == null) return;
+        if ((s instanceof ArraySchema || s instanceof ObjectSchema) && stubs.containsKey(path)) return;
 
         if (s instanceof Property p) {
             Map<String, Object> meta = new LinkedHashMap<>();
@@ -186,14 +232,14 @@ public final class SchemaViewRenderer {
 
         if (s instanceof ArraySchema arr) {
             Schema el = arr.getElementSchema();
-            if (el != null) buildMetadata(el, path + "[0]", out);
+            if (el != null) buildMetadata(el, path + "[0]", stubs, out);
             return;
         }
 
         if (s instanceof ObjectSchema obj) {
             for (Property p : obj.getProperties().values()) {
                 String newPath = path.isEmpty() ? p.getName() : path + "." + p.getName();
-                buildMetadata(p, newPath, out);
+                buildMetadata(p, newPath, stubs, out);
             }
         }
     }
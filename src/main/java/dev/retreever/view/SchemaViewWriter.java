@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view;
+
+import dev.retreever.json.RetreeverJsonGenerator;
+import dev.retreever.schema.model.*;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static dev.retreever.view.SchemaViewRenderer.*;
+
+/**
+ * Streams the 3-part schema view (model, example, metadata) straight into a generator.
+ * Produces the same JSON as serializing the output of {@link SchemaViewRenderer}, without
+ * building the intermediate maps and lists.
+ */
+public final class SchemaViewWriter {
+
+    private SchemaViewWriter() {}
+
+    public static void writeRequest(Schema schema, RetreeverJsonGenerator generator) throws IOException {
+        write(schema, true, Map.of(), generator);
+    }
+
+    public static void writeResponse(Schema schema, RetreeverJsonGenerator generator) throws IOException {
+        write(schema, false, Map.of(), generator);
+    }
+
+    /**
+     * Streams a request view with the subtrees planned by a {@link SchemaRenderBudget}
+     * replaced by stubs.
+     *
+     * @param stubs stub tokens by path
+     */
+    public static void writeRequest(Schema schema, Map<String, String> stubs, RetreeverJsonGenerator generator)
+            throws IOException {
+        write(schema, true, stubs, generator);
+    }
+
+    public static void writeResponse(Schema schema, Map<String, String> stubs, RetreeverJsonGenerator generator)
+            throws IOException {
+        write(schema, false, stubs, generator);
+    }
+
+    private static void write(Schema schema, boolean includeMetadata, Map<String, String> stubs,
+                              RetreeverJsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (schema != null) {
+            String root = stubs.isEmpty() ? null : "";
+            generator.writeFieldName(MODEL_KEY);
+            writeModel(schema, root, stubs, generator);
+            generator.writeFieldName(EXAMPLE_MODEL_KEY);
+            writeExample(schema, root, stubs, generator);
+
+            if (includeMetadata) {
+                generator.writeFieldName(METADATA_KEY);
+                generator.writeStartObject();
+                writeMetadata(schema, "", stubs, generator);
+                generator.writeEndObject();
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    // MODEL
+
+    private static void writeModel(Schema s, String path, Map<String, String> stubs,
+                                   RetreeverJsonGenerator generator) throws IOException {
+        if (s instanceof Property p) {
+            writeModel(p.getValue(), path, stubs, generator);
+        } else if (s instanceof ValueSchema vs) {
+            writeValue(generateModelValue(vs.getType()), generator);
+        } else if (isContainer(s) && stubAt(path, stubs) != null) {
+            writeStub(stubAt(path, stubs), generator);
+        } else if (s instanceof ArraySchema arr) {
+            generator.writeStartArray();
+            if (hasModel(arr.getElementSchema())) {
+                writeModel(arr.getElementSchema(), elementPath(path), stubs, generator);
+            }
+            generator.writeEndArray();
+        } else if (s instanceof ObjectSchema obj) {
+            generator.writeStartObject();
+            for (Property p : obj.getProperties().values()) {
+                generator.writeFieldName(p.getName());
+                writeModel(p, propertyPath(path, p.getName()), stubs, generator);
+            }
+            generator.writeEndObject();
+        } else if (s instanceof MapSchema map) {
+            generator.writeStartObject();
+            generator.writeFieldName(map.getKeyType().displayName());
+            writeModel(map.getValueSchema(), valuePath(path), stubs, generator);
+            generator.writeEndObject();
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    /**
+     * Mirrors {@code renderModel(s) != null}.
+     */
+    private static boolean hasModel(Schema s) {
+        if (s instanceof Property p) return hasModel(p.getValue());
+        if (s instanceof ValueSchema vs) return generateModelValue(vs.getType()) != null;
+        return s instanceof ArraySchema || s instanceof ObjectSchema || s instanceof MapSchema;
+    }
+
+    // EXAMPLE
+
+    private static void writeExample(Schema s, String path, Map<String, String> stubs,
+                                     RetreeverJsonGenerator generator) throws IOException {
+        if (s instanceof Property p) {
+            if (p.getExample() != null && p.getValue() instanceof ValueSchema vs) {
+                writeValue(convertExample(p.getExample(), vs), generator);
+            } else {
+                writeExample(p.getValue(), path, stubs, generator);
+            }
+        } else if (isContainer(s) && stubAt(path, stubs) != null) {
+            writeStub(stubAt(path, stubs), generator);
+        } else if (s instanceof ArraySchema arr) {
+            generator.writeStartArray();
+            if (hasExample(arr.getElementSchema(), elementPath(path), stubs)) {
+                writeExample(arr.getElementSchema(), elementPath(path), stubs, generator);
+            }
+            generator.writeEndArray();
+        } else if (s instanceof ObjectSchema obj) {
+            generator.writeStartObject();
+            for (Property p : obj.getProperties().values()) {
+                generator.writeFieldName(p.getName());
+                writeExample(p, propertyPath(path, p.getName()), stubs, generator);
+            }
+            generator.writeEndObject();
+        } else if (s instanceof MapSchema map) {
+            if (hasExample(map.getValueSchema(), valuePath(path), stubs)) {
+                generator.writeStartObject();
+                generator.writeFieldName(map.getKeyType().displayName());
+                writeExample(map.getValueSchema(), valuePath(path), stubs, generator);
+                generator.writeEndObject();
+            } else {
+                generator.writeNull();
+            }
+        } else {
+            writeValue(generateLeafExample(s), generator);
+        }
+    }
+
+    /**
+     * Mirrors {@code renderExample(s) != null}.
+     */
+    private static boolean hasExample(Schema s, String path, Map<String, String> stubs) {
+        if (s instanceof Property p) {
+            if (p.getExample() != null && p.getValue() instanceof ValueSchema vs) {
+                return convertExample(p.getExample(), vs) != null;
+            }
+            return hasExample(p.getValue(), path, stubs);
+        }
+        if (s instanceof ArraySchema || s instanceof ObjectSchema) return true;
+        if (s instanceof MapSchema map) {
+            return stubAt(path, stubs) != null || hasExample(map.getValueSchema(), valuePath(path), stubs);
+        }
+        return generateLeafExample(s) != null;
+    }
+
+    // METADATA
+
+    private static void writeMetadata(Schema s, String path, Map<String, String> stubs,
+                                      RetreeverJsonGenerator generator) throws IOException {
+        if ((s instanceof ArraySchema || s instanceof ObjectSchema) && stubs.containsKey(path)) {
+            return;
+        }
+        if (s instanceof Property p) {
+            generator.writeFieldName(path.isEmpty() ? p.getName() : path);
+            generator.writeStartObject();
+            generator.writeFieldName(DESCRIPTION);
+            generator.writeString(p.getDescription() != null ? p.getDescription() : "");
+            generator.writeFieldName(REQUIRED);
+            generator.writeBoolean(p.isRequired());
+            generator.writeFieldName(CONSTRAINTS);
+            writeStrings(p.getConstraints(), generator);
+            generator.writeEndObject();
+        } else if (s instanceof ArraySchema arr) {
+            if (arr.getElementSchema() != null) {
+                writeMetadata(arr.getElementSchema(), path + "[0]", stubs, generator);
+            }
+        } else if (s instanceof ObjectSchema obj) {
+            for (Property p : obj.getProperties().values()) {
+                String newPath = path.isEmpty() ? p.getName() : path + "." + p.getName();
+                writeMetadata(p, newPath, stubs, generator);
+            }
+        }
+    }
+
+    // STUBS
+
+    private static boolean isContainer(Schema s) {
+        return s instanceof ArraySchema || s instanceof ObjectSchema || s instanceof MapSchema;
+    }
+
+    private static void writeStub(String token, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(SchemaRenderBudget.EXPAND_KEY);
+        generator.writeString(token);
+        generator.writeEndObject();
+    }
+
+    // VALUES
+
+    static void writeStrings(Collection<String> values, RetreeverJsonGenerator generator) throws IOException {
+        generator.writeStartArray();
+        for (String value : values) {
+            generator.writeStringOrNull(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the leaf values produced by {@link SchemaViewRenderer}; anything else is
+     * handed to the mapper.
+     */
+    private static void writeValue(Object value, RetreeverJsonGenerator generator) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String str) {
+            generator.writeString(str);
+        } else if (value instanceof Integer i) {
+            generator.writeNumber(i);
+        } else if (value instanceof Double d) {
+            generator.writeNumber(d);
+        } else if (value instanceof Boolean b) {
+            generator.writeBoolean(b);
+        } else if (value instanceof Map<?, ?> map && map.isEmpty()) {
+            generator.writeStartObject();
+            generator.writeEndObject();
+        } else if (value instanceof List<?> list && list.isEmpty()) {
+            generator.writeStartArray();
+            generator.writeEndArray();
+        } else {
+            generator.writeObject(value);
+        }
+    }
+}
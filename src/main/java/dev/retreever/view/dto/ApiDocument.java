@@ -8,6 +8,7 @@
 
 package dev.retreever.view.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
@@ -17,6 +18,9 @@ import java.util.Map;
 /**
  * Top-level DTO representing the fully assembled Retreever API document.
  * This structure is serialized and returned from `/retreever-tool`.
+ * <p>
+ * {@code format} and {@code components} are only present in the {@code v2} wire format,
+ * where request, response and error schemas are references into {@code components}.
  */
 public record ApiDocument(
         @JsonProperty("name") String name,
@@ -26,13 +30,27 @@ public record ApiDocument(
         @JsonProperty("retreever_auth_enabled") boolean retreeverAuthEnabled,
         @JsonProperty("studio_storage") String studioStorage,
         @JsonProperty("up_time") Instant upTime,
-        @JsonProperty("groups") List<ApiGroup> groups
+        @JsonProperty("groups") List<ApiGroup> groups,
+        @JsonProperty("format") @JsonInclude(JsonInclude.Include.NON_NULL) String format,
+        @JsonProperty("components") @JsonInclude(JsonInclude.Include.NON_NULL)
+        Map<String, Map<String, Object>> components
 ) {
 
+    /**
+     * Creates a document in the default format, with schemas inlined.
+     */
+    public ApiDocument(String name, String description, String version, String uriPrefix,
+                       boolean retreeverAuthEnabled, String studioStorage, Instant upTime,
+                       List<ApiGroup> groups) {
+        this(name, description, version, uriPrefix, retreeverAuthEnabled, studioStorage, upTime, groups,
+                null, null);
+    }
+
     /**
      * Represents a controller-level API group and its endpoints.
      */
     public record ApiGroup(
+            @JsonProperty("id") String id,
             @JsonProperty("name") String name,
             @JsonProperty("description") String description,
             @JsonProperty("deprecated") boolean deprecated,
@@ -43,6 +61,7 @@ public record ApiDocument(
      * Represents a single documented API endpoint and all associated metadata.
      */
     public record Endpoint(
+            @JsonProperty("id") String id,
             @JsonProperty("name") String name,
             @JsonProperty("deprecated") boolean deprecated,
             @JsonProperty("description") String description,
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+
+package dev.retreever.view.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Groups that changed since a version held by the client.
+ * <p>
+ * When {@code modified} is {@code false}, only the version and uptime are present.
+ * Otherwise {@code groups} carries the current hash of every group in document order,
+ * groups the client does not know or holds with another hash are sent in full,
+ * and ids of groups that no longer exist are listed in {@code removed}. A modified
+ * document without changed groups means only document-level fields changed.
+ */
+public record ApiDocumentChanges(
+        @JsonProperty("version") String version,
+        @JsonProperty("up_time") Instant upTime,
+        @JsonProperty("modified") boolean modified,
+        @JsonProperty("groups") @JsonInclude(JsonInclude.Include.NON_EMPTY) Map<String, String> groups,
+        @JsonProperty("added") @JsonInclude(JsonInclude.Include.NON_EMPTY) List<ApiDocument.ApiGroup> added,
+        @JsonProperty("changed") @JsonInclude(JsonInclude.Include.NON_EMPTY) List<ApiDocument.ApiGroup> changed,
+        @JsonProperty("removed") @JsonInclude(JsonInclude.Include.NON_EMPTY) List<String> removed
+) {
+
+    /**
+     * Version a client already holds, as returned by {@code /doc/version} or a previous
+     * changes response. Both fields may be omitted to receive every group.
+     */
+    public record Since(
+            @JsonProperty("version") String version,
+            @JsonProperty("groups") Map<String, String> groups
+    ) {}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Lightweight outline of the API document without any schemas.
+ * Full details are fetched per group or endpoint by id.
+ */
+public record ApiDocumentIndex(
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("version") String version,
+        @JsonProperty("uri_prefix") String uriPrefix,
+        @JsonProperty("retreever_auth_enabled") boolean retreeverAuthEnabled,
+        @JsonProperty("studio_storage") String studioStorage,
+        @JsonProperty("up_time") Instant upTime,
+        @JsonProperty("groups") List<Group> groups
+) {
+
+    /**
+     * Outline of a controller-level API group.
+     */
+    public record Group(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("deprecated") boolean deprecated,
+            @JsonProperty("endpoints") List<Endpoint> endpoints
+    ) {}
+
+    /**
+     * Outline of a single endpoint.
+     */
+    public record Endpoint(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("method") String method,
+            @JsonProperty("path") String path,
+            @JsonProperty("deprecated") boolean deprecated,
+            @JsonProperty("secured") boolean secured
+    ) {}
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+
+package dev.retreever.view.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+/**
+ * Content version of the API document: a hash over the whole document and one per group.
+ * Hashes ignore {@code up_time}, so a rebuild with unchanged content keeps the same version.
+ */
+public record ApiDocumentVersion(
+        @JsonProperty("version") String version,
+        @JsonProperty("groups") Map<String, String> groups
+) {}
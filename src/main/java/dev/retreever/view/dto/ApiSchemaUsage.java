@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Endpoints and errors whose schemas contain a DTO class.
+ * <p>
+ * A simple class name may match several classes, so {@code types} lists each of them.
+ * For endpoints, {@code usage} tells whether the class appears in the request body, the
+ * response body or both; errors list the ids of the endpoints documenting them.
+ */
+public record ApiSchemaUsage(
+        @JsonProperty("query") String query,
+        @JsonProperty("types") List<Type> types
+) {
+
+    public record Type(
+            @JsonProperty("type") String type,
+            @JsonProperty("endpoints") List<Endpoint> endpoints,
+            @JsonProperty("errors") List<Error> errors
+    ) {}
+
+    public record Endpoint(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("method") String method,
+            @JsonProperty("path") String path,
+            @JsonProperty("usage") List<String> usage
+    ) {}
+
+    public record Error(
+            @JsonProperty("exception") String exception,
+            @JsonProperty("status") int status,
+            @JsonProperty("description") String description,
+            @JsonProperty("endpoints") List<String> endpoints
+    ) {}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Retreever Contributors
+ *
+ * Licensed under the MIT License.
+ * You may obtain a copy of the License at:
+ *     https://opensource.org/licenses/MIT
+ */
+
+package dev.retreever.view.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Endpoints matching a search query, best match first.
+ * <p>
+ * {@code total} counts every matching endpoint; {@code hits} is cut to the requested limit.
+ * Each hit lists the parts of the endpoint the query matched, such as {@code name},
+ * {@code property} or {@code error_code}.
+ */
+public record ApiSearchResult(
+        @JsonProperty("query") String query,
+        @JsonProperty("total") int total,
+        @JsonProperty("hits") List<Hit> hits
+) {
+
+    public record Hit(
+            @JsonProperty("id") String id,
+            @JsonProperty("group_id") String groupId,
+            @JsonProperty("group") String group,
+            @JsonProperty("name") String name,
+            @JsonProperty("method") String method,
+            @JsonProperty("path") String path,
+            @JsonProperty("deprecated") boolean deprecated,
+            @JsonProperty("score") int score,
+            @JsonProperty("matched") List<String> matched
+    ) {}
+}
@@ -0,0 +1,115 @@
+package dev.retreever.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverDocBinaryIntegrationTest.TestApplication.class,
+        properties = "retreever.document.binary-formats=cbor,smile,yaml"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocBinaryIntegrationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void servesCborToClientsThatAskForIt() throws Exception {
+        MvcResult json = fetch(MediaType.APPLICATION_JSON.toString());
+        MvcResult cbor = fetch("application/cbor, application/json;q=0.9");
+
+        assertThat(cbor.getResponse().getContentType()).isEqualTo("application/cbor");
+        assertThat(cbor.getResponse().getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        assertThat(cbor.getResponse().getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(json.getResponse().getHeader(HttpHeaders.ETAG));
+
+        byte[] cborBody = cbor.getResponse().getContentAsByteArray();
+        byte[] jsonBody = json.getResponse().getContentAsByteArray();
+        assertThat(cborBody.length).isLessThan(jsonBody.length);
+        assertThat(new ObjectMapper(new CBORFactory()).readTree(cborBody)).isEqualTo(readJson(jsonBody));
+    }
+
+    @Test
+    void servesSmileToClientsThatAskForIt() throws Exception {
+        MvcResult json = fetch(MediaType.APPLICATION_JSON.toString());
+        MvcResult smile = fetch(SMILE.toString());
+
+        assertThat(smile.getResponse().getContentType()).isEqualTo(SMILE.toString());
+        assertThat(new ObjectMapper(new SmileFactory()).readTree(smile.getResponse().getContentAsByteArray()))
+                .isEqualTo(readJson(json.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    void keepsJsonForWildcardsAndPreferredJson() throws Exception {
+        assertThat(fetch("*/*").getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(fetch("application/json, application/cbor;q=0.5").getResponse().getContentType())
+                .isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(fetch(null).getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    void revalidatesBinaryDocumentsByTheirOwnEtag() throws Exception {
+        String etag = fetch(CBOR.toString()).getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/retreever/doc").accept(CBOR).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/retreever/doc").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+    }
+
+    private MvcResult fetch(String accept) throws Exception {
+        var request = get("/retreever/doc");
+        if (accept != null) {
+            request.header(HttpHeaders.ACCEPT, accept);
+        }
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private static JsonNode readJson(byte[] body) throws Exception {
+        return new ObjectMapper().readTree(body);
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class BinaryCatalogController {
+
+            @GetMapping("/binary/catalog")
+            CatalogItem item() {
+                return new CatalogItem("sku-1", "Lamp", 12.5);
+            }
+        }
+
+        record CatalogItem(String sku, String name, double price) {
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dev.retreever.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.engine.ApiDocumentCatalog;
+import dev.retreever.engine.ApiDocumentHashes;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = RetreeverDocChangesIntegrationTest.TestApplication.class)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocChangesIntegrationTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private RetreeverJsonMapper jsonMapper;
+
+    @Test
+    void versionListsEveryGroupHashInDocumentOrder() throws Exception {
+        JsonNode version = version();
+
+        assertThat(version.get("version").asText()).matches("[0-9a-f]{16}");
+        assertThat(groupIds(version)).isEqualTo(bootstrap.getCatalog().index().groups().stream()
+                .map(group -> group.id())
+                .distinct()
+                .toList());
+        version.get("groups").forEach(hash -> assertThat(hash.asText()).matches("[0-9a-f]{16}"));
+    }
+
+    @Test
+    void hashesIgnoreUptimeAndAreStableAcrossComputations() {
+        ApiDocumentCatalog catalog = bootstrap.getCatalog();
+        ApiDocument document = catalog.document();
+        ApiDocument later = new ApiDocument(
+                document.name(),
+                document.description(),
+                document.version(),
+                document.uriPrefix(),
+                document.retreeverAuthEnabled(),
+                document.studioStorage(),
+                document.upTime().plus(Duration.ofHours(1)),
+                document.groups(),
+                document.format(),
+                document.components()
+        );
+        ApiDocumentCatalog rebuilt = ApiDocumentCatalog.restore(later, catalog.searchIndex(), catalog.usageIndex());
+
+        ApiDocumentHashes first = ApiDocumentHashes.compute(catalog, jsonMapper);
+        ApiDocumentHashes second = ApiDocumentHashes.compute(rebuilt, jsonMapper);
+
+        assertThat(rebuilt.upTime()).isNotEqualTo(catalog.upTime());
+        assertThat(second.version()).isEqualTo(first.version());
+        assertThat(second.groups()).isEqualTo(first.groups());
+        assertThat(ApiDocumentHashes.compute(catalog, jsonMapper).version()).isEqualTo(first.version());
+        assertThat(bootstrap.getHashes().version()).isEqualTo(first.version());
+    }
+
+    @Test
+    void currentVersionReportsNoChanges() throws Exception {
+        JsonNode version = version();
+
+        mockMvc.perform(post("/retreever/doc/changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(JSON.writeValueAsString(Map.of("version", version.get("version").asText()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version.get("version").asText()))
+                .andExpect(jsonPath("$.modified").value(false))
+                .andExpect(jsonPath("$.up_time").isString())
+                .andExpect(jsonPath("$.groups").doesNotExist())
+                .andExpect(jsonPath("$.added").doesNotExist())
+                .andExpect(jsonPath("$.changed").doesNotExist())
+                .andExpect(jsonPath("$.removed").doesNotExist());
+    }
+
+    @Test
+    void staleVersionReturnsOnlyAddedChangedAndRemovedGroups() throws Exception {
+        JsonNode version = version();
+        List<String> ids = groupIds(version);
+        assertThat(ids).hasSizeGreaterThanOrEqualTo(2);
+
+        String stale = ids.get(0);
+        String missing = ids.get(1);
+        Map<String, String> known = new LinkedHashMap<>();
+        for (String id : ids) {
+            if (!id.equals(missing)) {
+                known.put(id, version.get("groups").get(id).asText());
+            }
+        }
+        known.put(stale, "0000000000000000");
+        known.put("0123456789abcdef", "0000000000000000");
+
+        mockMvc.perform(post("/retreever/doc/changes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(JSON.writeValueAsString(Map.of("version", "outdated", "groups", known))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modified").value(true))
+                .andExpect(jsonPath("$.version").value(version.get("version").asText()))
+                .andExpect(jsonPath("$.groups.length()").value(ids.size()))
+                .andExpect(jsonPath("$.added.length()").value(1))
+                .andExpect(jsonPath("$.added[0].id").value(missing))
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.changed[0].id").value(stale))
+                .andExpect(jsonPath("$.changed[0].endpoints").isArray())
+                .andExpect(jsonPath("$.removed.length()").value(1))
+                .andExpect(jsonPath("$.removed[0]").value("0123456789abcdef"));
+    }
+
+    @Test
+    void emptyRequestReturnsEveryGroupAsAdded() throws Exception {
+        int groups = groupIds(version()).size();
+
+        mockMvc.perform(post("/retreever/doc/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.modified").value(true))
+                .andExpect(jsonPath("$.added.length()").value(groups))
+                .andExpect(jsonPath("$.changed").doesNotExist())
+                .andExpect(jsonPath("$.removed").doesNotExist());
+    }
+
+    private JsonNode version() throws Exception {
+        String body = mockMvc.perform(get("/retreever/doc/version"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return JSON.readTree(body);
+    }
+
+    private static List<String> groupIds(JsonNode version) {
+        List<String> ids = new ArrayList<>();
+        Iterator<String> names = version.get("groups").fieldNames();
+        names.forEachRemaining(ids::add);
+        return ids;
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class SyncOrderController {
+
+            @GetMapping("/sync/orders")
+            String orders() {
+                return "orders";
+            }
+        }
+
+        @RestController
+        static class SyncInvoiceController {
+
+            @GetMapping("/sync/invoices")
+            String invoices() {
+                return "invoices";
+            }
+        }
+    }
+}
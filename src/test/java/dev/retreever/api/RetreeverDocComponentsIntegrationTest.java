@@ -0,0 +1,107 @@
+package dev.retreever.api;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverDocComponentsIntegrationTest.TestApplication.class,
+        properties = "retreever.document.format=v2"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocComponentsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void rendersSharedSchemasOnceAndReferencesThemById() throws Exception {
+        String body = mockMvc.perform(get("/retreever/doc"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat((String) JsonPath.read(body, "$.format")).isEqualTo("v2");
+
+        List<String> currentRef = JsonPath.read(body,
+                "$.groups[*].endpoints[?(@.path == '/component-accounts/current')].response['$ref']");
+        List<String> byIdRef = JsonPath.read(body,
+                "$.groups[*].endpoints[?(@.path == '/component-accounts/{id}')].response['$ref']");
+
+        assertThat(currentRef).hasSize(1);
+        assertThat(byIdRef).containsExactlyElementsOf(currentRef);
+
+        Map<String, Object> component = JsonPath.read(body, "$.components['" + currentRef.get(0) + "']");
+        assertThat(component).containsKeys("model", "example_model");
+        assertThat(JsonPath.<Map<String, Object>>read(component, "$.model")).containsKeys("email", "displayName");
+
+        List<Object> inlineModels = JsonPath.read(body, "$.groups[*].endpoints[*].response.model");
+        assertThat(inlineModels).isEmpty();
+    }
+
+    @Test
+    void keepsPiecewiseDocumentsInline() throws Exception {
+        String index = mockMvc.perform(get("/retreever/doc/index"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<String> ids = JsonPath.read(index, "$.groups[*].endpoints[?(@.path == '/component-accounts/current')].id");
+
+        String endpoint = mockMvc.perform(get("/retreever/doc/endpoints/" + ids.get(0)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(JsonPath.<Map<String, Object>>read(endpoint, "$.response.model")).containsKey("email");
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class ComponentAccountController {
+
+            @GetMapping("/component-accounts/current")
+            ComponentAccount current() {
+                return new ComponentAccount();
+            }
+
+            @GetMapping("/component-accounts/{id}")
+            ComponentAccount byId(@PathVariable String id) {
+                return new ComponentAccount();
+            }
+        }
+    }
+
+    static class ComponentAccount {
+        private String email;
+        private String displayName;
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
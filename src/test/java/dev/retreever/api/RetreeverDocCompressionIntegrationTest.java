@@ -0,0 +1,91 @@
+package dev.retreever.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverDocCompressionIntegrationTest.TestApplication.class,
+        properties = "retreever.document.compression=true"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocCompressionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void servesPreCompressedVariantsByAcceptEncoding() throws Exception {
+        MvcResult identity = mockMvc.perform(get("/retreever/doc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        byte[] json = identity.getResponse().getContentAsByteArray();
+
+        MvcResult gzip = mockMvc.perform(get("/retreever/doc").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn();
+        byte[] gzipBody = gzip.getResponse().getContentAsByteArray();
+
+        assertThat(gzipBody.length).isLessThan(json.length);
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(gzipBody)))).isEqualTo(json);
+        assertThat(gzip.getResponse().getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(identity.getResponse().getHeader(HttpHeaders.ETAG));
+
+        MvcResult deflate = mockMvc.perform(get("/retreever/doc").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "deflate"))
+                .andReturn();
+
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(deflate.getResponse().getContentAsByteArray()))))
+                .isEqualTo(json);
+    }
+
+    @Test
+    void revalidatesEachVariantAgainstItsOwnEtag() throws Exception {
+        String gzipEtag = mockMvc.perform(get("/retreever/doc").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/retreever/doc")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        mockMvc.perform(get("/retreever/doc").header(HttpHeaders.IF_NONE_MATCH, gzipEtag))
+                .andExpect(status().isOk());
+    }
+
+    private byte[] decode(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+    }
+}
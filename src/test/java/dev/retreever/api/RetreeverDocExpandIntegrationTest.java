@@ -0,0 +1,118 @@
+package dev.retreever.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.json.RetreeverJsonMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverDocExpandIntegrationTest.TestApplication.class,
+        properties = "retreever.build.max-render-depth=2"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocExpandIntegrationTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private RetreeverJsonMapper jsonMapper;
+
+    @Test
+    void deepSchemasAreStubbedAndStreamedTheSameAsAssembled() throws Exception {
+        String streamed = new String(bootstrap.getPayload().body(), StandardCharsets.UTF_8);
+        String assembled = new String(jsonMapper.writeValueAsBytes(bootstrap.getDocument()), StandardCharsets.UTF_8);
+
+        assertThat(streamed).contains("$expand");
+        assertThat(streamed).isEqualTo(assembled);
+    }
+
+    @Test
+    void stubsExpandOnDemandAndStubDeeperLevelsAgain() throws Exception {
+        JsonNode model = response().get("model");
+        assertThat(model.get("name").asText()).isEqualTo("string");
+        String token = model.get("region").get("country").get("$expand").asText();
+        assertThat(model.get("region").get("country").size()).isEqualTo(1);
+
+        String body = mockMvc.perform(get("/retreever/doc/expand/{token}", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.model.code").value("string"))
+                .andExpect(jsonPath("$.model.continent.name").value("string"))
+                .andExpect(jsonPath("$.model.continent.planet['$expand']").isString())
+                .andExpect(jsonPath("$.example_model.code").value("hello"))
+                .andReturn().getResponse().getContentAsString();
+
+        String deeper = JSON.readTree(body).get("model").get("continent").get("planet").get("$expand").asText();
+        mockMvc.perform(get("/retreever/doc/expand/{token}", deeper))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.model.name").value("string"));
+    }
+
+    @Test
+    void unknownTokensAreNotFound() throws Exception {
+        mockMvc.perform(get("/retreever/doc/expand/{token}", "0000000000000000"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode response() throws Exception {
+        JsonNode document = JSON.readTree(bootstrap.getPayload().body());
+        for (JsonNode group : document.get("groups")) {
+            for (JsonNode endpoint : group.get("endpoints")) {
+                if ("/expand-fixtures/cities/main".equals(endpoint.get("path").asText())) {
+                    return endpoint.get("response");
+                }
+            }
+        }
+        throw new AssertionError("Fixture endpoint not documented");
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class CityController {
+
+            @GetMapping("/expand-fixtures/cities/main")
+            ExpandCity city() {
+                return null;
+            }
+        }
+    }
+
+    record ExpandCity(String name, ExpandRegion region) {
+    }
+
+    record ExpandRegion(String name, ExpandCountry country) {
+    }
+
+    record ExpandCountry(String code, ExpandContinent continent) {
+    }
+
+    record ExpandContinent(String name, ExpandPlanet planet) {
+    }
+
+    record ExpandPlanet(String name) {
+    }
+}
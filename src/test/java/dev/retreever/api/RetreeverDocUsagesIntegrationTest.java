@@ -0,0 +1,112 @@
+package dev.retreever.api;
+
+import dev.retreever.annotation.ApiEndpoint;
+import dev.retreever.annotation.ApiError;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = RetreeverDocUsagesIntegrationTest.TestApplication.class)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverDocUsagesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void nestedDtoListsEveryEndpointAndErrorUsingIt() throws Exception {
+        mockMvc.perform(get("/retreever/doc/usages").param("type", UsageAddress.class.getName()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.types.length()").value(1))
+                .andExpect(jsonPath("$.types[0].type").value(UsageAddress.class.getName()))
+                .andExpect(jsonPath("$.types[0].endpoints[*].name")
+                        .value(containsInAnyOrder("Create warehouse", "List warehouses")))
+                .andExpect(jsonPath("$.types[0].endpoints[?(@.name == 'Create warehouse')].usage[*]")
+                        .value(containsInAnyOrder("request", "response")))
+                .andExpect(jsonPath("$.types[0].endpoints[?(@.name == 'List warehouses')].usage[*]")
+                        .value(containsInAnyOrder("response")))
+                .andExpect(jsonPath("$.types[0].errors.length()").value(1))
+                .andExpect(jsonPath("$.types[0].errors[0].exception").value(UsageClosedException.class.getName()))
+                .andExpect(jsonPath("$.types[0].errors[0].status").value(409))
+                .andExpect(jsonPath("$.types[0].errors[0].endpoints.length()").value(1));
+    }
+
+    @Test
+    void simpleNamesResolveToTheSameUsages() throws Exception {
+        mockMvc.perform(get("/retreever/doc/usages").param("type", "UsageWarehouse"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.types[0].type").value(UsageWarehouse.class.getName()))
+                .andExpect(jsonPath("$.types[0].endpoints.length()").value(2))
+                .andExpect(jsonPath("$.types[0].errors").isEmpty());
+    }
+
+    @Test
+    void unknownTypesAreNotFound() throws Exception {
+        mockMvc.perform(get("/retreever/doc/usages").param("type", "NoSuchUsageType"))
+                .andExpect(status().isNotFound());
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class WarehouseController {
+
+            @PostMapping("/usage-fixtures/warehouses")
+            @ApiEndpoint(name = "Create warehouse", errors = UsageClosedException.class)
+            UsageWarehouse create(@RequestBody UsageWarehouse warehouse) {
+                return warehouse;
+            }
+
+            @GetMapping("/usage-fixtures/warehouses")
+            @ApiEndpoint(name = "List warehouses")
+            List<UsageWarehouse> list() {
+                return List.of();
+            }
+        }
+
+        @RestControllerAdvice
+        static class WarehouseAdvice {
+
+            @ExceptionHandler(UsageClosedException.class)
+            @ApiError(status = HttpStatus.CONFLICT, description = "Warehouse is closed")
+            UsageProblem handle(UsageClosedException ex) {
+                return new UsageProblem(ex.getMessage(), null);
+            }
+        }
+    }
+
+    record UsageWarehouse(String code, UsageAddress address) {
+    }
+
+    record UsageAddress(String city, String country) {
+    }
+
+    record UsageProblem(String message, UsageAddress site) {
+    }
+
+    static class UsageClosedException extends RuntimeException {
+        UsageClosedException() {
+            super("closed");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package dev.retreever.api;
+
+import dev.retreever.boot.RetreeverDocumentEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverEventsIntegrationTest.TestApplication.class,
+        properties = {
+                "retreever.events.max-connections=2",
+                "retreever.events.heartbeat=100ms",
+                "retreever.events.idle-timeout=1500ms"
+        }
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RetreeverEventsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RetreeverEventRegistry registry;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void sendsCurrentStateAndHeartbeatsOnConnect() throws Exception {
+        MockHttpServletResponse response = open();
+
+        awaitContent(response, "\"up_time\":");
+        assertThat(response.getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(response.getContentAsString()).contains("\"status\":\"OK\"", "\"up_time\":");
+        awaitContent(response, ":heartbeat\n");
+    }
+
+    @Test
+    void pushesBuildOutcomesToEveryStream() throws Exception {
+        MockHttpServletResponse first = open();
+        MockHttpServletResponse second = open();
+        awaitContent(first, "event:ready\n");
+        awaitContent(second, "event:ready\n");
+
+        context.publishEvent(RetreeverDocumentEvent.failed("Build failed."));
+
+        awaitContent(first, "\"message\":\"Build failed.\"");
+        awaitContent(second, "\"message\":\"Build failed.\"");
+        assertThat(first.getContentAsString()).contains("\"status\":\"UNAVAILABLE\"", "\"message\":\"Build failed.\"");
+    }
+
+    @Test
+    void rejectsStreamsBeyondTheConnectionLimit() throws Exception {
+        open();
+        open();
+
+        mockMvc.perform(get("/retreever/events"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        assertThat(registry.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void closesIdleStreamsAndFreesTheirSlots() throws Exception {
+        open();
+        open();
+        assertThat(registry.connectionCount()).isEqualTo(2);
+
+        await(() -> registry.connectionCount() == 0);
+        open();
+        assertThat(registry.connectionCount()).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse open() throws Exception {
+        return mockMvc.perform(get("/retreever/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        await(() -> {
+            try {
+                return response.getContentAsString().contains(expected);
+            } catch (Exception ex) {
+                return false;
+            }
+        });
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition met within 5s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class StatusController {
+
+            @GetMapping("/events-test/status")
+            String status() {
+                return "up";
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.retreever.api;
+
+import com.jayway.jsonpath.JsonPath;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.repo.SchemaRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverLazyDocIntegrationTest.TestApplication.class,
+        properties = "retreever.document.lazy=true"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverLazyDocIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Test
+    void rendersPiecesOnFirstRequestAndServesThemFromOneCatalog() throws Exception {
+        String index = mockMvc.perform(get("/retreever/doc/index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups[*].endpoints[*].path", hasItem("/lazy/orders")))
+                .andExpect(jsonPath("$.groups[0].endpoints[0].request").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<String> endpointIds = JsonPath.read(index, "$.groups[*].endpoints[?(@.path == '/lazy/orders')].id");
+        List<String> groupIds = JsonPath.read(index, "$.groups[?(@.name == 'Lazy Order APIs')].id");
+        String endpointId = endpointIds.get(0);
+        String groupId = groupIds.get(0);
+
+        // The build resolves into its own registry, so the DTO is only there once rendered.
+        SchemaRegistry registry = bootstrap.getCatalog().schemaRegistry();
+        assertThat(registry.getSchema(LazyOrder.class)).isNull();
+
+        mockMvc.perform(get("/retreever/doc/endpoints/{id}", endpointId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(endpointId))
+                .andExpect(jsonPath("$.response.model.total").exists());
+
+        assertThat(registry.getSchema(LazyOrder.class)).isNotNull();
+
+        mockMvc.perform(get("/retreever/doc/groups/{id}", groupId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(groupId))
+                .andExpect(jsonPath("$.endpoints[*].id", hasItem(endpointId)));
+
+        mockMvc.perform(get("/retreever/doc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups[*].id", hasItem(groupId)))
+                .andExpect(jsonPath("$.groups[*].endpoints[*].id", hasItem(endpointId)));
+    }
+
+    @Test
+    void returnsNotFoundForUnknownIds() throws Exception {
+        mockMvc.perform(get("/retreever/doc/groups/{id}", "missing"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/retreever/doc/endpoints/{id}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class LazyOrderController {
+
+            @GetMapping("/lazy/orders")
+            LazyOrder order() {
+                return null;
+            }
+
+            @PostMapping("/lazy/orders")
+            LazyOrder create(@RequestBody LazyOrder order) {
+                return order;
+            }
+        }
+    }
+
+    static class LazyOrder {
+        private String id;
+        private Double total;
+    }
+}
@@ -0,0 +1,132 @@
+package dev.retreever.api;
+
+import dev.retreever.annotation.ApiEndpoint;
+import dev.retreever.annotation.ApiError;
+import dev.retreever.annotation.FieldInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverSearchIntegrationTest.TestApplication.class,
+        properties = "retreever.document.lazy=true"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverSearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void findsEndpointsByNameAndPath() throws Exception {
+        mockMvc.perform(get("/retreever/search").param("q", "shipm"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.query").value("shipm"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.hits[*].name").value(containsInAnyOrder("Create shipment", "Get shipment")))
+                .andExpect(jsonPath("$.hits[0].id").isString())
+                .andExpect(jsonPath("$.hits[0].group_id").isString());
+
+        mockMvc.perform(get("/retreever/search").param("q", "post shipments"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].method").value("POST"))
+                .andExpect(jsonPath("$.hits[0].path").value("/search-fixtures/shipments"));
+    }
+
+    @Test
+    void findsEndpointsByDtoPropertyAndFieldDescription() throws Exception {
+        mockMvc.perform(get("/retreever/search").param("q", "carrier"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].name").value("Create shipment"))
+                .andExpect(jsonPath("$.hits[0].matched[0]").value("property"));
+
+        mockMvc.perform(get("/retreever/search").param("q", "tracking parcel"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].name").value("Create shipment"));
+    }
+
+    @Test
+    void findsEndpointsByErrorDescriptionAndParameters() throws Exception {
+        mockMvc.perform(get("/retreever/search").param("q", "embargo"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].name").value("Create shipment"));
+
+        mockMvc.perform(get("/retreever/search").param("q", "shipmentId"))
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.hits[0].name").value("Get shipment"));
+    }
+
+    @Test
+    void emptyOrUnmatchedQueriesReturnNoHits() throws Exception {
+        mockMvc.perform(get("/retreever/search"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.hits").isEmpty());
+
+        mockMvc.perform(get("/retreever/search").param("q", "zzzunknown"))
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class ShipmentController {
+
+            @PostMapping("/search-fixtures/shipments")
+            @ApiEndpoint(name = "Create shipment", errors = ShipmentEmbargoException.class)
+            SearchShipment create(@RequestBody SearchShipment shipment) {
+                return shipment;
+            }
+
+            @GetMapping("/search-fixtures/shipments/{shipmentId}")
+            @ApiEndpoint(name = "Get shipment")
+            String get(@PathVariable String shipmentId) {
+                return shipmentId;
+            }
+        }
+
+        @RestControllerAdvice
+        static class ShipmentAdvice {
+
+            @ExceptionHandler(ShipmentEmbargoException.class)
+            @ApiError(status = HttpStatus.UNPROCESSABLE_ENTITY, description = "Destination is under embargo")
+            String handle(ShipmentEmbargoException ex) {
+                return ex.getMessage();
+            }
+        }
+    }
+
+    record SearchShipment(String carrierCode, List<SearchParcel> parcels) {
+    }
+
+    record SearchParcel(@FieldInfo(description = "Tracking number printed on the label") String barcode) {
+    }
+
+    static class ShipmentEmbargoException extends RuntimeException {
+        ShipmentEmbargoException() {
+            super("embargo");
+        }
+    }
+}
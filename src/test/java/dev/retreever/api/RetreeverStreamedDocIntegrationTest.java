@@ -0,0 +1,98 @@
+package dev.retreever.api;
+
+import dev.retreever.annotation.ApiEndpoint;
+import dev.retreever.annotation.ApiError;
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.view.ApiDocumentWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = RetreeverStreamedDocIntegrationTest.TestApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverStreamedDocIntegrationTest {
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private RetreeverJsonMapper jsonMapper;
+
+    @Test
+    void streamedPayloadMatchesSerializedDocument() throws Exception {
+        assertThat(ApiDocumentWriter.supports(jsonMapper)).isTrue();
+
+        String streamed = new String(bootstrap.getPayload().body(), StandardCharsets.UTF_8);
+        String assembled = new String(jsonMapper.writeValueAsBytes(bootstrap.getDocument()), StandardCharsets.UTF_8);
+
+        assertThat(streamed).contains("/streamed-orders/{orderId}");
+        assertThat(streamed).isEqualTo(assembled);
+    }
+
+    @Test
+    void mappersThatChangeOutputAreNotStreamed() {
+        assertThat(ApiDocumentWriter.supports(jsonMapper.copyWithNonNullInclusion())).isFalse();
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class StreamedOrderController {
+
+            @PostMapping("/streamed-orders/{orderId}")
+            @ApiEndpoint(name = "Update order", errors = StreamedOrderException.class)
+            ResponseEntity<StreamedOrder> update(@PathVariable String orderId,
+                                                 @RequestParam(defaultValue = "false") boolean notify,
+                                                 @RequestHeader("X-Tenant") String tenant,
+                                                 @RequestBody StreamedOrder order) {
+                return ResponseEntity.ok(order);
+            }
+        }
+
+        @RestControllerAdvice
+        static class StreamedOrderAdvice {
+
+            @ExceptionHandler(StreamedOrderException.class)
+            @ApiError(status = HttpStatus.CONFLICT, description = "Order is locked")
+            StreamedError handle(StreamedOrderException ex) {
+                return new StreamedError(ex.getMessage(), List.of());
+            }
+        }
+    }
+
+    record StreamedOrder(String reference, double total, boolean paid, List<StreamedLine> lines,
+                         Map<String, Integer> counters) {
+    }
+
+    record StreamedLine(String sku, int quantity) {
+    }
+
+    record StreamedError(String message, List<String> details) {
+    }
+
+    static class StreamedOrderException extends RuntimeException {
+        StreamedOrderException() {
+            super("locked");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dev.retreever.api;
+
+import dev.retreever.boot.RetreeverBasePathResolver;
+import dev.retreever.config.RetreeverContextPathProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RetreeverUIControllerTest {
+
+    private static final String INDEX = """
+            <html><head><script src="/retreever/assets/app.js"></script>
+            <link href="/retreever/assets/app.css"></head>
+            <body><div id="root"></div></body></html>
+            """;
+
+    private final CountingResource index = new CountingResource(INDEX);
+    private final RetreeverUIController controller = new RetreeverUIController(
+            new RetreeverBasePathResolver(new RetreeverContextPathProperties(), new MockEnvironment()),
+            index
+    );
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+    @Test
+    void rendersShellForTheForwardedPrefix() throws Exception {
+        String expected = INDEX
+                .replace("/retreever", "/edge/retreever")
+                .replace("<div id=\"root\"></div>", """
+                        <div id="root"></div>
+                        <script>
+                          window.__RETREEVER_CONTEXT_PATH__ = "/edge";
+                        </script>
+                        """);
+
+        mockMvc.perform(get("/retreever/workspace").header("X-Forwarded-Prefix", "/edge"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/html;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().string(HttpHeaders.VARY, "X-Forwarded-Prefix"))
+                .andExpect(content().string(expected));
+    }
+
+    @Test
+    void parsesTemplateOnceAndReusesRenderedShell() throws Exception {
+        MvcResult first = mockMvc.perform(get("/retreever")).andReturn();
+        MvcResult second = mockMvc.perform(get("/retreever/login")).andReturn();
+
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).matches("\"[0-9a-f]{64}\"");
+        assertThat(second.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(second.getResponse().getContentAsByteArray())
+                .isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(index.reads.get()).isEqualTo(1);
+        assertThat(controller.cachedShellCount()).isEqualTo(1);
+
+        mockMvc.perform(get("/retreever").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        String forwarded = mockMvc.perform(get("/retreever").header("X-Forwarded-Prefix", "/edge"))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(forwarded).isNotEqualTo(etag);
+    }
+
+    @Test
+    void boundsTheNumberOfCachedShells() throws Exception {
+        for (int i = 0; i < RetreeverUIController.MAX_CACHED_SHELLS + 8; i++) {
+            mockMvc.perform(get("/retreever").header("X-Forwarded-Prefix", "/tenant-" + i))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(controller.cachedShellCount()).isEqualTo(RetreeverUIController.MAX_CACHED_SHELLS);
+        assertThat(index.reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void answersNotFoundWithoutPackagedUi() throws Exception {
+        RetreeverUIController missing = new RetreeverUIController(
+                new RetreeverBasePathResolver(new RetreeverContextPathProperties(), new MockEnvironment()),
+                new ByteArrayResource(new byte[0]) {
+                    @Override
+                    public boolean exists() {
+                        return false;
+                    }
+                }
+        );
+
+        MockMvcBuilders.standaloneSetup(missing).build()
+                .perform(get("/retreever"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static final class CountingResource extends ByteArrayResource {
+
+        private final AtomicInteger reads = new AtomicInteger();
+
+        private CountingResource(String content) {
+            super(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            reads.incrementAndGet();
+            return super.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package dev.retreever.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetreeverInMemoryResourceResolverTest {
+
+    private static final String SCRIPT = "console.log('retreever');\n".repeat(64);
+
+    @TempDir
+    Path bundle;
+
+    @Test
+    void servesPreCompressedSiblingWhenClientAcceptsGzip() throws Exception {
+        byte[] gzipped = writeBundle();
+        ResourceHttpRequestHandler handler = handler(new RetreeverInMemoryResourceResolver());
+
+        MockHttpServletResponse compressed = serve(handler, "app.js", "gzip, deflate");
+        assertThat(compressed.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compressed.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(compressed.getContentType()).startsWith("text/javascript");
+        assertThat(compressed.getContentAsByteArray()).isEqualTo(gzipped);
+
+        MockHttpServletResponse identity = serve(handler, "app.js", null);
+        assertThat(identity.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(identity.getContentAsString()).isEqualTo(SCRIPT);
+    }
+
+    @Test
+    void repeatedRequestsAreServedFromHeap() throws Exception {
+        byte[] gzipped = writeBundle();
+        RetreeverInMemoryResourceResolver resolver = new RetreeverInMemoryResourceResolver();
+        ResourceHttpRequestHandler handler = handler(resolver);
+
+        serve(handler, "app.js", "gzip");
+        serve(handler, "app.js", null);
+        assertThat(resolver.size()).isEqualTo(2);
+
+        Files.delete(bundle.resolve("app.js"));
+        Files.delete(bundle.resolve("app.js.gz"));
+
+        MockHttpServletResponse compressed = serve(handler, "app.js", "gzip");
+        assertThat(compressed.getStatus()).isEqualTo(200);
+        assertThat(compressed.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(compressed.getContentAsByteArray()).isEqualTo(gzipped);
+        assertThat(serve(handler, "app.js", null).getContentAsString()).isEqualTo(SCRIPT);
+    }
+
+    @Test
+    void unresolvedPathsAreNotCached() throws Exception {
+        writeBundle();
+        RetreeverInMemoryResourceResolver resolver = new RetreeverInMemoryResourceResolver();
+        ResourceHttpRequestHandler handler = handler(resolver);
+
+        assertThatThrownBy(() -> serve(handler, "missing.js", "gzip")).isInstanceOf(NoResourceFoundException.class);
+        assertThat(resolver.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBeyondTheSizeBound() throws Exception {
+        Files.writeString(bundle.resolve("a.txt"), "a".repeat(40));
+        Files.writeString(bundle.resolve("b.txt"), "b".repeat(40));
+        Files.writeString(bundle.resolve("c.txt"), "c".repeat(40));
+        Files.writeString(bundle.resolve("large.txt"), "l".repeat(80));
+        RetreeverInMemoryResourceResolver resolver = new RetreeverInMemoryResourceResolver(100, 60);
+        ResourceHttpRequestHandler handler = handler(resolver);
+
+        serve(handler, "a.txt", null);
+        serve(handler, "b.txt", null);
+        serve(handler, "a.txt", null);
+        serve(handler, "c.txt", null);
+
+        assertThat(resolver.size()).isEqualTo(2);
+        assertThat(resolver.totalBytes()).isEqualTo(80);
+
+        Files.delete(bundle.resolve("b.txt"));
+        assertThat(serve(handler, "a.txt", null).getContentAsString()).isEqualTo("a".repeat(40));
+        assertThatThrownBy(() -> serve(handler, "b.txt", null)).isInstanceOf(NoResourceFoundException.class);
+
+        assertThat(serve(handler, "large.txt", null).getContentAsString()).isEqualTo("l".repeat(80));
+        assertThat(resolver.size()).isEqualTo(2);
+    }
+
+    private byte[] writeBundle() throws IOException {
+        byte[] gzipped = gzip(SCRIPT.getBytes(StandardCharsets.UTF_8));
+        Files.writeString(bundle.resolve("app.js"), SCRIPT);
+        Files.write(bundle.resolve("app.js.gz"), gzipped);
+        return gzipped;
+    }
+
+    private ResourceHttpRequestHandler handler(RetreeverInMemoryResourceResolver resolver) throws Exception {
+        EncodedResourceResolver encoded = new EncodedResourceResolver();
+        encoded.setContentCodings(List.of("gzip"));
+
+        ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+        handler.setServletContext(new MockServletContext());
+        handler.setLocations(List.of(new FileSystemResource(bundle.toString() + "/")));
+        handler.setResourceResolvers(List.of(resolver, encoded, new PathResourceResolver()));
+        handler.afterPropertiesSet();
+        return handler;
+    }
+
+    private static MockHttpServletResponse serve(ResourceHttpRequestHandler handler, String path,
+                                                 String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/retreever/assets/" + path);
+        request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, path);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        handler.handleRequest(request, response);
+        return response;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -244,6 +244,18 @@ class RetreeverAuthenticationIntegrationTest {
                 .andExpect(jsonPath("$.error").value("unauthorized"));
     }
 
+    @Test
+    void rejectsUnauthenticatedPiecewiseDocumentRequests() throws Exception {
+        mockMvc.perform(get("/retreever/doc/index").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/retreever/doc/groups/unknown").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/retreever/doc/endpoints/unknown").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     void loginIssuesUniqueTokensForSeparateLogins() throws Exception {
         AuthCookies firstLogin = login();
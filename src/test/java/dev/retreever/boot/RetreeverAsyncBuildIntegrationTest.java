@@ -0,0 +1,92 @@
+package dev.retreever.boot;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverAsyncBuildIntegrationTest.TestApplication.class,
+        properties = "retreever.build.async=true"
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverAsyncBuildIntegrationTest {
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestApplication.BuildEvents events;
+
+    @Test
+    void buildsOnABackgroundThreadAndPublishesWhenDone() throws Exception {
+        bootstrap.awaitBuild().get(30, TimeUnit.SECONDS);
+
+        assertThat(bootstrap.isAvailable()).isTrue();
+        assertThat(bootstrap.getBuildProgress()).isNull();
+        assertThat(events.received).singleElement().satisfies(received -> {
+            assertThat(received.event().type()).isEqualTo(RetreeverDocumentEvent.Type.READY);
+            assertThat(received.thread()).isEqualTo("retreever-build");
+        });
+
+        mockMvc.perform(get("/retreever/ping").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("OK"));
+        mockMvc.perform(get("/retreever/doc/index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups[*].endpoints[*].path").value(
+                        hasItem("/async-fixtures/orders")));
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class OrderController {
+
+            @GetMapping("/async-fixtures/orders")
+            List<AsyncOrder> orders() {
+                return List.of();
+            }
+        }
+
+        @Component
+        static class BuildEvents {
+
+            private final List<ReceivedEvent> received = new CopyOnWriteArrayList<>();
+
+            @EventListener
+            void on(RetreeverDocumentEvent event) {
+                received.add(new ReceivedEvent(event, Thread.currentThread().getName()));
+            }
+        }
+    }
+
+    record ReceivedEvent(RetreeverDocumentEvent event, String thread) {
+    }
+
+    record AsyncOrder(String id, int quantity) {
+    }
+}
@@ -0,0 +1,74 @@
+package test.retreever.boot;
+
+import dev.retreever.boot.RetreeverBootstrap;
+import dev.retreever.boot.RetreeverDocumentEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+@SpringBootTest(classes = RetreeverEventListenerIsolationIntegrationTest.TestApplication.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverEventListenerIsolationIntegrationTest {
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private ThrowingListener listener;
+
+    @Test
+    void throwingListenerDoesNotStopStartupOrRebuilds() {
+        assertThat(listener.calls.get()).isEqualTo(1);
+        assertThat(bootstrap.isAvailable()).isTrue();
+        assertThat(bootstrap.getStartupFailure()).isNull();
+
+        assertThatCode(() -> bootstrap.rebuild().join()).doesNotThrowAnyException();
+
+        assertThat(listener.calls.get()).isEqualTo(2);
+        assertThat(bootstrap.getRebuildFailure()).isNull();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(ListenerFixtureController.class)
+    static class TestApplication {
+
+        @Bean
+        ThrowingListener throwingListener() {
+            return new ThrowingListener();
+        }
+    }
+
+    static class ThrowingListener {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @EventListener
+        void onDocumentEvent(RetreeverDocumentEvent event) {
+            calls.incrementAndGet();
+            throw new IllegalStateException("Listener failed.");
+        }
+    }
+
+    @RestController
+    static class ListenerFixtureController {
+
+        @GetMapping("/listener-fixtures")
+        String fixture() {
+            return "ok";
+        }
+    }
+}
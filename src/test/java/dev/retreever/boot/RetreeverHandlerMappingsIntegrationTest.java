@@ -0,0 +1,128 @@
+package dev.retreever.boot;
+
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerTypePredicate;
+import org.springframework.web.servlet.config.annotation.PathMatchConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(
+        classes = RetreeverHandlerMappingsIntegrationTest.TestApplication.class,
+        properties = {
+                "retreever.build.mappings=handler-mappings",
+                "retreever.docs.skip[0]=/mapped-routes/legacy"
+        }
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverHandlerMappingsIntegrationTest {
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Test
+    void documentsEveryRegisteredPathAndHttpMethod() {
+        ApiDocument document = bootstrap.getDocument();
+
+        assertThat(endpoints(document))
+                .filteredOn(endpoint -> endpoint.path().startsWith("/mapped-routes/"))
+                .extracting(ApiDocument.Endpoint::method, ApiDocument.Endpoint::path)
+                .containsExactlyInAnyOrder(
+                        tuple("GET", "/mapped-routes/current"),
+                        tuple("POST", "/mapped-routes/current"),
+                        tuple("GET", "/mapped-routes/inherited")
+                );
+        assertThat(endpoints(document))
+                .filteredOn(endpoint -> endpoint.path().startsWith("/mapped-routes/"))
+                .extracting(ApiDocument.Endpoint::id)
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void usesRegisteredPathPrefixesAndMediaTypes() {
+        ApiDocument document = bootstrap.getDocument();
+
+        ApiDocument.Endpoint prefixed = findEndpoint(document, "/v2/mapped-prefix/orders").orElse(null);
+
+        assertThat(prefixed).isNotNull();
+        assertThat(prefixed.consumes()).containsExactly(MediaType.APPLICATION_XML_VALUE);
+        assertThat(prefixed.produces()).containsExactly(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(findEndpoint(document, "/mapped-prefix/orders")).isEmpty();
+    }
+
+    private Optional<ApiDocument.Endpoint> findEndpoint(ApiDocument document, String path) {
+        return endpoints(document).stream()
+                .filter(endpoint -> endpoint.path().equals(path))
+                .findFirst();
+    }
+
+    private List<ApiDocument.Endpoint> endpoints(ApiDocument document) {
+        return document.groups().stream()
+                .flatMap(group -> group.endpoints().stream())
+                .toList();
+    }
+
+    @SpringBootApplication
+    @Import({MappedRoutesController.class, PrefixedOrdersController.class})
+    static class TestApplication {
+
+        @Bean
+        WebMvcConfigurer mappedPrefixConfigurer() {
+            return new WebMvcConfigurer() {
+                @Override
+                public void configurePathMatch(PathMatchConfigurer configurer) {
+                    configurer.addPathPrefix("/v2", HandlerTypePredicate.forAssignableType(PrefixedOrdersController.class));
+                }
+            };
+        }
+    }
+
+    abstract static class InheritedRoutes {
+
+        @GetMapping("/mapped-routes/inherited")
+        MappedPayload inherited() {
+            return null;
+        }
+    }
+
+    @RestController
+    static class MappedRoutesController extends InheritedRoutes {
+
+        @RequestMapping(path = {"/mapped-routes/current", "/mapped-routes/legacy"}, method = {RequestMethod.GET, RequestMethod.POST})
+        MappedPayload current() {
+            return null;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/mapped-prefix")
+    static class PrefixedOrdersController {
+
+        @PostMapping(path = "/orders", consumes = MediaType.APPLICATION_XML_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+        MappedPayload create(@RequestBody MappedPayload payload) {
+            return payload;
+        }
+    }
+
+    static class MappedPayload {
+        public String reference;
+    }
+}
@@ -0,0 +1,185 @@
+package dev.retreever.boot;
+
+import dev.retreever.engine.ApiDocumentCatalog;
+import dev.retreever.view.ApiDocumentPayload;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        classes = RetreeverRebuildIntegrationTest.TestApplication.class,
+        properties = {
+                "retreever.build.rebuild-on-refresh=true",
+                "retreever.build.rebuild-endpoint=true"
+        }
+)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverRebuildIntegrationTest {
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DocumentEvents events;
+
+    @BeforeEach
+    void clearEvents() {
+        events.received.clear();
+    }
+
+    @Test
+    void rebuildPublishesAFreshBuildAndLeavesThePreviousOneIntact() {
+        ApiDocumentCatalog previous = bootstrap.getCatalog();
+        ApiDocumentPayload previousPayload = bootstrap.getPayload();
+
+        bootstrap.rebuild().join();
+
+        ApiDocumentCatalog current = bootstrap.getCatalog();
+        assertThat(current).isNotSameAs(previous);
+        assertThat(bootstrap.getPayload()).isNotSameAs(previousPayload);
+        assertThat(bootstrap.getPayload().body()).isNotEmpty();
+        assertThat(current.schemaRegistry()).isNotSameAs(previous.schemaRegistry());
+        assertThat(previous.schemaRegistry().getSchema(RebuildOrder.class)).isNotNull();
+        assertThat(current.schemaRegistry().getSchema(RebuildOrder.class)).isNotNull();
+        assertThat(previous.document().groups()).isNotEmpty();
+        assertThat(events.received)
+                .extracting(RetreeverDocumentEvent::type)
+                .containsExactly(RetreeverDocumentEvent.Type.REBUILT);
+    }
+
+    @Test
+    void contextRefreshRebuildsTheDocumentation() {
+        ApiDocumentCatalog previous = bootstrap.getCatalog();
+
+        context.publishEvent(new ContextRefreshedEvent(context));
+
+        assertThat(bootstrap.getCatalog()).isNotSameAs(previous);
+        assertThat(events.received)
+                .extracting(RetreeverDocumentEvent::type)
+                .containsExactly(RetreeverDocumentEvent.Type.REBUILT);
+    }
+
+    @Test
+    void rebuildEndpointReportsTheNewBuild() throws Exception {
+        ApiDocumentCatalog previous = bootstrap.getCatalog();
+
+        mockMvc.perform(post("/retreever/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("OK"))
+                .andExpect(jsonPath("$.uptime").exists());
+
+        assertThat(bootstrap.getCatalog()).isNotSameAs(previous);
+    }
+
+    @Test
+    void failedRebuildKeepsTheDocumentAndReportsTheFailure() throws Exception {
+        ApiDocumentCatalog previous = bootstrap.getCatalog();
+
+        FailingAdvice.failing = true;
+        try {
+            mockMvc.perform(post("/retreever/rebuild"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.status").value("FAILED"))
+                    .andExpect(jsonPath("$.uptime").exists());
+        } finally {
+            FailingAdvice.failing = false;
+        }
+
+        assertThat(bootstrap.getCatalog()).isSameAs(previous);
+        assertThat(bootstrap.getRebuildFailure()).isNotNull();
+        assertThat(events.received).singleElement().satisfies(event -> {
+            assertThat(event.type()).isEqualTo(RetreeverDocumentEvent.Type.FAILED);
+            assertThat(event.upTime()).isEqualTo(previous.upTime());
+        });
+
+        bootstrap.rebuild().join();
+
+        assertThat(bootstrap.getRebuildFailure()).isNull();
+        assertThat(bootstrap.getCatalog()).isNotSameAs(previous);
+    }
+
+    @SpringBootApplication
+    @Import(RebuildOrdersController.class)
+    static class TestApplication {
+
+        @Bean
+        DocumentEvents documentEvents() {
+            return new DocumentEvents();
+        }
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        FailingAdvice failingAdvice() {
+            return new FailingAdvice();
+        }
+    }
+
+    /**
+     * Created anew whenever advices are scanned, so a build can be made to fail.
+     */
+    @RestControllerAdvice
+    static class FailingAdvice {
+
+        private static volatile boolean failing;
+
+        FailingAdvice() {
+            if (failing) {
+                throw new IllegalStateException("Advice unavailable.");
+            }
+        }
+    }
+
+    static class DocumentEvents {
+
+        private final List<RetreeverDocumentEvent> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onDocumentEvent(RetreeverDocumentEvent event) {
+            received.add(event);
+        }
+    }
+
+    @RestController
+    static class RebuildOrdersController {
+
+        @GetMapping("/rebuild-orders")
+        RebuildOrder order() {
+            return null;
+        }
+    }
+
+    static class RebuildOrder {
+        public String reference;
+        public int quantity;
+    }
+}
@@ -0,0 +1,186 @@
+package dev.retreever.boot;
+
+import dev.retreever.engine.ControllerScanner;
+import dev.retreever.engine.RequestMappingIndex;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = RetreeverSnapshotIntegrationTest.TestApplication.class)
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class RetreeverSnapshotIntegrationTest {
+
+    private static final Path SNAPSHOT_DIR = createSnapshotDir();
+
+    @Autowired
+    private RetreeverBootstrap bootstrap;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RetreeverJsonMapper jsonMapper;
+
+    @DynamicPropertySource
+    static void snapshotDir(DynamicPropertyRegistry registry) {
+        registry.add(RetreeverDocumentSnapshots.SNAPSHOT_DIR_PROPERTY, SNAPSHOT_DIR::toString);
+    }
+
+    @Test
+    void restartWithUnchangedClassesLoadsTheSnapshotInsteadOfBuilding() throws Exception {
+        assertThat(snapshots()).hasSize(1);
+        Instant builtAt = bootstrap.getUptime();
+        ApiDocument built = bootstrap.getDocument();
+        String etag = bootstrap.getPayload().etag();
+
+        restart();
+
+        assertThat(bootstrap.getUptime()).isEqualTo(builtAt);
+        assertThat(bootstrap.getPayload().etag()).isEqualTo(etag);
+        assertThat(bootstrap.getDocument()).isEqualTo(built);
+        assertThat(snapshots()).hasSize(1);
+
+        String endpointId = built.groups().get(0).endpoints().get(0).id();
+        mockMvc.perform(get("/retreever/doc/endpoints/{id}", endpointId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(endpointId));
+        mockMvc.perform(get("/retreever/doc/index"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groups[*].endpoints[?(@.path == '/snapshot-fixtures/parcels')].method")
+                        .value(containsInAnyOrder("GET", "POST")));
+        mockMvc.perform(get("/retreever/search").param("q", "snapshot parcels"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2));
+        mockMvc.perform(get("/retreever/doc/usages").param("type", "SnapshotParcel"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.types[0].endpoints.length()").value(2));
+    }
+
+    @Test
+    void unreadableSnapshotsFallBackToABuild() throws Exception {
+        Instant builtAt = bootstrap.getUptime();
+        for (Path snapshot : snapshots()) {
+            Files.write(snapshot, new byte[]{1, 2, 3});
+        }
+
+        restart();
+
+        assertThat(bootstrap.isAvailable()).isTrue();
+        assertThat(bootstrap.getUptime()).isAfter(builtAt);
+        assertThat(Files.size(snapshots().get(0))).isGreaterThan(3);
+    }
+
+    @Test
+    void rebuildResolvesTheDocumentationInsteadOfLoadingTheSnapshot() throws Exception {
+        Instant builtAt = bootstrap.getUptime();
+
+        bootstrap.rebuild().join();
+
+        assertThat(bootstrap.getUptime()).isAfter(builtAt);
+        assertThat(bootstrap.getCatalog().schemaRegistry()).isNotNull();
+        assertThat(snapshots()).hasSize(1);
+    }
+
+    @Test
+    void snapshotsRecordTheClassesTheirSchemasReached() throws Exception {
+        String name = snapshots().get(0).getFileName().toString();
+        String fingerprint = name.substring("retreever-".length(), name.length() - ".snapshot".length());
+        RetreeverDocumentSnapshots store = new RetreeverDocumentSnapshots(SNAPSHOT_DIR);
+
+        assertThat(store.read(fingerprint, jsonMapper, getClass().getClassLoader())).isNotNull();
+        assertThat(store.read(fingerprint, jsonMapper, new ClassLoader(null) {
+        })).isNull();
+    }
+
+    @Test
+    void fingerprintCoversTheRegisteredControllersAndRoutes() {
+        RetreeverDocumentSnapshots store = new RetreeverDocumentSnapshots(SNAPSHOT_DIR);
+        List<String> basePackages = List.of(TestApplication.class.getPackageName());
+        RequestMappingIndex routes = ControllerScanner.scanRequestMappings(context);
+        Set<Class<?>> controllers = Set.of(TestApplication.ParcelController.class);
+
+        String registered = store.fingerprint(context, basePackages, false, controllers, Set.of(), routes);
+
+        assertThat(store.fingerprint(context, basePackages, false, controllers, Set.of(), routes))
+                .isEqualTo(registered);
+        assertThat(store.fingerprint(context, basePackages, false, Set.of(), Set.of(), routes))
+                .isNotEqualTo(registered);
+        assertThat(store.fingerprint(context, basePackages, false, controllers, Set.of(), null))
+                .isNotEqualTo(registered);
+    }
+
+    private void restart() {
+        bootstrap.init(new ApplicationReadyEvent(
+                new SpringApplication(TestApplication.class), new String[0], context, Duration.ZERO));
+    }
+
+    private static List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(SNAPSHOT_DIR)) {
+            return files.filter(file -> file.toString().endsWith(".snapshot")).toList();
+        }
+    }
+
+    private static Path createSnapshotDir() {
+        try {
+            return Files.createTempDirectory("retreever-snapshots");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @SpringBootApplication
+    static class TestApplication {
+
+        @RestController
+        static class ParcelController {
+
+            @GetMapping("/snapshot-fixtures/parcels")
+            List<SnapshotParcel> parcels() {
+                return List.of();
+            }
+
+            @PostMapping("/snapshot-fixtures/parcels")
+            SnapshotParcel create(@RequestBody SnapshotParcel parcel) {
+                return parcel;
+            }
+        }
+    }
+
+    record SnapshotParcel(String id, double weight) {
+    }
+}
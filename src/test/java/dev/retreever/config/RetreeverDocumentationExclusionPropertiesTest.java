@@ -1,7 +1,9 @@
 package dev.retreever.config;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,4 +50,58 @@ class RetreeverDocumentationExclusionPropertiesTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid Retreever docs skip regex");
     }
+
+    @Test
+    void rejectsInvalidUriVariableRegexWhenBound() {
+        RetreeverDocumentationExclusionProperties properties = new RetreeverDocumentationExclusionProperties();
+
+        assertThatThrownBy(() -> properties.setSkip(List.of("/health", "/users/{userId:[0-9}/orders")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid Retreever docs skip pattern: /users/{userId:[0-9}/orders");
+        assertThat(properties.getSkip()).isEmpty();
+        assertThat(properties.excludes("/users/42/orders")).isFalse();
+    }
+
+    @Test
+    void matchesAntPatternsLikeAntPathMatcher() {
+        List<String> patterns = List.of(
+                "/admin/**", "/**/export", "/reports/*/export", "/files/*.csv", "/users/{userId}",
+                "/users/{userId:[0-9]+}/orders", "/a?c/items", "/api/**/items/*", "/*", "/**",
+                "/shop/**/cart/**", "/v{version}/status"
+        );
+        List<String> paths = List.of(
+                "/", "/admin", "/admin/users/42", "/reports/42/export", "/reports/42/43/export",
+                "/export", "/files/report.csv", "/files/report.txt", "/users/42", "/users/{userId}",
+                "/users/42/orders", "/users/abc/orders", "/abc/items", "/abbc/items",
+                "/api/items/1", "/api/v1/shop/items/1", "/api/items", "/shop/cart", "/shop/a/cart/b",
+                "/v2/status", "/status"
+        );
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+        for (String pattern : patterns) {
+            RetreeverDocumentationExclusionProperties properties = new RetreeverDocumentationExclusionProperties();
+            properties.setSkip(List.of(pattern));
+            for (String path : paths) {
+                assertThat(properties.excludes(path))
+                        .as("%s against %s", pattern, path)
+                        .isEqualTo(antPathMatcher.match(pattern, path));
+            }
+        }
+    }
+
+    @Test
+    void matchesLargeSkipListsThroughSharedPrefixes() {
+        List<String> skip = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            skip.add("/service-" + i + "/internal/**");
+            skip.add("/service-" + i + "/health");
+        }
+        RetreeverDocumentationExclusionProperties properties = new RetreeverDocumentationExclusionProperties();
+        properties.setSkip(skip);
+
+        assertThat(properties.excludes("/service-7/internal/cache/flush")).isTrue();
+        assertThat(properties.excludes("/service-199/health")).isTrue();
+        assertThat(properties.excludes("/service-7/public")).isFalse();
+        assertThat(properties.excludes("/service-200/health")).isFalse();
+    }
 }
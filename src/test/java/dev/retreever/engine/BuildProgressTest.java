@@ -0,0 +1,40 @@
+package dev.retreever.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BuildProgressTest {
+
+    @Test
+    void stagesStartAtTheirShareOfTheOverallProgress() {
+        BuildProgress progress = new BuildProgress();
+        assertThat(progress.getStage()).isEqualTo(BuildProgress.Stage.QUEUED);
+        assertThat(progress.getPercent()).isZero();
+
+        progress.stage(BuildProgress.Stage.SCHEMAS);
+        assertThat(progress.getPercent()).isEqualTo(10);
+
+        progress.stage(BuildProgress.Stage.RENDERING);
+        assertThat(progress.getStage().id()).isEqualTo("rendering");
+        assertThat(progress.getPercent()).isEqualTo(80);
+    }
+
+    @Test
+    void itemsAdvanceWithinTheStageAndResetOnTheNextOne() {
+        BuildProgress progress = new BuildProgress();
+        progress.stage(BuildProgress.Stage.SCHEMAS);
+        progress.total(4);
+
+        progress.advance();
+        assertThat(progress.getPercent()).isEqualTo(25);
+        progress.advance();
+        progress.advance();
+        progress.advance();
+        progress.advance();
+        assertThat(progress.getPercent()).isEqualTo(70);
+
+        progress.stage(BuildProgress.Stage.ENDPOINTS);
+        assertThat(progress.getPercent()).isEqualTo(70);
+    }
+}
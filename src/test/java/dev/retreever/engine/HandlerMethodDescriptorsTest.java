@@ -0,0 +1,224 @@
+package dev.retreever.engine;
+
+import dev.retreever.config.RetreeverDocumentationExclusionProperties;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.ApiGroup;
+import dev.retreever.endpoint.resolver.ApiEndpointResolver;
+import dev.retreever.group.resolver.ApiGroupResolver;
+import dev.retreever.repo.ApiHeaderRegistry;
+import dev.retreever.repo.SchemaRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StringValueResolver;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HandlerMethodDescriptorsTest {
+
+    private final SchemaRegistry registry = SchemaRegistry.getInstance();
+    private final AtomicInteger resolutions = new AtomicInteger();
+    private final StringValueResolver valueResolver = value -> {
+        resolutions.incrementAndGet();
+        return value.replace("/shipments", "/api/shipments");
+    };
+    private List<String> previousBasePackages;
+
+    @BeforeEach
+    void setUp() {
+        previousBasePackages = SchemaConfig.getBasePackages();
+        SchemaConfig.init(List.of("dev.retreever.engine", "java.util"));
+        registry.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.clear();
+        SchemaConfig.init(previousBasePackages);
+    }
+
+    @Test
+    void describesOnlyDocumentedMethodsWithResolvedPaths() {
+        HandlerMethodDescriptors descriptors = new HandlerMethodDescriptors(valueResolver);
+
+        List<HandlerMethodDescriptor> methods = descriptors.of(ShipmentController.class);
+
+        assertThat(methods)
+                .extracting(HandlerMethodDescriptor::getHttpMethod, HandlerMethodDescriptor::getPath)
+                .containsExactlyInAnyOrder(
+                        tuple("GET", "/api/shipments/{id}"),
+                        tuple("POST", "/api/shipments/")
+                );
+        HandlerMethodDescriptor create = methods.stream()
+                .filter(method -> "POST".equals(method.getHttpMethod()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(create.getBodyTypes()).containsExactly(ShipmentPayload.class);
+        assertThat(create.getId()).isEqualTo(DocumentIds.endpointId(create.getMethod()));
+        assertThat(descriptors.of(ViewController.class)).isEmpty();
+    }
+
+    @Test
+    void stagesShareOneReadOfEachHandlerMethod() {
+        HandlerMethodDescriptors descriptors = new HandlerMethodDescriptors(valueResolver);
+        RetreeverDocumentationExclusionProperties exclusions = new RetreeverDocumentationExclusionProperties();
+
+        new SchemaResolutionOrchestrator(registry, exclusions, 1, null, descriptors)
+                .resolveAllSchema(HandlerMethodDescriptorsTest.class, Set.of(ShipmentController.class), Set.of());
+        int afterSchemas = resolutions.get();
+        ApiGroup group = new ApiGroupResolver(
+                new ApiEndpointResolver(ApiHeaderRegistry.init(List.of()), valueResolver),
+                exclusions,
+                descriptors
+        ).resolve(ShipmentController.class);
+
+        assertThat(afterSchemas).isPositive();
+        assertThat(resolutions.get()).isEqualTo(afterSchemas);
+        assertThat(group.getEndpoints())
+                .extracting(ApiEndpoint::getPath)
+                .containsExactlyInAnyOrder("/api/shipments/{id}", "/api/shipments/");
+        assertThat(registry.getSchemas()).containsKey(ShipmentPayload.class.getTypeName());
+
+        descriptors.clear();
+        descriptors.of(ShipmentController.class);
+        assertThat(resolutions.get()).isEqualTo(afterSchemas * 2);
+    }
+
+    @Test
+    void controllersSharingABaseClassGetDistinctIdsAndTheirOwnTypes() throws NoSuchMethodException {
+        Method get = CatalogController.class.getDeclaredMethod("get");
+        Method create = CatalogController.class.getDeclaredMethod("create", Object.class);
+        Map<Class<?>, Map<Method, RequestMappingInfo>> routes = new LinkedHashMap<>();
+        routes.put(CarController.class, routes("/cars", get, create));
+        routes.put(BoatController.class, routes("/boats", get, create));
+        HandlerMethodDescriptors descriptors = new HandlerMethodDescriptors(valueResolver);
+        descriptors.reset(new RequestMappingIndex(routes));
+
+        List<HandlerMethodDescriptor> cars = descriptors.of(CarController.class);
+        List<HandlerMethodDescriptor> boats = descriptors.of(BoatController.class);
+
+        assertThat(cars).extracting(HandlerMethodDescriptor::getId)
+                .doesNotContainAnyElementsOf(boats.stream().map(HandlerMethodDescriptor::getId).toList());
+        assertThat(cars).extracting(HandlerMethodDescriptor::getReturnType).containsExactly(CarPayload.class, void.class);
+        assertThat(boats).extracting(HandlerMethodDescriptor::getReturnType).containsExactly(BoatPayload.class, void.class);
+        assertThat(cars.get(1).getBodyTypes()).containsExactly(CarPayload.class);
+        assertThat(boats.get(1).getBodyTypes()).containsExactly(BoatPayload.class);
+        assertThat(descriptors.of(ShipmentController.class)).isEmpty();
+        assertThat(DocumentIds.endpointId(ShipmentController.class, ShipmentController.class.getDeclaredMethod("get")))
+                .isEqualTo(DocumentIds.endpointId(ShipmentController.class.getDeclaredMethod("get")));
+    }
+
+    @Test
+    void lazyResolutionUsesTheTypesOfTheRoutingController() throws NoSuchMethodException {
+        Method get = CatalogController.class.getDeclaredMethod("get");
+        Method create = CatalogController.class.getDeclaredMethod("create", Object.class);
+        Map<Class<?>, Map<Method, RequestMappingInfo>> routes = new LinkedHashMap<>();
+        routes.put(CarController.class, routes("/cars", get, create));
+        routes.put(BoatController.class, routes("/boats", get, create));
+        HandlerMethodDescriptors descriptors = new HandlerMethodDescriptors(valueResolver);
+        descriptors.reset(new RequestMappingIndex(routes));
+        RetreeverDocumentationExclusionProperties exclusions = new RetreeverDocumentationExclusionProperties();
+        SchemaResolutionOrchestrator schemaResolution = new SchemaResolutionOrchestrator(registry, exclusions, 1, null, descriptors);
+        ApiGroupResolver groupResolver = new ApiGroupResolver(
+                new ApiEndpointResolver(ApiHeaderRegistry.init(List.of()), valueResolver),
+                exclusions,
+                descriptors
+        );
+
+        schemaResolution.resolveAdviceSchemas(Set.of());
+        assertThat(registry.getSchemas()).isEmpty();
+
+        ApiGroup cars = groupResolver.resolve(CarController.class);
+        ApiGroup boats = groupResolver.resolve(BoatController.class);
+        cars.getEndpoints().forEach(schemaResolution::resolveEndpointSchemas);
+        boats.getEndpoints().forEach(schemaResolution::resolveEndpointSchemas);
+
+        assertThat(registry.getSchemas()).containsOnlyKeys(CarPayload.class.getTypeName(), BoatPayload.class.getTypeName());
+        assertThat(cars.getEndpoints()).extracting(ApiEndpoint::getResponseBodyType).contains(CarPayload.class);
+        assertThat(boats.getEndpoints()).extracting(ApiEndpoint::getResponseBodyType).contains(BoatPayload.class);
+    }
+
+    private static Map<Method, RequestMappingInfo> routes(String path, Method get, Method create) {
+        Map<Method, RequestMappingInfo> routes = new LinkedHashMap<>();
+        routes.put(get, RequestMappingInfo.paths(path + "/{id}").methods(RequestMethod.GET).build());
+        routes.put(create, RequestMappingInfo.paths(path).methods(RequestMethod.POST).build());
+        return routes;
+    }
+
+    @RestController
+    @RequestMapping("/shipments")
+    static class ShipmentController {
+
+        @GetMapping("/{id}")
+        ShipmentPayload get() {
+            return null;
+        }
+
+        @PostMapping
+        void create(@RequestBody ShipmentPayload payload) {
+        }
+
+        void helper() {
+        }
+    }
+
+    @Controller
+    static class ViewController {
+
+        @GetMapping("/view")
+        String view() {
+            return "view";
+        }
+    }
+
+    static class ShipmentPayload {
+        public String reference;
+    }
+
+    abstract static class CatalogController<T> {
+
+        @GetMapping("/{id}")
+        T get() {
+            return null;
+        }
+
+        @PostMapping
+        void create(@RequestBody T item) {
+        }
+    }
+
+    @RestController
+    @RequestMapping("/cars")
+    static class CarController extends CatalogController<CarPayload> {
+    }
+
+    @RestController
+    @RequestMapping("/boats")
+    static class BoatController extends CatalogController<BoatPayload> {
+    }
+
+    static class CarPayload {
+        public String plate;
+    }
+
+    static class BoatPayload {
+        public String hull;
+    }
+}
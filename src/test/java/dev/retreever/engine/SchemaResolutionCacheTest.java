@@ -0,0 +1,156 @@
+package dev.retreever.engine;
+
+import dev.retreever.config.RetreeverDocumentationExclusionProperties;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.schema.model.Schema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaResolutionCacheTest {
+
+    private static final String TICKET_PAYLOAD = TicketPayload.class.getTypeName();
+
+    private final SchemaRegistry registry = SchemaRegistry.getInstance();
+    private List<String> previousBasePackages;
+
+    @BeforeEach
+    void setUp() {
+        previousBasePackages = SchemaConfig.getBasePackages();
+        SchemaConfig.init(List.of("dev.retreever.engine", "java.util"));
+        registry.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.clear();
+        SchemaConfig.init(previousBasePackages);
+    }
+
+    @Test
+    void unchangedControllerReusesCachedSchemas() {
+        SchemaResolutionCache cache = new SchemaResolutionCache();
+
+        resolve(cache, TicketController.class);
+        Schema first = registry.getSchemas().get(TICKET_PAYLOAD);
+        resolve(cache, TicketController.class);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(registry.getSchemas().get(TICKET_PAYLOAD)).isSameAs(first);
+        assertThat(registry.getReachedClasses(TicketPayload.class)).contains(TicketPayload.class, TicketStatus.class);
+    }
+
+    @Test
+    void reloadedControllerWithSameBytecodeReusesCachedSchemas() throws Exception {
+        SchemaResolutionCache cache = new SchemaResolutionCache();
+        resolve(cache, TicketController.class);
+        Schema first = registry.getSchemas().get(TICKET_PAYLOAD);
+
+        Class<?> reloaded = new ReloadingClassLoader().loadClass(TicketController.class.getName());
+        assertThat(reloaded).isNotSameAs(TicketController.class);
+        resolve(cache, reloaded);
+
+        assertThat(registry.getSchemas().get(TICKET_PAYLOAD)).isSameAs(first);
+        assertThat(registry.getReachedClasses(TicketPayload.class))
+                .allSatisfy(type -> assertThat(type.getClassLoader()).isSameAs(reloaded.getClassLoader()));
+    }
+
+    @Test
+    void changedConfigurationDropsCachedSchemas() {
+        SchemaResolutionCache cache = new SchemaResolutionCache();
+        cache.configure("a");
+        resolve(cache, TicketController.class);
+        Schema first = registry.getSchemas().get(TICKET_PAYLOAD);
+
+        cache.configure("b");
+        assertThat(cache.size()).isZero();
+        resolve(cache, TicketController.class);
+
+        assertThat(registry.getSchemas().get(TICKET_PAYLOAD)).isNotSameAs(first);
+    }
+
+    @Test
+    void fingerprintCoversReachedClasses() {
+        byte[] tickets = SchemaResolutionCache.fingerprint(TicketController.class, Set.of(TicketPayload.class));
+
+        assertThat(SchemaResolutionCache.fingerprint(TicketController.class, Set.of(TicketPayload.class)))
+                .isEqualTo(tickets);
+        assertThat(SchemaResolutionCache.fingerprint(TicketController.class, Set.of(TicketPayload.class, TicketStatus.class)))
+                .isNotEqualTo(tickets);
+    }
+
+    private void resolve(SchemaResolutionCache cache, Class<?> controller) {
+        new SchemaResolutionOrchestrator(
+                registry,
+                new RetreeverDocumentationExclusionProperties(),
+                null,
+                1,
+                cache
+        ).resolveAllSchema(SchemaResolutionCacheTest.class, Set.of(controller), Set.of());
+    }
+
+    /**
+     * Loads the fixtures of this test again from the same bytecode, the way the DevTools
+     * restart class loader reloads application classes.
+     */
+    private static final class ReloadingClassLoader extends ClassLoader {
+
+        private ReloadingClassLoader() {
+            super(SchemaResolutionCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(SchemaResolutionCacheTest.class.getName() + "$Ticket")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException ex) {
+                        throw new ClassNotFoundException(name, ex);
+                    }
+                }
+                return loaded;
+            }
+        }
+    }
+
+    @RestController
+    static class TicketController {
+
+        @GetMapping("/tickets")
+        TicketPayload get() {
+            return null;
+        }
+
+        @PostMapping("/tickets")
+        void create(@RequestBody TicketPayload payload) {
+        }
+    }
+
+    static class TicketPayload {
+        public String title;
+        public TicketStatus status;
+    }
+
+    enum TicketStatus {
+        OPEN,
+        CLOSED
+    }
+}
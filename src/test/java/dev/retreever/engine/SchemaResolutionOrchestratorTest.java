@@ -0,0 +1,150 @@
+package dev.retreever.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.retreever.auth.RetreeverAuthProperties;
+import dev.retreever.config.RetreeverBuildProperties;
+import dev.retreever.config.RetreeverDocumentationExclusionProperties;
+import dev.retreever.config.RetreeverStudioProperties;
+import dev.retreever.config.SchemaConfig;
+import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaResolutionOrchestratorTest {
+
+    private final SchemaRegistry registry = SchemaRegistry.getInstance();
+    private List<String> previousBasePackages;
+
+    @BeforeEach
+    void setUp() {
+        previousBasePackages = SchemaConfig.getBasePackages();
+        SchemaConfig.init(List.of("dev.retreever.engine", "java.util"));
+        registry.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.clear();
+        SchemaConfig.init(previousBasePackages);
+    }
+
+    @Test
+    void parallelResolutionRegistersSameSchemasAsSequentialResolution() throws Exception {
+        Set<Class<?>> controllers = Set.of(OrderController.class, ProductController.class, CustomerController.class);
+
+        resolve(1, controllers);
+        List<String> sequential = new ArrayList<>(registry.getSchemas().keySet());
+        String sequentialDocument = document(1, controllers);
+
+        for (int i = 0; i < 5; i++) {
+            registry.clear();
+            resolve(4, controllers);
+
+            assertThat(registry.getSchemas().keySet()).containsExactlyElementsOf(sequential);
+            assertThat(document(4, controllers)).isEqualTo(sequentialDocument);
+        }
+        assertThat(sequential).contains(
+                "org.springframework.http.ResponseEntity<dev.retreever.engine.SchemaResolutionOrchestratorTest$OrderPayload>",
+                "dev.retreever.engine.SchemaResolutionOrchestratorTest$ProductPayload",
+                "dev.retreever.engine.SchemaResolutionOrchestratorTest$CustomerPayload"
+        );
+        assertThat(sequentialDocument).contains("/orders", "/products", "/customers", "price", "lastOrder");
+    }
+
+    @Test
+    void parallelResolutionPropagatesResolutionFailures() {
+        RetreeverDocumentationExclusionProperties exclusions = new RetreeverDocumentationExclusionProperties();
+        exclusions.setSkip(List.of("regex:["));
+        SchemaResolutionOrchestrator orchestrator = new SchemaResolutionOrchestrator(registry, exclusions, null, 4);
+
+        assertThatThrownBy(() -> orchestrator.resolveAllSchema(
+                SchemaResolutionOrchestratorTest.class,
+                Set.of(OrderController.class, ProductController.class),
+                Set.of()
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void resolve(int parallelism, Set<Class<?>> controllers) {
+        new SchemaResolutionOrchestrator(
+                registry,
+                new RetreeverDocumentationExclusionProperties(),
+                null,
+                parallelism
+        ).resolveAllSchema(SchemaResolutionOrchestratorTest.class, controllers, Set.of());
+    }
+
+    private String document(int parallelism, Set<Class<?>> controllers) throws Exception {
+        RetreeverBuildProperties buildProperties = new RetreeverBuildProperties();
+        buildProperties.setParallelism(parallelism);
+        ApiDocument document = new RetreeverOrchestrator(
+                List.of("dev.retreever.engine", "java.util"),
+                List.of(),
+                new RetreeverDocumentationExclusionProperties(),
+                new RetreeverAuthProperties(),
+                null,
+                new RetreeverStudioProperties(),
+                null,
+                buildProperties,
+                null
+        ).build(SchemaResolutionOrchestratorTest.class, controllers, Set.of());
+
+        // The build time is the only part of the document allowed to differ
+        return new ObjectMapper().writeValueAsString(document.groups());
+    }
+
+    @RestController
+    static class OrderController {
+
+        @GetMapping("/orders")
+        ResponseEntity<OrderPayload> order() {
+            return null;
+        }
+    }
+
+    @RestController
+    static class ProductController {
+
+        @PostMapping("/products")
+        ProductPayload create(@RequestBody ProductPayload payload) {
+            return payload;
+        }
+    }
+
+    @RestController
+    static class CustomerController {
+
+        @GetMapping("/customers")
+        CustomerPayload customer() {
+            return null;
+        }
+    }
+
+    static class OrderPayload {
+        private String id;
+        private List<ProductPayload> products;
+    }
+
+    static class ProductPayload {
+        private String name;
+        private Double price;
+    }
+
+    static class CustomerPayload {
+        private String email;
+        private OrderPayload lastOrder;
+    }
+}
@@ -0,0 +1,143 @@
+package dev.retreever.schema.resolver;
+
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.ValueSchema;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectSchemaCacheTest {
+
+    @BeforeEach
+    void setUp() {
+        SchemaResolver.clearCache();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SchemaResolver.clearCache();
+    }
+
+    @Test
+    void reusesSchemaInstanceForSharedDto() {
+        ObjectSchema first = resolve(OrderPayload.class);
+        ObjectSchema second = resolve(InvoicePayload.class);
+
+        Schema fromOrder = first.getProperties().get("customer").getValue();
+        Schema fromInvoice = second.getProperties().get("customer").getValue();
+
+        assertThat(fromOrder).isInstanceOf(ObjectSchema.class);
+        assertThat(fromOrder).isSameAs(fromInvoice);
+    }
+
+    @Test
+    void keysGenericDtosByTheirBoundTypeArguments() {
+        ObjectSchema schema = resolve(EnvelopePair.class);
+
+        ObjectSchema customerEnvelope = (ObjectSchema) schema.getProperties().get("customer").getValue();
+        ObjectSchema orderEnvelope = (ObjectSchema) schema.getProperties().get("order").getValue();
+
+        assertThat(customerEnvelope).isNotSameAs(orderEnvelope);
+        assertThat(((ObjectSchema) customerEnvelope.getProperties().get("data").getValue()).getProperties())
+                .containsKeys("email");
+        assertThat(((ObjectSchema) orderEnvelope.getProperties().get("data").getValue()).getProperties())
+                .containsKeys("customer", "total");
+    }
+
+    @Test
+    void selfContainedCyclesAreReusedFromOtherEntryPoints() {
+        ObjectSchema node = resolve(TreeNode.class);
+        ArraySchema children = (ArraySchema) node.getProperties().get("children").getValue();
+
+        assertThat(children.getElementSchema()).isInstanceOf(ValueSchema.class);
+
+        ObjectSchema holder = resolve(TreeHolder.class);
+        ObjectSchema root = (ObjectSchema) holder.getProperties().get("root").getValue();
+        ArraySchema nested = (ArraySchema) root.getProperties().get("children").getValue();
+
+        assertThat(root).isSameAs(node);
+        assertThat(nested.getElementSchema()).isInstanceOf(ValueSchema.class);
+    }
+
+    @Test
+    void clearingTheCacheDropsSharedInstances() {
+        Schema first = resolve(CustomerPayload.class);
+        SchemaResolver.clearCache();
+        Schema second = resolve(CustomerPayload.class);
+
+        assertThat(first).isNotSameAs(second);
+    }
+
+    @Test
+    void resolutionsWithTheirOwnCacheDoNotShareInstances() {
+        ObjectSchemaCache firstBuild = new ObjectSchemaCache();
+        ObjectSchemaCache secondBuild = new ObjectSchemaCache();
+
+        Schema first = SchemaResolver.initResolution(CustomerPayload.class, null, firstBuild);
+        Schema second = SchemaResolver.initResolution(CustomerPayload.class, null, secondBuild);
+        secondBuild.clear();
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(SchemaResolver.initResolution(CustomerPayload.class, null, firstBuild)).isSameAs(first);
+        assertThat(firstBuild.size()).isEqualTo(1);
+        assertThat(resolve(CustomerPayload.class)).isNotSameAs(first);
+    }
+
+    @Test
+    void reachedClassesIncludeMemoizedSubtrees() {
+        resolve(OrderPayload.class);
+
+        Set<Class<?>> cachedRoot = new LinkedHashSet<>();
+        SchemaResolver.initResolution(OrderPayload.class, cachedRoot);
+        assertThat(cachedRoot).containsExactlyInAnyOrder(OrderPayload.class, CustomerPayload.class);
+
+        Set<Class<?>> generic = new LinkedHashSet<>();
+        SchemaResolver.initResolution(EnvelopePair.class, generic);
+        assertThat(generic).containsExactlyInAnyOrder(
+                EnvelopePair.class, Envelope.class, CustomerPayload.class, OrderPayload.class);
+    }
+
+    private ObjectSchema resolve(Class<?> type) {
+        return (ObjectSchema) SchemaResolver.initResolution(type);
+    }
+
+    static class CustomerPayload {
+        private String email;
+    }
+
+    static class OrderPayload {
+        private CustomerPayload customer;
+        private Double total;
+    }
+
+    static class InvoicePayload {
+        private CustomerPayload customer;
+        private String number;
+    }
+
+    static class Envelope<T> {
+        private T data;
+    }
+
+    static class EnvelopePair {
+        private Envelope<CustomerPayload> customer;
+        private Envelope<OrderPayload> order;
+    }
+
+    static class TreeNode {
+        private String label;
+        private List<TreeNode> children;
+    }
+
+    static class TreeHolder {
+        private TreeNode root;
+    }
+}
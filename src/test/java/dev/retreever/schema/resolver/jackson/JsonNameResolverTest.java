@@ -6,11 +6,17 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.json.RetreeverJsonMappers;
 import dev.retreever.schema.model.ObjectSchema;
 import dev.retreever.schema.resolver.SchemaResolver;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -68,6 +74,19 @@ class JsonNameResolverTest {
         }
     }
 
+    @Test
+    void mapperConfigurationDescriptionFollowsNamingStrategyAndMixIns() {
+        String plain = RetreeverJsonMappers.wrap(new ObjectMapper()).describeConfiguration();
+
+        assertThat(RetreeverJsonMappers.wrap(new ObjectMapper()).describeConfiguration()).isEqualTo(plain);
+        assertThat(RetreeverJsonMappers.wrap(new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)).describeConfiguration())
+                .isNotEqualTo(plain);
+        assertThat(RetreeverJsonMappers.wrap(new ObjectMapper()
+                .addMixIn(AllCapsPayload.class, ExplicitJsonPropertyPayload.class)).describeConfiguration())
+                .isNotEqualTo(plain);
+    }
+
     @Test
     void ignoresPropertiesByResolvedJsonName() {
         ObjectSchema schema = resolve(IgnoredJsonNamePayload.class);
@@ -77,6 +96,30 @@ class JsonNameResolverTest {
                 .doesNotContain("otp");
     }
 
+    @Test
+    void introspectsEachDeclaringClassOnceUntilReconfigured() throws NoSuchFieldException {
+        CountingMapper countingMapper = new CountingMapper(RetreeverJsonMappers.wrap(new ObjectMapper()));
+        Field otp = ExplicitJsonPropertyPayload.class.getDeclaredField("OTP");
+        Field userOtp = SnakeCasePayload.class.getDeclaredField("userOTP");
+
+        JsonNameResolver.configure(countingMapper);
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertThat(JsonNameResolver.resolveJsonPropertyName(otp, ExplicitJsonPropertyPayload.class, "OTP"))
+                        .isEqualTo("otp_code");
+                assertThat(JsonNameResolver.resolveJsonPropertyName(userOtp, SnakeCasePayload.class, "userOTP"))
+                        .isEqualTo("user_otp");
+            }
+            assertThat(countingMapper.introspections.get()).isEqualTo(2);
+
+            JsonNameResolver.configure(countingMapper);
+            JsonNameResolver.resolveJsonPropertyName(otp, ExplicitJsonPropertyPayload.class, "OTP");
+            assertThat(countingMapper.introspections.get()).isEqualTo(3);
+        } finally {
+            JsonNameResolver.configure(new ObjectMapper());
+        }
+    }
+
     private ObjectSchema resolve(Class<?> type) {
         return (ObjectSchema) SchemaResolver.initResolution(type);
     }
@@ -139,4 +182,41 @@ class JsonNameResolverTest {
             return userOTP;
         }
     }
+
+    static class CountingMapper implements RetreeverJsonMapper {
+
+        private final RetreeverJsonMapper delegate;
+        private final AtomicInteger introspections = new AtomicInteger();
+
+        CountingMapper(RetreeverJsonMapper delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public RetreeverJsonMapper copyWithNonNullInclusion() {
+            return delegate.copyWithNonNullInclusion();
+        }
+
+        @Override
+        public byte[] writeValueAsBytes(Object value) throws IOException {
+            return delegate.writeValueAsBytes(value);
+        }
+
+        @Override
+        public <T> T readValue(byte[] value, Class<T> type) throws IOException {
+            return delegate.readValue(value, type);
+        }
+
+        @Override
+        public String resolvePropertyName(Field field, Class<?> declaringClass) {
+            introspections.incrementAndGet();
+            return delegate.resolvePropertyName(field, declaringClass);
+        }
+
+        @Override
+        public Map<Field, String> resolvePropertyNames(Class<?> declaringClass, Collection<Field> fields) {
+            introspections.incrementAndGet();
+            return delegate.resolvePropertyNames(declaringClass, fields);
+        }
+    }
 }
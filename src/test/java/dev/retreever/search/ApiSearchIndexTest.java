@@ -0,0 +1,77 @@
+package dev.retreever.search;
+
+import dev.retreever.view.dto.ApiSearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiSearchIndexTest {
+
+    private final ApiSearchIndex index = ApiSearchIndex.builder()
+            .endpoint("e1", "g1", "Orders", "Create order", "POST", "/orders", false)
+            .add(ApiSearchIndex.Field.PROPERTY, "shippingAddress")
+            .add(ApiSearchIndex.Field.DESCRIPTION, "Places a new order for the customer")
+            .endpoint("e2", "g1", "Orders", "List orders", "GET", "/orders/{customerId}", false)
+            .add(ApiSearchIndex.Field.PARAMETER, "customerId")
+            .endpoint("e3", "g2", "Users", "Get user", "GET", "/users/{userId}", true)
+            .add(ApiSearchIndex.Field.ERROR_CODE, "USER_NOT_FOUND")
+            .build();
+
+    @Test
+    void tokenizerSplitsWordsAndCamelCase() {
+        assertThat(ApiSearchIndex.Tokenizer.tokenize("/users/{userId}/HTMLReport"))
+                .containsExactly("users", "userid", "user", "id", "htmlreport", "html", "report");
+        assertThat(ApiSearchIndex.Tokenizer.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void prefixMatchesAreRankedBelowExactMatchesAndNamesAboveDescriptions() {
+        ApiSearchResult result = index.search("order", 10);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).extracting(ApiSearchResult.Hit::id).containsExactly("e1", "e2");
+        assertThat(result.hits().get(0).matched()).contains("name", "path", "description");
+        assertThat(result.hits().get(0).score()).isGreaterThan(result.hits().get(1).score());
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        assertThat(ids(index.search("orders customer", 10))).containsExactlyInAnyOrder("e1", "e2");
+        assertThat(ids(index.search("get cust", 10))).containsExactly("e2");
+        assertThat(ids(index.search("ship addr", 10))).containsExactly("e1");
+        assertThat(ids(index.search("user_not", 10))).containsExactly("e3");
+        assertThat(index.search("orders nothing", 10).total()).isZero();
+    }
+
+    @Test
+    void limitCutsHitsButNotTotal() {
+        ApiSearchResult result = index.search("get", 1);
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.hits()).hasSize(1);
+        assertThat(index.search("   ", 10).hits()).isEmpty();
+    }
+
+    @Test
+    void binaryFormRestoresTheSameIndex() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+
+        ApiSearchIndex restored = ApiSearchIndex.read(buffer);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(restored.termCount()).isEqualTo(index.termCount());
+        assertThat(restored.search("orders customer", 10)).isEqualTo(index.search("orders customer", 10));
+        assertThat(restored.search("user", 10)).isEqualTo(index.search("user", 10));
+    }
+
+    private static List<String> ids(ApiSearchResult result) {
+        return result.hits().stream().map(ApiSearchResult.Hit::id).toList();
+    }
+}
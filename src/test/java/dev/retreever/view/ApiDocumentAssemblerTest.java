@@ -0,0 +1,94 @@
+package dev.retreever.view;
+
+import dev.retreever.auth.RetreeverAuthProperties;
+import dev.retreever.auth.RetreeverAuthenticationService;
+import dev.retreever.config.RetreeverStudioProperties;
+import dev.retreever.endpoint.model.ApiEndpoint;
+import dev.retreever.endpoint.model.ApiError;
+import dev.retreever.repo.ApiErrorRegistry;
+import dev.retreever.repo.SchemaRegistry;
+import dev.retreever.schema.model.JsonPropertyType;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.ValueSchema;
+import dev.retreever.view.dto.ApiDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ApiDocumentAssemblerTest {
+
+    private static final ApiDocumentAssembler ASSEMBLER = new ApiDocumentAssembler(
+            SchemaRegistry.getInstance(),
+            ApiErrorRegistry.getInstance(),
+            new RetreeverAuthenticationService(new RetreeverAuthProperties(), List.of()),
+            new RetreeverStudioProperties()
+    );
+
+    @BeforeAll
+    static void registerTypes() {
+        ObjectSchema payload = new ObjectSchema();
+        payload.addProperty(new Property("message", JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.STRING)));
+
+        SchemaRegistry.getInstance().register(MemoPayload.class, payload);
+        ApiErrorRegistry.getInstance().register(
+                ApiError.create(HttpStatus.CONFLICT, "Memo conflict", MemoException.class)
+                        .setErrorBodyType(MemoPayload.class)
+        );
+    }
+
+    @Test
+    void sharesRenderedErrorsAndSchemasWithinOneBuild() {
+        ApiDocumentAssembler build = ASSEMBLER.forBuild();
+
+        ApiDocument.Endpoint first = build.assembleEndpoint(endpoint("/memo/first"));
+        ApiDocument.Endpoint second = build.assembleEndpoint(endpoint("/memo/second"));
+
+        assertThat(first.response()).isNotNull().isSameAs(second.response());
+        assertThat(first.request()).isNotNull().isSameAs(second.request());
+        assertThat(first.request()).isNotSameAs(first.response());
+        assertThat(first.errors()).hasSize(1);
+        assertThat(first.errors().get(0)).isSameAs(second.errors().get(0));
+        assertThat(first.errors().get(0).response()).isSameAs(first.response());
+    }
+
+    @Test
+    void rendersAgainForEachBuild() {
+        ApiDocument.Endpoint first = ASSEMBLER.forBuild().assembleEndpoint(endpoint("/memo/first"));
+        ApiDocument.Endpoint second = ASSEMBLER.forBuild().assembleEndpoint(endpoint("/memo/first"));
+
+        assertThat(first.response()).isNotSameAs(second.response()).isEqualTo(second.response());
+        assertThat(first.errors().get(0)).isNotSameAs(second.errors().get(0));
+    }
+
+    @Test
+    void sharedViewsAreReadOnly() {
+        ApiDocument.Endpoint endpoint = ASSEMBLER.forBuild().assembleEndpoint(endpoint("/memo/first"));
+
+        assertThatThrownBy(() -> endpoint.response().put("model", null))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static ApiEndpoint endpoint(String path) {
+        ApiEndpoint endpoint = new ApiEndpoint();
+        endpoint.setPath(path);
+        endpoint.setHttpMethod("POST");
+        endpoint.setStatus(HttpStatus.OK);
+        endpoint.setRequestBodyType(MemoPayload.class);
+        endpoint.setResponseBodyType(MemoPayload.class);
+        endpoint.addErrorType(MemoException.class);
+        return endpoint;
+    }
+
+    static class MemoPayload {
+        private String message;
+    }
+
+    static class MemoException extends RuntimeException {
+    }
+}
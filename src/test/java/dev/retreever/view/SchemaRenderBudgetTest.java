@@ -0,0 +1,78 @@
+package dev.retreever.view;
+
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.JsonPropertyType;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.ValueSchema;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaRenderBudgetTest {
+
+    @Test
+    void unlimitedBudgetPlansNoStubs() {
+        assertThat(SchemaRenderBudget.of(0, 0).isUnlimited()).isTrue();
+        assertThat(SchemaRenderBudget.unlimited().plan(chain(10), "scope", (token, schema) -> {
+        })).isEmpty();
+    }
+
+    @Test
+    void stubsContainersBelowTheMaximumDepth() {
+        Map<String, Schema> registered = new LinkedHashMap<>();
+        Map<String, String> stubs = SchemaRenderBudget.of(3, 0).plan(chain(6), "scope", registered::put);
+
+        assertThat(stubs).containsOnlyKeys("next.next.next");
+        assertThat(registered).containsOnlyKeys(stubs.get("next.next.next"));
+
+        Map<String, Object> view = SchemaViewRenderer.renderRequest(chain(6), stubs);
+        assertThat(view.get(SchemaViewRenderer.MODEL_KEY).toString())
+                .endsWith("next={value=string, next={$expand=" + stubs.get("next.next.next") + "}}}}");
+    }
+
+    @Test
+    void nodeBudgetKeepsShallowLevelsAndStubsWhatNoLongerFits() {
+        ObjectSchema wide = new ObjectSchema();
+        for (int i = 0; i < 5; i++) {
+            wide.addProperty(new Property("field" + i, JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.STRING)));
+        }
+        ObjectSchema root = new ObjectSchema();
+        root.addProperty(new Property("id", JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.STRING)));
+        root.addProperty(new Property("wide", JsonPropertyType.OBJECT, wide));
+        root.addProperty(new Property("list", JsonPropertyType.ARRAY, new ArraySchema(wide)));
+
+        Map<String, String> stubs = SchemaRenderBudget.of(0, 9).plan(root, "scope", (token, schema) -> {
+        });
+
+        // 3 root entries, 5 for "wide" and 1 for "list" fit; the list element does not.
+        assertThat(stubs).containsOnlyKeys("list[0]");
+    }
+
+    @Test
+    void tokensDependOnScopeAndPathOnly() {
+        Map<String, String> first = SchemaRenderBudget.of(2, 0).plan(chain(4), "a", (token, schema) -> {
+        });
+        Map<String, String> again = SchemaRenderBudget.of(2, 0).plan(chain(4), "a", (token, schema) -> {
+        });
+        Map<String, String> other = SchemaRenderBudget.of(2, 0).plan(chain(4), "b", (token, schema) -> {
+        });
+
+        assertThat(again).isEqualTo(first);
+        assertThat(other.get("next.next")).isNotEqualTo(first.get("next.next"));
+        assertThat(first.get("next.next")).matches("[0-9a-f]{16}");
+    }
+
+    private static ObjectSchema chain(int depth) {
+        ObjectSchema node = new ObjectSchema();
+        node.addProperty(new Property("value", JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.STRING)));
+        if (depth > 1) {
+            node.addProperty(new Property("next", JsonPropertyType.OBJECT, chain(depth - 1)));
+        }
+        return node;
+    }
+}
@@ -0,0 +1,126 @@
+package dev.retreever.view;
+
+import dev.retreever.json.RetreeverJsonGenerator;
+import dev.retreever.json.RetreeverJsonMapper;
+import dev.retreever.json.RetreeverJsonMappers;
+import dev.retreever.schema.model.ArraySchema;
+import dev.retreever.schema.model.JsonPropertyType;
+import dev.retreever.schema.model.MapSchema;
+import dev.retreever.schema.model.ObjectSchema;
+import dev.retreever.schema.model.Property;
+import dev.retreever.schema.model.Schema;
+import dev.retreever.schema.model.ValueSchema;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaViewWriterTest {
+
+    private final RetreeverJsonMapper jsonMapper = RetreeverJsonMappers.defaultMapper();
+
+    @Test
+    void streamsTheSameJsonAsTheRenderedView() throws IOException {
+        ObjectSchema address = new ObjectSchema();
+        address.addProperty(property("street", JsonPropertyType.STRING).required());
+        address.addProperty(property("zip", JsonPropertyType.STRING).example("10115"));
+
+        Property amount = property("amount", JsonPropertyType.NUMBER).example("12.5");
+        amount.addConstraint("min=0");
+        amount.description("Total amount");
+
+        ObjectSchema order = new ObjectSchema();
+        order.addProperty(property("id", JsonPropertyType.UUID));
+        order.addProperty(amount);
+        order.addProperty(property("paid", JsonPropertyType.BOOLEAN).example("true"));
+        order.addProperty(property("invalid", JsonPropertyType.NUMBER).example("n/a"));
+        order.addProperty(property("deletedAt", JsonPropertyType.NULL));
+        order.addProperty(new Property("address", JsonPropertyType.OBJECT, address));
+        order.addProperty(new Property("tags", JsonPropertyType.ARRAY,
+                new ArraySchema(new ValueSchema(JsonPropertyType.STRING))));
+        order.addProperty(new Property("holes", JsonPropertyType.ARRAY,
+                new ArraySchema(new ValueSchema(JsonPropertyType.NULL))));
+        order.addProperty(new Property("lines", JsonPropertyType.ARRAY, new ArraySchema(address)));
+        order.addProperty(new Property("attributes", JsonPropertyType.MAP,
+                new MapSchema(JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.NUMBER))));
+        order.addProperty(new Property("unknown", JsonPropertyType.MAP,
+                new MapSchema(JsonPropertyType.STRING, new ValueSchema(JsonPropertyType.NULL))));
+        order.addProperty(new Property("raw", JsonPropertyType.OBJECT, new ValueSchema(JsonPropertyType.OBJECT)));
+        order.addProperty(new Property("count", JsonPropertyType.NUMBER, new ValueSchema(JsonPropertyType.NUMBER))
+                .example(42L));
+
+        assertSameJson(order);
+        assertSameJson(new ArraySchema(order));
+        assertSameJson(new MapSchema(JsonPropertyType.STRING, order));
+        assertSameJson(new ValueSchema(JsonPropertyType.DATE_TIME));
+        assertSameJson(new ObjectSchema());
+    }
+
+    @Test
+    void streamsTheSameStubsAsTheRenderedView() throws IOException {
+        ObjectSchema leaf = new ObjectSchema();
+        leaf.addProperty(property("code", JsonPropertyType.STRING));
+
+        ObjectSchema middle = new ObjectSchema();
+        middle.addProperty(new Property("leaf", JsonPropertyType.OBJECT, leaf));
+        middle.addProperty(new Property("leaves", JsonPropertyType.ARRAY, new ArraySchema(leaf)));
+        middle.addProperty(new Property("byName", JsonPropertyType.MAP,
+                new MapSchema(JsonPropertyType.STRING, leaf)));
+
+        ObjectSchema root = new ObjectSchema();
+        root.addProperty(property("id", JsonPropertyType.UUID));
+        root.addProperty(new Property("middle", JsonPropertyType.OBJECT, middle));
+        root.addProperty(new Property("items", JsonPropertyType.ARRAY, new ArraySchema(middle)));
+
+        for (SchemaRenderBudget budget : new SchemaRenderBudget[]{
+                SchemaRenderBudget.of(2, 0), SchemaRenderBudget.of(0, 4), SchemaRenderBudget.of(0, 1)}) {
+            Map<String, String> stubs = budget.plan(root, "test", (token, subtree) -> {
+            });
+            assertThat(stubs).isNotEmpty();
+            assertThat(stream(root, stubs, true))
+                    .isEqualTo(json(SchemaViewRenderer.renderRequest(root, stubs)));
+            assertThat(stream(root, stubs, false))
+                    .isEqualTo(json(SchemaViewRenderer.renderResponse(root, stubs)));
+        }
+    }
+
+    @Test
+    void writesAnEmptyViewForMissingSchemas() throws IOException {
+        assertSameJson(null);
+    }
+
+    private void assertSameJson(Schema schema) throws IOException {
+        assertThat(stream(schema, true))
+                .isEqualTo(json(SchemaViewRenderer.renderRequest(schema)));
+        assertThat(stream(schema, false))
+                .isEqualTo(json(SchemaViewRenderer.renderResponse(schema)));
+    }
+
+    private String stream(Schema schema, boolean request) throws IOException {
+        return stream(schema, Map.of(), request);
+    }
+
+    private String stream(Schema schema, Map<String, String> stubs, boolean request) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RetreeverJsonGenerator generator = jsonMapper.createGenerator(out)) {
+            if (request) {
+                SchemaViewWriter.writeRequest(schema, stubs, generator);
+            } else {
+                SchemaViewWriter.writeResponse(schema, stubs, generator);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private String json(Object value) throws IOException {
+        return new String(jsonMapper.writeValueAsBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private static Property property(String name, JsonPropertyType type) {
+        return new Property(name, type, new ValueSchema(type));
+    }
+}